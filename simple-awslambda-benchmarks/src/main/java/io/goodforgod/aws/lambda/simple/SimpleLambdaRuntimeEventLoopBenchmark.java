@@ -0,0 +1,104 @@
+package io.goodforgod.aws.lambda.simple;
+
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverterFactory;
+import io.goodforgod.aws.lambda.simple.handler.impl.InputEventHandler;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClientConfig;
+import io.goodforgod.aws.lambda.simple.mock.HelloWorldLambda;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import io.goodforgod.aws.lambda.simple.testing.AwsRuntimeApiEmulator;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Full {@link SimpleLambdaRuntimeEventLoop} iterations against in-process {@link AwsRuntimeApiEmulator}:
+ * next invocation request, event handling and invocation response over loopback HTTP
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimpleLambdaRuntimeEventLoopBenchmark {
+
+    private static final int INVOCATIONS = 100;
+
+    private static final class CountingLoopCondition implements AwsRuntimeLoopCondition {
+
+        private int remaining = 0;
+
+        @Override
+        public boolean continueLoop() {
+            return remaining-- > 0;
+        }
+    }
+
+    /**
+     * Replaces default beans, so loop runs for exact number of invocations
+     */
+    private static final class BenchmarkRuntimeContext extends SimpleRuntimeContext {
+
+        private BenchmarkRuntimeContext(Consumer<SimpleRuntimeContext> setupInRuntime,
+                                        Consumer<SimpleRuntimeContext> setupInCompileTime) {
+            super(setupInRuntime, setupInCompileTime);
+        }
+
+        @Override
+        protected Consumer<SimpleRuntimeContext> getRuntimeConsumer() {
+            return context -> {};
+        }
+
+        @Override
+        protected Consumer<SimpleRuntimeContext> getCompileTimeConsumer() {
+            return context -> {};
+        }
+    }
+
+    private final SimpleLambdaRuntimeEventLoop eventLoop = new SimpleLambdaRuntimeEventLoop();
+    private final CountingLoopCondition loopCondition = new CountingLoopCondition();
+
+    private AwsRuntimeApiEmulator emulator;
+    private SimpleRuntimeContext runtimeContext;
+    private long invocations = 0;
+
+    @Setup
+    public void setup() {
+        final byte[] event = "{\"name\":\"Steeven King\"}".getBytes(StandardCharsets.UTF_8);
+        this.emulator = AwsRuntimeApiEmulator.builder()
+                .events(invocation -> event)
+                .build();
+
+        this.runtimeContext = new BenchmarkRuntimeContext(
+                context -> context.registerBean(emulator.getRuntimeClient(new NativeHttpClient(NativeHttpClientConfig.ofRuntime()))),
+                context -> {
+                    final Converter converter = new GsonConverterFactory().build();
+                    context.registerBean(converter);
+                    context.registerBean(new InputEventHandler(converter));
+                    context.registerBean(new HelloWorldLambda());
+                    context.registerBean(loopCondition);
+                });
+    }
+
+    @TearDown
+    public void cleanup() {
+        emulator.close();
+        if (emulator.getErrors() != 0 || emulator.getResponses() != invocations) {
+            throw new IllegalStateException("Expected " + invocations + " successful invocations, but was: " + emulator);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(INVOCATIONS)
+    public void invocation() {
+        loopCondition.remaining = INVOCATIONS;
+        invocations += INVOCATIONS;
+        eventLoop.execute(runtimeContext, InputEventHandler.QUALIFIER);
+    }
+}
@@ -0,0 +1,99 @@
+package io.goodforgod.aws.lambda.simple.capture;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverterFactory;
+import io.goodforgod.aws.lambda.simple.handler.EventHandler;
+import io.goodforgod.aws.lambda.simple.handler.impl.InputEventHandler;
+import io.goodforgod.aws.lambda.simple.mock.BenchmarkContext;
+import io.goodforgod.aws.lambda.simple.mock.BenchmarkEvent;
+import io.goodforgod.aws.lambda.simple.mock.HelloWorldLambda;
+import io.goodforgod.aws.lambda.simple.reactive.PublisherUtils;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Replays events captured by {@link EventCapture} through {@link InputEventHandler}, so conversion
+ * overhead is measured on production payloads instead of synthetic ones.
+ * <p>
+ * Bundled capture is used by default, own capture file or exported function logs can be specified
+ * with {@code -p capture=/path/to/events.jsonl}, events are converted to
+ * {@link io.goodforgod.aws.lambda.simple.mock.Request} by {@link HelloWorldLambda}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CapturedEventBenchmark {
+
+    private static final String BUNDLED_CAPTURE = "/fixtures/captured.jsonl";
+
+    @Param({ "" })
+    public String capture;
+
+    private final HelloWorldLambda lambda = new HelloWorldLambda();
+    private final Context context = new BenchmarkContext("8476a536-e9f4-11e8-9739-2dfe598c3fcd");
+
+    private Converter converter;
+    private EventHandler eventHandler;
+    private byte[][] events;
+    private int next = 0;
+
+    @Setup
+    public void setup() {
+        this.converter = new GsonConverterFactory().build();
+        this.eventHandler = new InputEventHandler(converter);
+        this.eventHandler.warmup(lambda);
+
+        final List<CapturedEvent> captured = (capture == null || capture.isEmpty())
+                ? readBundled()
+                : CapturedEvent.read(Path.of(capture));
+        if (captured.isEmpty()) {
+            throw new IllegalStateException("No captured events found in: " + capture);
+        }
+
+        this.events = captured.stream()
+                .map(CapturedEvent::event)
+                .toArray(byte[][]::new);
+    }
+
+    private static List<CapturedEvent> readBundled() {
+        try (InputStream stream = Objects.requireNonNull(CapturedEventBenchmark.class.getResourceAsStream(BUNDLED_CAPTURE));
+                BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            return reader.lines()
+                    .map(CapturedEvent::parse)
+                    .filter(Objects::nonNull)
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Benchmark
+    public byte[] replay() {
+        final byte[] event = events[next];
+        next = (next + 1 == events.length)
+                ? 0
+                : next + 1;
+        try {
+            return PublisherUtils.asBytes(eventHandler.handle(new BenchmarkEvent(new ByteArrayInputStream(event), context), lambda));
+        } finally {
+            converter.release();
+        }
+    }
+}
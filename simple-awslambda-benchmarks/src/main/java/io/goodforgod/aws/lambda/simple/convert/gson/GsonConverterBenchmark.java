@@ -0,0 +1,53 @@
+package io.goodforgod.aws.lambda.simple.convert.gson;
+
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.mock.Fixture;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Decoding and encoding of AWS events with {@link GsonConverter} as it is configured by runtime,
+ * converter is released after each operation same as after each invocation in event loop
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GsonConverterBenchmark {
+
+    @Param
+    public Fixture fixture;
+
+    private Converter converter;
+    private String json;
+    private Class<?> type;
+    private Object event;
+
+    @Setup
+    public void setup() {
+        this.converter = new GsonConverterFactory().build();
+        this.json = fixture.asString();
+        this.type = fixture.type();
+        this.converter.warmup(type);
+        this.event = converter.fromString(json, type);
+    }
+
+    @Benchmark
+    public Object decode() {
+        try {
+            return converter.fromString(json, type);
+        } finally {
+            converter.release();
+        }
+    }
+
+    @Benchmark
+    public String encode() {
+        return converter.toString(event);
+    }
+}
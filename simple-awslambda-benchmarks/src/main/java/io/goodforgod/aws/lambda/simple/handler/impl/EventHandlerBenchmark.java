@@ -0,0 +1,72 @@
+package io.goodforgod.aws.lambda.simple.handler.impl;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverterFactory;
+import io.goodforgod.aws.lambda.simple.handler.EventHandler;
+import io.goodforgod.aws.lambda.simple.mock.BenchmarkContext;
+import io.goodforgod.aws.lambda.simple.mock.BenchmarkEvent;
+import io.goodforgod.aws.lambda.simple.mock.Fixture;
+import io.goodforgod.aws.lambda.simple.mock.HelloWorldLambda;
+import io.goodforgod.aws.lambda.simple.reactive.PublisherUtils;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * {@link InputEventHandler} and {@link BodyEventHandler} handling end to end: input conversion,
+ * handler invocation, output conversion and response body collection, without Runtime API
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventHandlerBenchmark {
+
+    private final HelloWorldLambda lambda = new HelloWorldLambda();
+    private final Context context = new BenchmarkContext("8476a536-e9f4-11e8-9739-2dfe598c3fcd");
+
+    private Converter converter;
+    private EventHandler inputEventHandler;
+    private EventHandler bodyEventHandler;
+    private byte[] inputEvent;
+    private byte[] bodyEvent;
+
+    @Setup
+    public void setup() {
+        this.converter = new GsonConverterFactory().build();
+        this.inputEventHandler = new InputEventHandler(converter);
+        this.inputEventHandler.warmup(lambda);
+        this.bodyEventHandler = new BodyEventHandler(converter);
+        this.bodyEventHandler.warmup(lambda);
+
+        this.inputEvent = "{\"name\":\"Steeven King\"}".getBytes(StandardCharsets.UTF_8);
+        this.bodyEvent = Fixture.APIGATEWAY_V2_HTTP.asBytes();
+    }
+
+    @Benchmark
+    public byte[] inputEvent() {
+        try {
+            return PublisherUtils.asBytes(inputEventHandler.handle(
+                    new BenchmarkEvent(new ByteArrayInputStream(inputEvent), context), lambda));
+        } finally {
+            converter.release();
+        }
+    }
+
+    @Benchmark
+    public byte[] bodyEvent() {
+        try {
+            return PublisherUtils.asBytes(bodyEventHandler.handle(
+                    new BenchmarkEvent(new ByteArrayInputStream(bodyEvent), context), lambda));
+        } finally {
+            converter.release();
+        }
+    }
+}
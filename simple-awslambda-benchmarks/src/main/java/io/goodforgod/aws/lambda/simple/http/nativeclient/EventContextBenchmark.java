@@ -0,0 +1,87 @@
+package io.goodforgod.aws.lambda.simple.http.nativeclient;
+
+import io.goodforgod.aws.lambda.simple.config.AwsRuntimeVariables;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpResponse;
+import io.goodforgod.http.common.HttpHeaders;
+import io.goodforgod.http.common.HttpStatus;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Creation of {@link EventContext} from Runtime API next invocation response and its accessors used
+ * by handlers on each invocation
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventContextBenchmark {
+
+    private record HeadersResponse(HttpHeaders headers) implements SimpleHttpResponse {
+
+        @Override
+        public @NotNull HttpStatus status() {
+            return HttpStatus.OK;
+        }
+
+        @Override
+        public @NotNull InputStream body() {
+            return InputStream.nullInputStream();
+        }
+
+        @Override
+        public String bodyAsString(@NotNull Charset charset) {
+            return "";
+        }
+    }
+
+    private SimpleHttpResponse response;
+    private EventContext context;
+
+    @Setup
+    public void setup() {
+        this.response = new HeadersResponse(HttpHeaders.ofMultiMap(Map.of(
+                AwsRuntimeVariables.LAMBDA_RUNTIME_AWS_REQUEST_ID, List.of("8476a536-e9f4-11e8-9739-2dfe598c3fcd"),
+                AwsRuntimeVariables.LAMBDA_RUNTIME_INVOKED_FUNCTION_ARN,
+                List.of("arn:aws:lambda:us-east-2:123456789012:function:custom-runtime"),
+                AwsRuntimeVariables.LAMBDA_RUNTIME_DEADLINE_MS, List.of(String.valueOf(System.currentTimeMillis() + 900_000)),
+                AwsRuntimeVariables.LAMBDA_RUNTIME_TRACE_ID,
+                List.of("Root=1-5bef4de7-ad49b0e87f6ef6c87fc2e700;Parent=9a9197af755a6419;Sampled=1"))));
+        this.context = new EventContext(response);
+    }
+
+    @Benchmark
+    public EventContext fromResponse() {
+        return new EventContext(response);
+    }
+
+    @Benchmark
+    public String awsRequestId() {
+        return context.getAwsRequestId();
+    }
+
+    @Benchmark
+    public String invokedFunctionArn() {
+        return context.getInvokedFunctionArn();
+    }
+
+    @Benchmark
+    public int remainingTimeInMillis() {
+        return context.getRemainingTimeInMillis();
+    }
+
+    @Benchmark
+    public String functionName() {
+        return context.getFunctionName();
+    }
+}
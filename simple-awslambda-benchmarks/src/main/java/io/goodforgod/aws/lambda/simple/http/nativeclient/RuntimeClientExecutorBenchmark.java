@@ -0,0 +1,69 @@
+package io.goodforgod.aws.lambda.simple.http.nativeclient;
+
+import io.goodforgod.aws.lambda.simple.handler.Event;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpBody;
+import io.goodforgod.aws.lambda.simple.testing.AwsRuntimeApiEmulator;
+import io.goodforgod.aws.lambda.simple.utils.InputStreamUtils;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Runtime API round trip ({@code getNextEvent} and {@code reportInvocationSuccess}) against
+ * in-process {@link AwsRuntimeApiEmulator} for each {@link NativeHttpClientConfig.ExecutorMode}, that
+ * is critical path latency of event loop without handler
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RuntimeClientExecutorBenchmark {
+
+    @Param
+    public NativeHttpClientConfig.ExecutorMode executorMode;
+
+    private AwsRuntimeApiEmulator emulator;
+    private NativeHttpClient httpClient;
+    private SimpleAwsRuntimeClient runtimeClient;
+    private URI endpoint;
+    private SimpleHttpBody response;
+
+    @Setup
+    public void setup() {
+        final byte[] event = "{\"name\":\"Steeven King\"}".getBytes(StandardCharsets.UTF_8);
+        this.emulator = AwsRuntimeApiEmulator.builder()
+                .events(invocation -> event)
+                .build();
+        this.httpClient = new NativeHttpClient(NativeHttpClientConfig.builder()
+                .executorMode(executorMode)
+                .version(HttpClient.Version.HTTP_1_1)
+                .build());
+        this.runtimeClient = emulator.getRuntimeClient(httpClient);
+        this.endpoint = runtimeClient.getAwsRuntimeApi();
+        this.response = SimpleHttpBody.ofString("{\"message\":\"Hello - Steeven King\"}");
+    }
+
+    @TearDown
+    public void cleanup() {
+        httpClient.close();
+        emulator.close();
+        if (emulator.getErrors() != 0) {
+            throw new IllegalStateException("Expected only successful invocations, but was: " + emulator);
+        }
+    }
+
+    @Benchmark
+    public byte[] roundTrip() {
+        final Event event = runtimeClient.getNextEvent(endpoint);
+        final byte[] input = InputStreamUtils.getBytesFromInputStream(event.input());
+        runtimeClient.reportInvocationSuccess(endpoint, response, event.context());
+        return input;
+    }
+}
@@ -0,0 +1,11 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import io.goodforgod.aws.lambda.simple.handler.Event;
+import java.io.InputStream;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public record BenchmarkEvent(InputStream input, Context context) implements Event {}
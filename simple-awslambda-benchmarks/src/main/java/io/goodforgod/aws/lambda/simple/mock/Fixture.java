@@ -0,0 +1,51 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import io.goodforgod.aws.lambda.events.gateway.APIGatewayProxyEvent;
+import io.goodforgod.aws.lambda.events.gateway.APIGatewayV2HTTPEvent;
+import io.goodforgod.aws.lambda.events.system.LoadBalancerRequest;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * AWS event samples as they are delivered by Runtime API, bundled as resources so benchmarks run
+ * offline
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public enum Fixture {
+
+    APIGATEWAY_V2_HTTP("apigateway-v2-http.json", APIGatewayV2HTTPEvent.class),
+    APIGATEWAY_V1_PROXY("apigateway-v1-proxy.json", APIGatewayProxyEvent.class),
+    ALB_REQUEST("alb-request.json", LoadBalancerRequest.class);
+
+    private final String resource;
+    private final Class<?> type;
+
+    Fixture(String resource, Class<?> type) {
+        this.resource = resource;
+        this.type = type;
+    }
+
+    public Class<?> type() {
+        return type;
+    }
+
+    public byte[] asBytes() {
+        try (InputStream stream = Fixture.class.getResourceAsStream("/fixtures/" + resource)) {
+            if (stream == null) {
+                throw new IllegalStateException("Fixture resource not found: " + resource);
+            }
+
+            return stream.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public String asString() {
+        return new String(asBytes(), StandardCharsets.UTF_8);
+    }
+}
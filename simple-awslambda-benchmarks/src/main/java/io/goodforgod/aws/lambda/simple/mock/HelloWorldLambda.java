@@ -0,0 +1,18 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+
+/**
+ * Handler with negligible work, so benchmarks measure runtime overhead around it
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class HelloWorldLambda implements RequestHandler<Request, Response> {
+
+    @Override
+    public Response handleRequest(Request request, Context context) {
+        return new Response("Hello - " + request.name());
+    }
+}
@@ -0,0 +1,9 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+/**
+ * Handler which type arguments are declared by superclass
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class InheritedHelloWorldLambda extends HelloWorldLambda {}
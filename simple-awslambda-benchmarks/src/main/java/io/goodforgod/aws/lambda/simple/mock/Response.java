@@ -0,0 +1,7 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public record Response(String message) {}
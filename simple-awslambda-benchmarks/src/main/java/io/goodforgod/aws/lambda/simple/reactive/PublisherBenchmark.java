@@ -0,0 +1,61 @@
+package io.goodforgod.aws.lambda.simple.reactive;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Publishing in-memory response body and collecting it with {@link PublisherUtils}, which is how
+ * response body travels from {@link io.goodforgod.aws.lambda.simple.handler.EventHandler} to HTTP
+ * client
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PublisherBenchmark {
+
+    private static final int SLICES = 8;
+
+    @Param({ "128", "16384", "1048576" })
+    public int size;
+
+    private byte[] bytes;
+    private String string;
+    private ByteBuffer[] buffers;
+
+    @Setup
+    public void setup() {
+        this.bytes = new byte[size];
+        Arrays.fill(bytes, (byte) 'a');
+        this.string = new String(bytes, StandardCharsets.UTF_8);
+
+        this.buffers = new ByteBuffer[SLICES];
+        final int slice = size / SLICES;
+        for (int i = 0; i < SLICES; i++) {
+            buffers[i] = ByteBuffer.wrap(bytes, i * slice, slice);
+        }
+    }
+
+    @Benchmark
+    public byte[] bytesAsBytes() {
+        return PublisherUtils.asBytes(InMemoryPublisher.ofBytes(bytes));
+    }
+
+    @Benchmark
+    public String stringAsString() {
+        return PublisherUtils.asString(InMemoryPublisher.ofString(string));
+    }
+
+    @Benchmark
+    public byte[] buffersAsBytes() {
+        return PublisherUtils.asBytes(InMemoryPublisher.ofBuffers(buffers));
+    }
+}
@@ -0,0 +1,32 @@
+package io.goodforgod.aws.lambda.simple.utils;
+
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import io.goodforgod.aws.lambda.simple.mock.HelloWorldLambda;
+import io.goodforgod.aws.lambda.simple.mock.InheritedHelloWorldLambda;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Resolution of {@link RequestHandler} input and output types
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReflectionUtilsBenchmark {
+
+    @Benchmark
+    public Class[] resolveDeclared() {
+        return ReflectionUtils.resolveInterfaceTypeArguments(HelloWorldLambda.class, RequestHandler.class);
+    }
+
+    @Benchmark
+    public Class[] resolveInherited() {
+        return ReflectionUtils.resolveInterfaceTypeArguments(InheritedHelloWorldLambda.class, RequestHandler.class);
+    }
+}
@@ -1,6 +1,7 @@
 package io.goodforgod.aws.lambda.simple.micronaut.bean;
 
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
 import io.goodforgod.aws.lambda.simple.http.nativeclient.SimpleAwsRuntimeClient;
 import io.micronaut.context.annotation.Secondary;
 import io.micronaut.core.annotation.Introspected;
@@ -19,7 +20,7 @@
 class MicronautAwsRuntimeClient extends SimpleAwsRuntimeClient {
 
     @Inject
-    MicronautAwsRuntimeClient(SimpleHttpClient httpClient) {
+    MicronautAwsRuntimeClient(@Named(NativeHttpClient.QUALIFIER) SimpleHttpClient httpClient) {
         super(httpClient);
     }
 }
@@ -1,6 +1,7 @@
 package io.goodforgod.aws.lambda.simple.micronaut.bean;
 
 import com.google.gson.Gson;
+import io.goodforgod.aws.lambda.simple.convert.gson.CanonicalStringTypeAdapter;
 import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverter;
 import io.goodforgod.gson.configuration.GsonConfiguration;
 import io.micronaut.context.annotation.ConfigurationBuilder;
@@ -19,6 +20,9 @@
 class MicronautGsonConfiguration {
 
     private boolean enabled = true;
+    private boolean canonicalStrings = false;
+    private int canonicalStringsTableSize = CanonicalStringTypeAdapter.DEFAULT_TABLE_SIZE;
+    private int canonicalStringsMaxLength = CanonicalStringTypeAdapter.DEFAULT_MAX_LENGTH;
 
     @ConfigurationBuilder
     private final GsonConfiguration configuration = new GsonConfiguration();
@@ -34,4 +38,28 @@ public boolean isEnabled() {
     void setEnabled(boolean enabled) {
         this.enabled = enabled;
     }
+
+    public boolean isCanonicalStrings() {
+        return canonicalStrings;
+    }
+
+    void setCanonicalStrings(boolean canonicalStrings) {
+        this.canonicalStrings = canonicalStrings;
+    }
+
+    public int getCanonicalStringsTableSize() {
+        return canonicalStringsTableSize;
+    }
+
+    void setCanonicalStringsTableSize(int canonicalStringsTableSize) {
+        this.canonicalStringsTableSize = canonicalStringsTableSize;
+    }
+
+    public int getCanonicalStringsMaxLength() {
+        return canonicalStringsMaxLength;
+    }
+
+    void setCanonicalStringsMaxLength(int canonicalStringsMaxLength) {
+        this.canonicalStringsMaxLength = canonicalStringsMaxLength;
+    }
 }
@@ -3,8 +3,9 @@
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import io.goodforgod.aws.lambda.simple.convert.Converter;
-import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverter;
+import io.goodforgod.aws.lambda.simple.convert.gson.CanonicalStringTypeAdapter;
 import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverterFactory;
+import io.goodforgod.aws.lambda.simple.convert.gson.RecyclingInstancePool;
 import io.micronaut.context.annotation.Bean;
 import io.micronaut.context.annotation.Factory;
 import io.micronaut.context.annotation.Requires;
@@ -14,9 +15,13 @@
 import jakarta.inject.Named;
 import jakarta.inject.Singleton;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Factory for {@link Gson} that is used in Micronaut DI.
+ * <p>
+ * If {@link RecyclingInstancePool} bean is present, converter is configured with it and its
+ * instances are released after each invocation by event loop, same as in simple runtime context.
  *
  * @author Anton Kurako (GoodforGod)
  * @since 14.08.2021
@@ -29,7 +34,12 @@ class MicronautGsonFactory extends GsonConverterFactory {
     private final MicronautGsonConfiguration gsonConfiguration;
 
     @Inject
-    MicronautGsonFactory(MicronautGsonConfiguration gsonConfiguration) {
+    MicronautGsonFactory(MicronautGsonConfiguration gsonConfiguration, @Nullable RecyclingInstancePool instancePool) {
+        super(gsonConfiguration.isCanonicalStrings()
+                ? new CanonicalStringTypeAdapter(gsonConfiguration.getCanonicalStringsTableSize(),
+                        gsonConfiguration.getCanonicalStringsMaxLength())
+                : null,
+                instancePool);
         this.gsonConfiguration = gsonConfiguration;
     }
 
@@ -40,6 +50,6 @@ class MicronautGsonFactory extends GsonConverterFactory {
     @Override
     public @NotNull Converter build() {
         final GsonBuilder builder = registerAdapters(gsonConfiguration.getConfiguration().builder());
-        return new GsonConverter(builder.create());
+        return createConverter(builder.create());
     }
 }
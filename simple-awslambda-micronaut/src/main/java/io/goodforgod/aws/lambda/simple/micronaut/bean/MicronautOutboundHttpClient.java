@@ -0,0 +1,25 @@
+package io.goodforgod.aws.lambda.simple.micronaut.bean;
+
+import io.goodforgod.aws.lambda.simple.http.nativeclient.OutboundHttpClient;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.context.annotation.Secondary;
+import io.micronaut.core.annotation.Introspected;
+import jakarta.inject.Named;
+import jakarta.inject.Singleton;
+
+/**
+ * Exposed only as {@link OutboundHttpClient} with {@link OutboundHttpClient#QUALIFIER}, same as in
+ * {@link io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext}, so unqualified
+ * {@link io.goodforgod.aws.lambda.simple.http.SimpleHttpClient} and
+ * {@link io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient} injection points are
+ * resolved to runtime client without ambiguity
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Introspected
+@Named(OutboundHttpClient.QUALIFIER)
+@Bean(typed = OutboundHttpClient.class)
+@Secondary
+@Singleton
+class MicronautOutboundHttpClient extends OutboundHttpClient {}
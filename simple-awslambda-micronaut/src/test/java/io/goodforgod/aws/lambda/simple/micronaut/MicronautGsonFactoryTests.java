@@ -0,0 +1,31 @@
+package io.goodforgod.aws.lambda.simple.micronaut;
+
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.convert.gson.RecyclingInstancePool;
+import io.goodforgod.aws.lambda.simple.micronaut.mock.Pooled;
+import io.micronaut.context.ApplicationContext;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class MicronautGsonFactoryTests extends Assertions {
+
+    @Test
+    void instancePoolWiredIntoConverter() {
+        try (ApplicationContext context = ApplicationContext.run()) {
+            final Converter converter = context.getBean(Converter.class);
+            final RecyclingInstancePool pool = context.getBean(RecyclingInstancePool.class);
+
+            final Pooled first = converter.fromString("{\"name\":\"Bob\"}", Pooled.class);
+            converter.release();
+            final Pooled second = converter.fromString("{}", Pooled.class);
+
+            assertSame(first, second);
+            assertNull(second.getName());
+            assertEquals(1, pool.getReused());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package io.goodforgod.aws.lambda.simple.micronaut;
+
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.OutboundHttpClient;
+import io.goodforgod.aws.lambda.simple.micronaut.mock.HttpClients;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.inject.qualifiers.Qualifiers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class MicronautHttpClientTests extends Assertions {
+
+    @Test
+    void unqualifiedClientsInjectedAsRuntimeClient() {
+        try (ApplicationContext context = ApplicationContext.run()) {
+            final HttpClients clients = context.getBean(HttpClients.class);
+            final NativeHttpClient runtimeClient = context.getBean(NativeHttpClient.class, Qualifiers.byName(NativeHttpClient.QUALIFIER));
+
+            assertSame(runtimeClient, clients.simpleHttpClient());
+            assertSame(runtimeClient, clients.nativeHttpClient());
+            assertFalse(clients.nativeHttpClient() instanceof OutboundHttpClient);
+            assertNotSame(runtimeClient, clients.outboundHttpClient());
+        }
+    }
+
+    @Test
+    void outboundClientInjectedByQualifier() {
+        try (ApplicationContext context = ApplicationContext.run()) {
+            final OutboundHttpClient outboundHttpClient = context.getBean(OutboundHttpClient.class,
+                    Qualifiers.byName(OutboundHttpClient.QUALIFIER));
+            assertSame(outboundHttpClient, context.getBean(HttpClients.class).outboundHttpClient());
+            assertFalse(context.findBean(SimpleHttpClient.class, Qualifiers.byName(OutboundHttpClient.QUALIFIER)).isPresent());
+            assertFalse(context.findBean(NativeHttpClient.class, Qualifiers.byName(OutboundHttpClient.QUALIFIER)).isPresent());
+        }
+    }
+}
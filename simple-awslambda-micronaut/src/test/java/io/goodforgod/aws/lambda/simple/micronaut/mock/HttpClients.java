@@ -0,0 +1,41 @@
+package io.goodforgod.aws.lambda.simple.micronaut.mock;
+
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.OutboundHttpClient;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Singleton
+public class HttpClients {
+
+    private final SimpleHttpClient simpleHttpClient;
+    private final NativeHttpClient nativeHttpClient;
+    private final OutboundHttpClient outboundHttpClient;
+
+    @Inject
+    public HttpClients(SimpleHttpClient simpleHttpClient,
+                       NativeHttpClient nativeHttpClient,
+                       @Named(OutboundHttpClient.QUALIFIER) OutboundHttpClient outboundHttpClient) {
+        this.simpleHttpClient = simpleHttpClient;
+        this.nativeHttpClient = nativeHttpClient;
+        this.outboundHttpClient = outboundHttpClient;
+    }
+
+    public SimpleHttpClient simpleHttpClient() {
+        return simpleHttpClient;
+    }
+
+    public NativeHttpClient nativeHttpClient() {
+        return nativeHttpClient;
+    }
+
+    public OutboundHttpClient outboundHttpClient() {
+        return outboundHttpClient;
+    }
+}
@@ -0,0 +1,18 @@
+package io.goodforgod.aws.lambda.simple.micronaut.mock;
+
+import io.goodforgod.aws.lambda.simple.convert.gson.RecyclingInstancePool;
+import io.micronaut.context.annotation.Factory;
+import javax.inject.Singleton;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Factory
+public class InstancePoolFactory {
+
+    @Singleton
+    public RecyclingInstancePool instancePool() {
+        return new RecyclingInstancePool().recycle(Pooled.class);
+    }
+}
@@ -0,0 +1,14 @@
+package io.goodforgod.aws.lambda.simple.micronaut.mock;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class Pooled {
+
+    private String name;
+
+    public String getName() {
+        return name;
+    }
+}
@@ -2,8 +2,8 @@
 
 import io.goodforgod.aws.lambda.simple.handler.EventHandler;
 import io.goodforgod.aws.lambda.simple.handler.impl.InputEventHandler;
+import io.goodforgod.aws.lambda.simple.metrics.InitTimeline;
 import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
-import io.goodforgod.aws.lambda.simple.utils.TimeUtils;
 import java.util.Objects;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
@@ -23,12 +23,11 @@ public abstract class AbstractLambdaEntrypoint {
     private final RuntimeContext runtimeContext;
 
     protected AbstractLambdaEntrypoint() {
-        final long contextStart = TimeUtils.getTime();
+        InitTimeline.begin();
+        final InitTimeline.Span initSpan = InitTimeline.start(InitTimeline.INITIALIZE_RUNTIME_CONTEXT);
         this.runtimeContext = initializeRuntimeContext();
         this.eventLoop = getLambdaRuntimeEventLoop();
-        if (logger.isInfoEnabled()) {
-            logger.info("RuntimeContext compile time initialization took: {} millis", TimeUtils.timeTook(contextStart));
-        }
+        initSpan.end();
     }
 
     public final void run(String[] args) {
@@ -1,17 +1,31 @@
 package io.goodforgod.aws.lambda.simple;
 
+import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import io.goodforgod.aws.lambda.simple.capture.EventCapture;
 import io.goodforgod.aws.lambda.simple.config.AwsContextVariables;
+import io.goodforgod.aws.lambda.simple.convert.Converter;
 import io.goodforgod.aws.lambda.simple.handler.Event;
 import io.goodforgod.aws.lambda.simple.handler.EventHandler;
 import io.goodforgod.aws.lambda.simple.http.*;
 import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
 import io.goodforgod.aws.lambda.simple.http.nativeclient.SimpleAwsRuntimeClient;
+import io.goodforgod.aws.lambda.simple.metrics.InitTimeline;
+import io.goodforgod.aws.lambda.simple.metrics.InvocationMetrics;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer;
+import io.goodforgod.aws.lambda.simple.metrics.jfr.InvocationEvent;
 import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
-import io.goodforgod.aws.lambda.simple.utils.TimeUtils;
+import io.goodforgod.aws.lambda.simple.utils.InputStreamUtils;
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URI;
+import java.net.http.HttpRequest;
 import java.nio.ByteBuffer;
 import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.TimeUnit;
 import org.jetbrains.annotations.NotNull;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -31,11 +45,17 @@ final class SimpleLambdaRuntimeEventLoop {
      * @param eventHandlerQualifier to use for implementation injection
      */
     void execute(@NotNull RuntimeContext runtimeContext, @NotNull String eventHandlerQualifier) {
+        final long initStart = System.nanoTime();
+        final InitTimeline.Span loggerSpan = InitTimeline.start(InitTimeline.LOGGER_REFRESH);
         SimpleLoggerRefresher.refresh();
+        loggerSpan.end();
 
-        final long contextStart = TimeUtils.getTime();
+        InvocationMetrics metrics = InvocationMetrics.noop();
+        EventCapture capture = null;
         try (final RuntimeContext context = runtimeContext) {
+            final InitTimeline.Span setupSpan = InitTimeline.start(InitTimeline.SETUP_IN_RUNTIME);
             context.setupInRuntime();
+            setupSpan.end();
 
             final AwsRuntimeClient awsRuntimeClient = context.getBean(AwsRuntimeClient.class);
             if (awsRuntimeClient == null) {
@@ -44,48 +64,234 @@ void execute(@NotNull RuntimeContext runtimeContext, @NotNull String eventHandle
 
             final URI awsRuntimeApiEndpoint = awsRuntimeClient.getAwsRuntimeApi();
             logger.debug("AWS Runtime API Endpoint URI: {}", awsRuntimeApiEndpoint);
-            if (logger.isInfoEnabled()) {
-                logger.info("RuntimeContext runtime initialization took: {} millis", TimeUtils.timeTook(contextStart));
+
+            final InitTimeline.Span handlerSpan = InitTimeline.start(InitTimeline.HANDLER_RESOLUTION);
+            final Object initHandler = getHandler(context);
+            final EventHandler initEventHandler = getEventHandler(context, eventHandlerQualifier);
+            handlerSpan.end();
+            if (initHandler instanceof RequestHandler requestHandler) {
+                // types warmed up in compile time are skipped by converter
+                final InitTimeline.Span warmupSpan = InitTimeline.start(InitTimeline.WARMUP);
+                try {
+                    initEventHandler.warmup(requestHandler);
+                } catch (Exception e) {
+                    logger.debug("Warmup for '{}' failed: {}", requestHandler.getClass().getName(), e.getMessage());
+                } finally {
+                    warmupSpan.end();
+                }
             }
 
+            final Converter converter = context.getBean(Converter.class);
             final AwsRuntimeLoopCondition loopCondition = runtimeContext.getBean(AwsRuntimeLoopCondition.class);
-            while (loopCondition.continueLoop()) {
-                final EventHandler eventHandler = context.getBean(EventHandler.class, eventHandlerQualifier);
-                if (eventHandler == null) {
-                    throw new IllegalStateException("EventHandler bean for qualifier '" + eventHandlerQualifier + "' not found!");
-                }
+            final InvocationMetrics metricsBean = context.getBean(InvocationMetrics.class);
+            if (metricsBean != null) {
+                metrics = metricsBean;
+            }
+            capture = context.getBean(EventCapture.class);
 
-                final String handlerName = System.getenv(AwsContextVariables.HANDLER);
-                RequestHandler requestHandler = context.getBean(RequestHandler.class, handlerName);
-                if (requestHandler == null) {
-                    logger.debug("RequestHandler bean for qualifier '{}' not found, looking without qualifier...", handlerName);
-                    requestHandler = context.getBean(RequestHandler.class);
-                }
+            // payload is counted only when metrics are registered or recorded, so noop runtime doesn't wrap input
+            final boolean metricsRegistered = metricsBean != null;
+            final PhaseTimer timer = new PhaseTimer(metrics.isResourceTracking());
+            boolean coldStart = true;
+            while (loopCondition.continueLoop()) {
+                final EventHandler eventHandler = getEventHandler(context, eventHandlerQualifier);
+                final Object handler = getHandler(context);
 
-                if (requestHandler == null) {
-                    throw new IllegalStateException("RequestHandler bean for qualifier '" + handlerName + "' not found!");
+                timer.reset();
+                if (coldStart) {
+                    timer.setColdStart(System.nanoTime() - initStart);
+                    coldStart = false;
                 }
 
                 logger.trace("Invoking next event...");
-                final Event event = awsRuntimeClient.getNextEvent(awsRuntimeApiEndpoint);
+                final InitTimeline.Span nextSpan = timer.isColdStart()
+                        ? InitTimeline.start(InitTimeline.FIRST_NEXT_EVENT)
+                        : null;
+                timer.start(PhaseTimer.Phase.NEXT_EVENT);
+                final Event received = awsRuntimeClient.getNextEvent(awsRuntimeApiEndpoint);
+                timer.stop();
+                if (nextSpan != null) {
+                    nextSpan.end();
+                    InitTimeline.complete();
+                }
 
-                logger.debug("Event received with Context: {}", event.context());
+                logger.debug("Event received with Context: {}", received.context());
 
+                final InvocationEvent invocationEvent = new InvocationEvent();
+                invocationEvent.begin();
+                byte[] capturedInput = null;
+                CountingInputStream countingInput = null;
                 try {
-                    final Publisher<ByteBuffer> responsePublisher = eventHandler.handle(event, requestHandler);
+                    // sampled event is read fully to be captured after response, handler reads it from memory
+                    if (capture != null && capture.sample()) {
+                        capturedInput = InputStreamUtils.getBytesFromInputStream(received.input());
+                    }
+                    final InputStream receivedInput = (capturedInput == null)
+                            ? received.input()
+                            : new ByteArrayInputStream(capturedInput);
+                    if (metricsRegistered || invocationEvent.isEnabled()) {
+                        countingInput = new CountingInputStream(receivedInput);
+                    }
+                    final InputStream input = (countingInput == null)
+                            ? receivedInput
+                            : countingInput;
+                    final Event event = (countingInput == null && capturedInput == null)
+                            ? received
+                            : new LoopEvent(input, received.context());
+                    final Publisher<ByteBuffer> responsePublisher = (handler instanceof RequestStreamHandler streamHandler)
+                            ? eventHandler.handle(event, streamHandler, timer)
+                            : eventHandler.handle(event, (RequestHandler) handler, timer);
                     final SimpleHttpBody response = SimpleHttpBody.ofPublisher(responsePublisher);
-                    awsRuntimeClient.reportInvocationSuccess(awsRuntimeApiEndpoint, response, event.context());
+                    timer.start(PhaseTimer.Phase.RESPONSE);
+                    awsRuntimeClient.reportInvocationSuccess(awsRuntimeApiEndpoint, response, received.context());
+                    timer.stop();
+                    if (responsePublisher instanceof HttpRequest.BodyPublisher bodyPublisher) {
+                        timer.setOutputBytes(bodyPublisher.contentLength());
+                    }
                 } catch (Exception e) {
                     logger.error(e.getMessage(), e);
-                    awsRuntimeClient.reportInvocationError(awsRuntimeApiEndpoint, e, event.context());
+                    timer.setError(true);
+                    timer.start(PhaseTimer.Phase.RESPONSE);
+                    awsRuntimeClient.reportInvocationError(awsRuntimeApiEndpoint, e, received.context());
+                    timer.stop();
+                } finally {
+                    if (converter != null) {
+                        converter.release();
+                    }
+                }
+
+                timer.sampleHeapUsed();
+                if (logger.isDebugEnabled()) {
+                    logger.debug("Responding to AWS Invocation took: {} millis", timer.getMillis(PhaseTimer.Phase.RESPONSE));
+                    if (metrics.isResourceTracking()) {
+                        logger.debug("Invocation allocated {} bytes, took {} CPU micros and left {} heap bytes used",
+                                timer.getAllocatedBytes(), TimeUnit.NANOSECONDS.toMicros(timer.getCpuNanos()),
+                                timer.getHeapUsedBytes());
+                    }
+                }
+
+                if (countingInput != null) {
+                    timer.setInputBytes(countingInput.getCount());
+                }
+                metrics.record(timer);
+                if (capturedInput != null) {
+                    try {
+                        capture.capture(capturedInput, received.context(), timer.getOutputBytes(), timer.isError());
+                    } catch (Exception e) {
+                        logger.warn("Event capture failed: {}", e.getMessage());
+                    }
                 }
+                commit(invocationEvent, timer, received.context(), handler);
             }
         } catch (Exception e) {
             logger.error(e.getMessage(), e);
+            // timeline shows how far initialization got, does nothing if first event was received
+            InitTimeline.complete();
             final AwsRuntimeClient awsRuntimeClient = getDefaultAwsRuntimeClient(runtimeContext);
             final URI awsRuntimeApiEndpoint = awsRuntimeClient.getAwsRuntimeApi();
             awsRuntimeClient.reportInitializationError(awsRuntimeApiEndpoint, e);
+        } finally {
+            metrics.flush();
+            if (capture != null) {
+                capture.close();
+            }
+        }
+    }
+
+    private static void commit(InvocationEvent event, PhaseTimer timer, Context context, Object handler) {
+        if (event.shouldCommit()) {
+            event.requestId = context.getAwsRequestId();
+            event.handler = handler.getClass().getName();
+            event.coldStart = timer.isColdStart();
+            event.error = timer.isError();
+            event.inputBytes = timer.getInputBytes();
+            event.outputBytes = timer.getOutputBytes();
+            event.inputConversion = timer.getNanos(PhaseTimer.Phase.INPUT_CONVERSION);
+            event.handlerTime = timer.getNanos(PhaseTimer.Phase.HANDLER);
+            event.outputConversion = timer.getNanos(PhaseTimer.Phase.OUTPUT_CONVERSION);
+            event.responsePost = timer.getNanos(PhaseTimer.Phase.RESPONSE);
+            event.allocatedBytes = timer.getAllocatedBytes();
+            event.cpuTime = timer.getCpuNanos();
+            event.commit();
+        }
+    }
+
+    private record LoopEvent(@NotNull InputStream input, @NotNull Context context) implements Event {}
+
+    /**
+     * Counts event payload bytes read by handler for metrics
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count = 0;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        private long getCount() {
+            return count;
+        }
+
+        @Override
+        public int read() throws IOException {
+            final int result = super.read();
+            if (result != -1) {
+                count++;
+            }
+            return result;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            final int result = super.read(b, off, len);
+            if (result > 0) {
+                count += result;
+            }
+            return result;
+        }
+
+        @Override
+        public long skip(long n) throws IOException {
+            final long result = super.skip(n);
+            count += result;
+            return result;
+        }
+    }
+
+    private static EventHandler getEventHandler(RuntimeContext context, String eventHandlerQualifier) {
+        final EventHandler eventHandler = context.getBean(EventHandler.class, eventHandlerQualifier);
+        if (eventHandler == null) {
+            throw new IllegalStateException("EventHandler bean for qualifier '" + eventHandlerQualifier + "' not found!");
+        }
+
+        return eventHandler;
+    }
+
+    /**
+     * @param context to look for handler in
+     * @return {@link RequestHandler} or {@link RequestStreamHandler} bean
+     */
+    private static Object getHandler(RuntimeContext context) {
+        final String handlerName = System.getenv(AwsContextVariables.HANDLER);
+        Object handler = context.getBean(RequestHandler.class, handlerName);
+        if (handler == null) {
+            handler = context.getBean(RequestStreamHandler.class, handlerName);
         }
+
+        if (handler == null) {
+            logger.debug("RequestHandler bean for qualifier '{}' not found, looking without qualifier...", handlerName);
+            handler = context.getBean(RequestHandler.class);
+            if (handler == null) {
+                handler = context.getBean(RequestStreamHandler.class);
+            }
+        }
+
+        if (handler == null) {
+            throw new IllegalStateException("RequestHandler bean for qualifier '" + handlerName + "' not found!");
+        }
+
+        return handler;
     }
 
     AwsRuntimeClient getDefaultAwsRuntimeClient(RuntimeContext context) {
@@ -0,0 +1,114 @@
+package io.goodforgod.aws.lambda.simple.capture;
+
+import io.goodforgod.aws.lambda.simple.event.LazyJsonObject;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Invocation recorded by {@link EventCapture}, used to replay production traffic offline with
+ * {@link io.goodforgod.aws.lambda.simple.testing.AwsLambdaLoad} or benchmarks
+ *
+ * @param requestId      of captured invocation
+ * @param functionArn    invoked function ARN
+ * @param deadlineMillis epoch millis of invocation deadline as in
+ *                       {@link io.goodforgod.aws.lambda.simple.config.AwsRuntimeVariables#LAMBDA_RUNTIME_DEADLINE_MS}
+ * @param timestamp      epoch millis when invocation was captured after response
+ * @param responseBytes  size of response or -1 if unknown
+ * @param error          true if invocation was reported as error
+ * @param event          raw (redacted) event
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public record CapturedEvent(@NotNull String requestId,
+                            @NotNull String functionArn,
+                            long deadlineMillis,
+                            long timestamp,
+                            long responseBytes,
+                            boolean error,
+                            byte @NotNull [] event) {
+
+    /**
+     * Reads captured events from file written by {@link EventCapture} or from exported function logs
+     * where captured events are prefixed with {@link EventCapture#PREFIX}, other lines are skipped
+     *
+     * @param file to read
+     * @return captured events in file order
+     */
+    public static @NotNull List<CapturedEvent> read(@NotNull Path file) {
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            final List<CapturedEvent> events = new ArrayList<>();
+            lines.forEach(line -> {
+                final CapturedEvent event = parse(line);
+                if (event != null) {
+                    events.add(event);
+                }
+            });
+            return events;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @param line captured event JSON, optionally prefixed with log line start and
+     *             {@link EventCapture#PREFIX}
+     * @return captured event or null if line is not captured event
+     */
+    public static @Nullable CapturedEvent parse(@NotNull String line) {
+        final int prefix = line.indexOf(EventCapture.PREFIX);
+        final String json = (prefix == -1)
+                ? line.strip()
+                : line.substring(prefix + EventCapture.PREFIX.length()).strip();
+        if (!json.startsWith("{")) {
+            return null;
+        }
+
+        final LazyJsonObject object = new LazyJsonObject(json.getBytes(StandardCharsets.UTF_8));
+        final String event = object.getString("event");
+        if (event == null) {
+            return null;
+        }
+
+        return new CapturedEvent(getString(object, "requestId"),
+                getString(object, "functionArn"),
+                getLong(object, "deadlineMillis", 0),
+                getLong(object, "timestamp", 0),
+                getLong(object, "responseBytes", -1),
+                Boolean.TRUE.equals(object.getBoolean("error")),
+                Base64.getDecoder().decode(event));
+    }
+
+    private static String getString(LazyJsonObject object, String key) {
+        final String value = object.getString(key);
+        return (value == null)
+                ? ""
+                : value;
+    }
+
+    private static long getLong(LazyJsonObject object, String key, long defaultValue) {
+        final Long value = object.getLong(key);
+        return (value == null)
+                ? defaultValue
+                : value;
+    }
+
+    @Override
+    public String toString() {
+        return "[requestId=" + requestId
+                + ", functionArn=" + functionArn
+                + ", deadlineMillis=" + deadlineMillis
+                + ", timestamp=" + timestamp
+                + ", responseBytes=" + responseBytes
+                + ", error=" + error
+                + ", eventBytes=" + event.length + ']';
+    }
+}
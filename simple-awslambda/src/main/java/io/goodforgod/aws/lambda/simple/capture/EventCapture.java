@@ -0,0 +1,283 @@
+package io.goodforgod.aws.lambda.simple.capture;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Opt-in capture of sampled production invocations for offline replay, event loop reads sampled
+ * event fully, passes it to handler and after response writes it as single JSON line with
+ * invocation headers and response size:
+ *
+ * <pre>
+ * {"requestId":"...","functionArn":"...","deadlineMillis":1700000003000,"timestamp":1700000000042,"responseBytes":42,"error":false,"event":"base64"}
+ * </pre>
+ * <p>
+ * Lines are written to stdout prefixed with {@link #PREFIX} (so they can be exported from CloudWatch
+ * Logs) or to file in directory (like /tmp when running locally), both are read by
+ * {@link CapturedEvent#read(Path)}. Events bigger than size cap are skipped, not truncated, so
+ * every captured event is replayable.
+ * <p>
+ * Capture should be registered in runtime, as output file is opened on first captured event:
+ *
+ * <pre>
+ * context.registerBean(EventCapture.builder()
+ *         .sampleRate(0.01)
+ *         .redactor(EventRedactor.ofFields("password", "authorization"))
+ *         .build());
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class EventCapture implements AutoCloseable {
+
+    /**
+     * Prefix of captured event lines written to stdout
+     */
+    public static final String PREFIX = "SIMPLE_LAMBDA_CAPTURE ";
+    public static final String DEFAULT_DIRECTORY = "/tmp/simple-lambda-capture";
+
+    private static final Logger logger = LoggerFactory.getLogger(EventCapture.class);
+
+    public static final class Builder {
+
+        private double sampleRate = 0.01;
+        private long maxEvents = 100;
+        private int maxEventBytes = 128 * 1024;
+        private EventRedactor redactor = EventRedactor.none();
+        private Path directory = null;
+        private OutputStream output = null;
+
+        private Builder() {}
+
+        /**
+         * @param sampleRate probability in range [0, 1] of invocation to be captured
+         * @return self
+         */
+        public @NotNull Builder sampleRate(double sampleRate) {
+            if (sampleRate < 0 || sampleRate > 1) {
+                throw new IllegalArgumentException("Sample rate must be in range [0, 1], but was: " + sampleRate);
+            }
+
+            this.sampleRate = sampleRate;
+            return this;
+        }
+
+        /**
+         * @param maxEvents total number of events to capture, capture stops after that
+         * @return self
+         */
+        public @NotNull Builder maxEvents(long maxEvents) {
+            if (maxEvents < 1) {
+                throw new IllegalArgumentException("Max events must be positive, but was: " + maxEvents);
+            }
+
+            this.maxEvents = maxEvents;
+            return this;
+        }
+
+        /**
+         * @param maxEventBytes size cap of (redacted) event, bigger events are not captured, default
+         *                      keeps base64 line under CloudWatch Logs event size limit
+         * @return self
+         */
+        public @NotNull Builder maxEventBytes(int maxEventBytes) {
+            if (maxEventBytes < 1) {
+                throw new IllegalArgumentException("Max event bytes must be positive, but was: " + maxEventBytes);
+            }
+
+            this.maxEventBytes = maxEventBytes;
+            return this;
+        }
+
+        /**
+         * @param redactor applied to event before it is captured
+         * @return self
+         */
+        public @NotNull Builder redactor(@NotNull EventRedactor redactor) {
+            this.redactor = redactor;
+            return this;
+        }
+
+        /**
+         * Write captured events to stdout prefixed with {@link #PREFIX}, default
+         *
+         * @return self
+         */
+        public @NotNull Builder stdout() {
+            this.directory = null;
+            this.output = null;
+            return this;
+        }
+
+        /**
+         * @param directory to create capture file in, like {@link #DEFAULT_DIRECTORY}
+         * @return self
+         */
+        public @NotNull Builder directory(@NotNull Path directory) {
+            this.directory = directory;
+            this.output = null;
+            return this;
+        }
+
+        /**
+         * @param output to write captured event lines to without prefix
+         * @return self
+         */
+        public @NotNull Builder output(@NotNull OutputStream output) {
+            this.output = output;
+            this.directory = null;
+            return this;
+        }
+
+        public @NotNull EventCapture build() {
+            return new EventCapture(this);
+        }
+    }
+
+    private final double sampleRate;
+    private final long maxEvents;
+    private final int maxEventBytes;
+    private final EventRedactor redactor;
+    private final Path directory;
+    private final boolean prefixed;
+
+    private OutputStream output;
+    private long captured = 0;
+    private long skipped = 0;
+
+    private EventCapture(Builder builder) {
+        this.sampleRate = builder.sampleRate;
+        this.maxEvents = builder.maxEvents;
+        this.maxEventBytes = builder.maxEventBytes;
+        this.redactor = builder.redactor;
+        this.directory = builder.directory;
+        this.output = builder.output;
+        this.prefixed = builder.directory == null && builder.output == null;
+    }
+
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * @return true if next invocation should be captured
+     */
+    public boolean sample() {
+        if (captured >= maxEvents) {
+            return false;
+        }
+
+        return sampleRate >= 1 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * @param event         raw event as received from Runtime API
+     * @param context       of invocation
+     * @param responseBytes size of response or -1 if unknown
+     * @param error         true if invocation was reported as error
+     */
+    public synchronized void capture(byte @NotNull [] event,
+                                     @NotNull Context context,
+                                     long responseBytes,
+                                     boolean error) {
+        if (captured >= maxEvents) {
+            return;
+        }
+
+        final byte[] redacted = redactor.redact(event);
+        if (redacted.length > maxEventBytes) {
+            skipped++;
+            logger.debug("Event with size {} bytes exceeds capture limit of {} bytes and is skipped", redacted.length,
+                    maxEventBytes);
+            return;
+        }
+
+        final long timestamp = System.currentTimeMillis();
+        final String line = ((prefixed)
+                ? PREFIX
+                : "")
+                + "{\"requestId\":\"" + escape(context.getAwsRequestId())
+                + "\",\"functionArn\":\"" + escape(context.getInvokedFunctionArn())
+                + "\",\"deadlineMillis\":" + (timestamp + context.getRemainingTimeInMillis())
+                + ",\"timestamp\":" + timestamp
+                + ",\"responseBytes\":" + responseBytes
+                + ",\"error\":" + error
+                + ",\"event\":\"" + Base64.getEncoder().encodeToString(redacted) + "\"}\n";
+
+        try {
+            final OutputStream stream = getOutput();
+            stream.write(line.getBytes(StandardCharsets.UTF_8));
+            stream.flush();
+            captured++;
+        } catch (IOException e) {
+            logger.warn("Event capture writing failed: {}", e.getMessage());
+        }
+    }
+
+    private OutputStream getOutput() throws IOException {
+        if (output == null) {
+            if (directory == null) {
+                output = System.out;
+            } else {
+                Files.createDirectories(directory);
+                final Path file = directory.resolve("events-" + System.currentTimeMillis() + ".jsonl");
+                output = Files.newOutputStream(file, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                logger.info("Capturing events to file: {}", file);
+            }
+        }
+
+        return output;
+    }
+
+    /**
+     * @return number of captured events
+     */
+    public synchronized long getCaptured() {
+        return captured;
+    }
+
+    /**
+     * @return number of sampled events skipped due to size cap
+     */
+    public synchronized long getSkipped() {
+        return skipped;
+    }
+
+    private static String escape(String value) {
+        return Objects.toString(value, "").replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    @Override
+    public synchronized void close() {
+        if (output != null && directory != null) {
+            try {
+                output.close();
+            } catch (IOException e) {
+                logger.warn("Event capture file closing failed: {}", e.getMessage());
+            } finally {
+                output = null;
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[sampleRate=" + sampleRate
+                + ", captured=" + captured
+                + ", skipped=" + skipped
+                + ", maxEvents=" + maxEvents
+                + ", maxEventBytes=" + maxEventBytes + ']';
+    }
+}
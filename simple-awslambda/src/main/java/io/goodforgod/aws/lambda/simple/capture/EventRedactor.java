@@ -0,0 +1,44 @@
+package io.goodforgod.aws.lambda.simple.capture;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Hook applied by {@link EventCapture} to raw event before it leaves function, so secrets and
+ * personal data can be removed before event is written to logs or files, event is captured as
+ * returned by redactor
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface EventRedactor {
+
+    /**
+     * @param event raw event as received from Runtime API, must not be modified as it is also passed to
+     *              handler
+     * @return event to capture
+     */
+    byte @NotNull [] redact(byte @NotNull [] event);
+
+    /**
+     * @return redactor that captures event as is
+     */
+    static @NotNull EventRedactor none() {
+        return event -> event;
+    }
+
+    /**
+     * Replaces string, number and boolean values of JSON fields with given names (case-insensitive)
+     * with {@code "***"}, fields are redacted at any depth and also inside JSON encoded as string value
+     * (like API Gateway body)
+     * <p>
+     * Object and array values of named fields are captured as is, same as base64 encoded bodies (API
+     * Gateway with {@code isBase64Encoded}), use custom redactor when such events contain secrets
+     *
+     * @param fields names to redact
+     * @return field redactor
+     */
+    static @NotNull EventRedactor ofFields(@NotNull String... fields) {
+        return new FieldEventRedactor(fields);
+    }
+}
@@ -0,0 +1,53 @@
+package io.goodforgod.aws.lambda.simple.capture;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Redacts string, number and boolean values of named JSON fields with regular expression over event
+ * text, event is not parsed so redaction works for partially valid or string-embedded JSON
+ * <p>
+ * Object and array values are not redacted and neither are fields inside base64 encoded bodies
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class FieldEventRedactor implements EventRedactor {
+
+    private static final String REDACTED = "***";
+    private static final String NUMBER_OR_BOOLEAN = "-?\\d[\\d.eE+-]*|true|false";
+
+    private final Pattern field;
+    private final Pattern escapedField;
+
+    FieldEventRedactor(String... fields) {
+        if (fields.length == 0) {
+            throw new IllegalArgumentException("Fields to redact must be specified");
+        }
+
+        final String names = Arrays.stream(fields)
+                .map(Pattern::quote)
+                .collect(Collectors.joining("|", "(?:", ")"));
+        // "name" : "value" or "name" : 42
+        this.field = Pattern.compile("(\"" + names + "\"\\s*:\\s*)(?:\"(?:[^\"\\\\]|\\\\.)*\"|" + NUMBER_OR_BOOLEAN + ")",
+                Pattern.CASE_INSENSITIVE);
+        // \"name\" : \"value\" or \"name\" : 42 inside JSON string
+        this.escapedField = Pattern.compile("(\\\\\"" + names + "\\\\\"\\s*:\\s*)(?:\\\\\"(?:[^\"\\\\]|\\\\[^\"])*\\\\\""
+                + "|" + NUMBER_OR_BOOLEAN + ")",
+                Pattern.CASE_INSENSITIVE);
+    }
+
+    @Override
+    public byte @NotNull [] redact(byte @NotNull [] event) {
+        final String json = new String(event, StandardCharsets.UTF_8);
+        final String redacted = escapedField.matcher(field.matcher(json)
+                .replaceAll("$1\"" + REDACTED + "\""))
+                .replaceAll("$1\\\\\"" + REDACTED + "\\\\\"");
+        return (redacted.equals(json))
+                ? event
+                : redacted.getBytes(StandardCharsets.UTF_8);
+    }
+}
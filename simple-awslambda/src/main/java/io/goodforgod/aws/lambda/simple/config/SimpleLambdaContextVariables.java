@@ -19,4 +19,10 @@ private SimpleLambdaContextVariables() {}
      * The {@link EventHandler} qualifier configured on the function.
      */
     public static final String EVENT_HANDLER = "_HANDLER_EVENT";
+
+    /**
+     * Init timeline detail level, {@code jvm} to report JVM uptime and loaded classes, {@code classes}
+     * to also trace each loaded class.
+     */
+    public static final String INIT_TIMELINE = "SIMPLE_LAMBDA_INIT_TIMELINE";
 }
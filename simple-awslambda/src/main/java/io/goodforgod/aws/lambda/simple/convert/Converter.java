@@ -1,5 +1,6 @@
 package io.goodforgod.aws.lambda.simple.convert;
 
+import java.io.IOException;
 import org.jetbrains.annotations.NotNull;
 
 /**
@@ -14,4 +15,31 @@ public interface Converter {
     <T> T fromString(@NotNull String value, @NotNull Class<T> type);
 
     String toString(Object o);
+
+    /**
+     * @param o   to convert
+     * @param out to append converted value to
+     * @throws IOException if appending failed
+     */
+    default void write(Object o, @NotNull Appendable out) throws IOException {
+        out.append(toString(o));
+    }
+
+    /**
+     * Prepares everything required to convert type and all types reachable from it, so first
+     * conversion is as fast as any following one
+     *
+     * @param type to prepare conversion for
+     */
+    default void warmup(@NotNull Class<?> type) {
+        // do nothing
+    }
+
+    /**
+     * Releases everything that was bound to conversions performed during current invocation, called by
+     * runtime after invocation result is reported
+     */
+    default void release() {
+        // do nothing
+    }
 }
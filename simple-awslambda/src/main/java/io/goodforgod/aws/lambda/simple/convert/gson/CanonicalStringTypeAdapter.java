@@ -0,0 +1,122 @@
+package io.goodforgod.aws.lambda.simple.convert.gson;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link String} adapter that canonicalizes short strings via bounded direct-mapped table, so
+ * values and map keys repeated across batch event records (eventSource, awsRegion, attribute names,
+ * header names, etc.) are retained once per invocation instead of once per record.
+ * <p>
+ * Table is lock-free and bounded: each slot keeps last seen string for its hash, colliding string
+ * replaces previous one.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class CanonicalStringTypeAdapter extends TypeAdapter<String> {
+
+    public static final int DEFAULT_TABLE_SIZE = 4096;
+    public static final int DEFAULT_MAX_LENGTH = 64;
+
+    private final String[] table;
+    private final int mask;
+    private final int maxLength;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public CanonicalStringTypeAdapter() {
+        this(DEFAULT_TABLE_SIZE, DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * @param tableSize of canonical table, rounded up to power of two
+     * @param maxLength of string to canonicalize, longer strings are returned as is
+     */
+    public CanonicalStringTypeAdapter(int tableSize, int maxLength) {
+        if (tableSize < 1 || tableSize > (1 << 30)) {
+            throw new IllegalArgumentException("Table size must be between 1 and 2^30, but was: " + tableSize);
+        }
+
+        final int size = Integer.highestOneBit(tableSize - 1) << 1;
+        this.table = new String[Math.max(size, 1)];
+        this.mask = table.length - 1;
+        this.maxLength = maxLength;
+    }
+
+    @Override
+    public void write(JsonWriter out, String value) throws IOException {
+        out.value(value);
+    }
+
+    @Override
+    public String read(JsonReader in) throws IOException {
+        final JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        } else if (token == JsonToken.BOOLEAN) {
+            return Boolean.toString(in.nextBoolean());
+        }
+
+        return canonicalize(in.nextString());
+    }
+
+    /**
+     * @param value to canonicalize
+     * @return previously seen equal string or value itself
+     */
+    public String canonicalize(String value) {
+        if (value.length() > maxLength) {
+            return value;
+        }
+
+        final int hash = value.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & mask;
+        final String canonical = table[index];
+        if (canonical != null && canonical.equals(value)) {
+            hits.increment();
+            return canonical;
+        }
+
+        table[index] = value;
+        misses.increment();
+        return value;
+    }
+
+    /**
+     * @return amount of strings that were replaced with canonical instance
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return amount of strings that were not found in table
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return ratio of hits to all canonicalized strings or 0 if nothing was canonicalized
+     */
+    public double getHitRate() {
+        final long hitsCount = hits.sum();
+        final long total = hitsCount + misses.sum();
+        return (total == 0)
+                ? 0
+                : (double) hitsCount / total;
+    }
+
+    @Override
+    public String toString() {
+        return "[tableSize=" + table.length + ", maxLength=" + maxLength + ", hits=" + getHits() + ", misses=" + getMisses()
+                + ", hitRate=" + getHitRate() + ']';
+    }
+}
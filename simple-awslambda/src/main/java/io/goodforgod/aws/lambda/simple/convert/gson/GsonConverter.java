@@ -1,11 +1,18 @@
 package io.goodforgod.aws.lambda.simple.convert.gson;
 
 import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import io.goodforgod.aws.lambda.simple.convert.Converter;
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * JSON converter implementation based on {@link Gson}
@@ -17,11 +24,25 @@
 @Singleton
 public class GsonConverter implements Converter {
 
+    private static final Logger logger = LoggerFactory.getLogger(GsonConverter.class);
+
     private final Gson gson;
+    private final RecyclingInstancePool instancePool;
+    // types are visited once, so repeated warmups (compile time and runtime) don't walk graph again
+    private final Set<Type> warmed = ConcurrentHashMap.newKeySet();
 
     @Inject
     public GsonConverter(Gson gson) {
+        this(gson, null);
+    }
+
+    /**
+     * @param gson         to convert with
+     * @param instancePool that gson was configured with to recycle instances or null
+     */
+    public GsonConverter(Gson gson, @Nullable RecyclingInstancePool instancePool) {
         this.gson = gson;
+        this.instancePool = instancePool;
     }
 
     @Override
@@ -33,4 +54,86 @@ public GsonConverter(Gson gson) {
     public String toString(Object o) {
         return gson.toJson(o);
     }
+
+    @Override
+    public void write(Object o, @NotNull Appendable out) {
+        gson.toJson(o, out);
+    }
+
+    @Override
+    public void release() {
+        if (instancePool != null) {
+            instancePool.release();
+        }
+    }
+
+    /**
+     * Walks type graph and forces {@link com.google.gson.TypeAdapter} creation for every reachable
+     * type, so adapters are cached in {@link Gson} before first conversion, types that were already
+     * warmed up are skipped
+     *
+     * @param type to prepare conversion for
+     */
+    @Override
+    public void warmup(@NotNull Class<?> type) {
+        final Deque<Type> toVisit = new ArrayDeque<>();
+        toVisit.add(type);
+        int visited = 0;
+        while (!toVisit.isEmpty()) {
+            final Type next = toVisit.poll();
+            if (!warmed.add(next)) {
+                continue;
+            }
+
+            visited++;
+
+            if (next instanceof Class<?> clazz) {
+                if (clazz.isPrimitive()) {
+                    continue;
+                }
+
+                getAdapter(clazz);
+                if (clazz.isArray()) {
+                    toVisit.add(clazz.getComponentType());
+                } else if (clazz.isRecord()) {
+                    for (RecordComponent component : clazz.getRecordComponents()) {
+                        toVisit.add(component.getGenericType());
+                    }
+                } else if (!isPlatformType(clazz)) {
+                    for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+                        for (Field field : c.getDeclaredFields()) {
+                            if (!Modifier.isStatic(field.getModifiers()) && !Modifier.isTransient(field.getModifiers())) {
+                                toVisit.add(field.getGenericType());
+                            }
+                        }
+                    }
+                }
+            } else if (next instanceof ParameterizedType parameterizedType) {
+                getAdapter(parameterizedType);
+                toVisit.add(parameterizedType.getRawType());
+                Collections.addAll(toVisit, parameterizedType.getActualTypeArguments());
+            } else if (next instanceof GenericArrayType arrayType) {
+                getAdapter(arrayType);
+                toVisit.add(arrayType.getGenericComponentType());
+            } else if (next instanceof WildcardType wildcardType) {
+                Collections.addAll(toVisit, wildcardType.getUpperBounds());
+            }
+        }
+
+        logger.debug("Converter warmup for '{}' prepared {} types", type.getName(), visited);
+    }
+
+    private void getAdapter(Type type) {
+        try {
+            gson.getAdapter(TypeToken.get(type));
+        } catch (Exception e) {
+            // adapter will be created (or fail) on first conversion as usual
+            logger.debug("Converter warmup for '{}' failed: {}", type.getTypeName(), e.getMessage());
+        }
+    }
+
+    private static boolean isPlatformType(Class<?> type) {
+        final String name = type.getName();
+        return name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.");
+    }
 }
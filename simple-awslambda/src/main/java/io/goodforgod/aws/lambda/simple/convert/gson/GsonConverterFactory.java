@@ -6,6 +6,7 @@
 import io.goodforgod.gson.configuration.GsonFactory;
 import org.jetbrains.annotations.ApiStatus.Internal;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Simple {@link Gson} factory implementation that builds instance of Gson from property file:
@@ -19,15 +20,53 @@ public class GsonConverterFactory {
     private static final GsonFactory GSON_FACTORY = new GsonFactory();
     private static final RecordTypeAdapterFactory ADAPTER_FACTORY = new RecordTypeAdapterFactory();
 
+    private final CanonicalStringTypeAdapter stringAdapter;
+    private final RecyclingInstancePool instancePool;
+
+    public GsonConverterFactory() {
+        this(null);
+    }
+
+    /**
+     * @param stringAdapter to canonicalize deserialized strings with or null to use default one
+     */
+    public GsonConverterFactory(@Nullable CanonicalStringTypeAdapter stringAdapter) {
+        this(stringAdapter, null);
+    }
+
+    /**
+     * @param stringAdapter to canonicalize deserialized strings with or null to use default one
+     * @param instancePool  to recycle deserialized instances across invocations with or null to
+     *                          allocate new instances for each event
+     */
+    public GsonConverterFactory(@Nullable CanonicalStringTypeAdapter stringAdapter,
+                                @Nullable RecyclingInstancePool instancePool) {
+        this.stringAdapter = stringAdapter;
+        this.instancePool = instancePool;
+    }
+
     @NotNull
     public Converter build() {
         final GsonBuilder builder = registerAdapters(GSON_FACTORY.builder());
         final Gson gson = builder.create();
-        return new GsonConverter(gson);
+        return createConverter(gson);
+    }
+
+    @Internal
+    protected Converter createConverter(Gson gson) {
+        return new GsonConverter(gson, instancePool);
     }
 
     @Internal
     protected GsonBuilder registerAdapters(GsonBuilder builder) {
+        if (stringAdapter != null) {
+            builder.registerTypeAdapter(String.class, stringAdapter);
+        }
+
+        if (instancePool != null) {
+            instancePool.registerInstanceCreators(builder);
+        }
+
         return builder.registerTypeAdapterFactory(ADAPTER_FACTORY);
     }
 }
@@ -10,17 +10,22 @@
 import com.google.gson.stream.JsonWriter;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.RecordComponent;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gson support for Java 16+ record types.
  * <p>
  * Taken from <a href="https://github.com/google/gson/issues/1794">GitHub</a> and adjusted for
- * performance and proper handling of {@link SerializedName} annotations
+ * performance and proper handling of {@link SerializedName} annotations.
+ * <p>
+ * Record reader is compiled once per record type: JSON names are resolved to component indexes via
+ * precomputed table, primitive defaults are prefilled in arguments template and canonical constructor
+ * is invoked via {@link MethodHandle}.
  *
  * @author Anton Kurako (GoodforGod)
  * @see <a href="https://gist.github.com/knightzmc/cf26d9931d32c78c5d777cc719658639">Github Gist</a>
@@ -41,42 +46,71 @@ final class RecordTypeAdapterFactory implements TypeAdapterFactory {
         PRIMITIVE_DEFAULTS.put(boolean.class, false);
     }
 
-    private final Map<RecordComponent, List<String>> recordComponentNameCache = new ConcurrentHashMap<>();
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class, Object[].class);
 
     /**
-     * Get all names of a record component
-     * If annotated with {@link SerializedName} the list returned will be the primary name first, then
-     * any alternative names
-     * Otherwise, the component name will be returned.
+     * Record reader compiled for specific record type
      */
-    private List<String> getRecordComponentNames(final RecordComponent recordComponent) {
-        final List<String> inCache = recordComponentNameCache.get(recordComponent);
-        if (inCache != null) {
-            return inCache;
+    private static final class RecordTypeAdapter<T> extends TypeAdapter<T> {
+
+        private final TypeAdapter<T> delegate;
+        // JSON name (including SerializedName alternates) to component index
+        private final Map<String, Integer> nameToIndex;
+        private final TypeAdapter<?>[] adapters;
+        // constructor arguments with primitive defaults prefilled
+        private final Object[] argsTemplate;
+        // canonical constructor spread as (Object[])Object
+        private final MethodHandle constructor;
+
+        private RecordTypeAdapter(TypeAdapter<T> delegate,
+                                  Map<String, Integer> nameToIndex,
+                                  TypeAdapter<?>[] adapters,
+                                  Object[] argsTemplate,
+                                  MethodHandle constructor) {
+            this.delegate = delegate;
+            this.nameToIndex = nameToIndex;
+            this.adapters = adapters;
+            this.argsTemplate = argsTemplate;
+            this.constructor = constructor;
         }
 
-        final List<String> names = new ArrayList<>(4);
-        // The @SerializedName is compiled to be part of the componentName() method
-        // The use of a loop is also deliberate, getAnnotation seemed to return null if Gson's package was
-        // relocated
-        SerializedName annotation = null;
-        for (Annotation a : recordComponent.getAccessor().getAnnotations()) {
-            if (a.annotationType() == SerializedName.class) {
-                annotation = (SerializedName) a;
-                break;
-            }
+        @Override
+        public void write(JsonWriter out, T value) throws IOException {
+            delegate.write(out, value);
         }
 
-        if (annotation != null) {
-            names.add(annotation.value());
-            names.addAll(Arrays.asList(annotation.alternate()));
-        } else {
-            names.add(recordComponent.getName());
-        }
+        @SuppressWarnings("unchecked")
+        @Override
+        public T read(JsonReader reader) throws IOException {
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                return null;
+            }
 
-        final List<String> namesList = List.copyOf(names);
-        recordComponentNameCache.put(recordComponent, namesList);
-        return namesList;
+            final Object[] args = argsTemplate.clone();
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final Integer index = nameToIndex.get(reader.nextName());
+                if (index == null) {
+                    reader.skipValue();
+                } else {
+                    final Object value = adapters[index].read(reader);
+                    if (value != null) {
+                        args[index] = value;
+                    }
+                }
+            }
+            reader.endObject();
+
+            try {
+                return (T) (Object) constructor.invokeExact(args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // checked exception declared by canonical constructor
+                throw new IllegalStateException(e);
+            }
+        }
     }
 
     @SuppressWarnings("unchecked")
@@ -87,73 +121,74 @@ public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
             return null;
         }
 
-        final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
-        return new TypeAdapter<>() {
-
-            @Override
-            public void write(JsonWriter out, T value) throws IOException {
-                delegate.write(out, value);
+        final RecordComponent[] recordComponents = clazz.getRecordComponents();
+        final Map<String, Integer> nameToIndex = new HashMap<>(recordComponents.length * 2);
+        final TypeAdapter<?>[] adapters = new TypeAdapter<?>[recordComponents.length];
+        final Object[] argsTemplate = new Object[recordComponents.length];
+        final Class<?>[] argTypes = new Class<?>[recordComponents.length];
+        for (int i = 0; i < recordComponents.length; i++) {
+            final RecordComponent recordComponent = recordComponents[i];
+            for (String name : getRecordComponentNames(recordComponent)) {
+                // same as Gson, name can be bound only to one component
+                final Integer previous = nameToIndex.put(name, i);
+                if (previous != null) {
+                    throw new IllegalArgumentException("Class " + clazz.getName() + " declares multiple JSON fields named '" + name
+                            + "'; conflict is caused by components " + recordComponents[previous].getName() + " and "
+                            + recordComponent.getName());
+                }
             }
 
-            @Override
-            public T read(JsonReader reader) throws IOException {
-                if (reader.peek() == JsonToken.NULL) {
-                    reader.nextNull();
-                    return null;
-                }
+            argTypes[i] = recordComponent.getType();
+            argsTemplate[i] = PRIMITIVE_DEFAULTS.get(argTypes[i]);
+            adapters[i] = gson.getAdapter(TypeToken.get(recordComponent.getGenericType()));
+        }
 
-                var recordComponents = clazz.getRecordComponents();
-                var typeMap = new HashMap<String, TypeToken<?>>();
-                for (RecordComponent recordComponent : recordComponents) {
-                    for (String name : getRecordComponentNames(recordComponent)) {
-                        typeMap.put(name, TypeToken.get(recordComponent.getGenericType()));
-                    }
-                }
+        final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+        return new RecordTypeAdapter<>(delegate, nameToIndex, adapters, argsTemplate, getConstructor(clazz, argTypes));
+    }
 
-                final Map<String, Object> argsMap = new HashMap<>(6);
-                reader.beginObject();
-                while (reader.hasNext()) {
-                    String name = reader.nextName();
-                    var type = typeMap.get(name);
-                    if (type != null) {
-                        argsMap.put(name, gson.getAdapter(type).read(reader));
-                    } else {
-                        gson.getAdapter(Object.class).read(reader);
-                    }
-                }
-                reader.endObject();
-
-                var argTypes = new Class<?>[recordComponents.length];
-                var args = new Object[recordComponents.length];
-                for (int i = 0; i < recordComponents.length; i++) {
-                    argTypes[i] = recordComponents[i].getType();
-                    List<String> names = getRecordComponentNames(recordComponents[i]);
-                    Object value = null;
-                    TypeToken<?> type = null;
-                    // Find the first matching type and value
-                    for (String name : names) {
-                        value = argsMap.get(name);
-                        type = typeMap.get(name);
-                        if (value != null && type != null) {
-                            break;
-                        }
-                    }
+    /**
+     * Get all names of a record component
+     * If annotated with {@link SerializedName} the list returned will be the primary name first, then
+     * any alternative names
+     * Otherwise, the component name will be returned.
+     */
+    private static List<String> getRecordComponentNames(RecordComponent recordComponent) {
+        // The @SerializedName is compiled to be part of the componentName() method
+        // The use of a loop is also deliberate, getAnnotation seemed to return null if Gson's package was
+        // relocated
+        SerializedName annotation = null;
+        for (Annotation a : recordComponent.getAccessor().getAnnotations()) {
+            if (a.annotationType() == SerializedName.class) {
+                annotation = (SerializedName) a;
+                break;
+            }
+        }
 
-                    if (value == null && (type != null && type.getRawType().isPrimitive())) {
-                        value = PRIMITIVE_DEFAULTS.get(type.getRawType());
-                    }
-                    args[i] = value;
-                }
+        if (annotation == null) {
+            return List.of(recordComponent.getName());
+        }
 
-                try {
-                    final Constructor<T> constructor = clazz.getDeclaredConstructor(argTypes);
-                    constructor.setAccessible(true);
-                    return constructor.newInstance(args);
-                } catch (NoSuchMethodException | InstantiationException | SecurityException | IllegalAccessException
-                        | IllegalArgumentException | InvocationTargetException e) {
-                    throw new IllegalStateException(e);
-                }
-            }
-        };
+        final List<String> names = new ArrayList<>(annotation.alternate().length + 1);
+        names.add(annotation.value());
+        names.addAll(Arrays.asList(annotation.alternate()));
+        return names;
+    }
+
+    /**
+     * @param clazz    record type
+     * @param argTypes record components types
+     * @return canonical constructor handle adapted to {@code (Object[])Object}
+     */
+    private static MethodHandle getConstructor(Class<?> clazz, Class<?>[] argTypes) {
+        try {
+            final Constructor<?> constructor = clazz.getDeclaredConstructor(argTypes);
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, argTypes.length)
+                    .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | SecurityException | IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
@@ -0,0 +1,271 @@
+package io.goodforgod.aws.lambda.simple.convert.gson;
+
+import com.google.gson.GsonBuilder;
+import com.google.gson.InstanceCreator;
+import com.google.gson.reflect.TypeToken;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Pool of instances that {@link com.google.gson.Gson} deserializes events into, instances are
+ * recycled across warm invocations instead of being allocated for each event.
+ * <p>
+ * Contract: instances of recycled types (and recycled collections) produced during invocation are
+ * valid only until invocation is reported, after that they are reset (fields set to values of freshly
+ * constructed instance, collections cleared) and reused for next event, so
+ * {@link com.amazonaws.services.lambda.runtime.RequestHandler} must NOT retain references to them.
+ * <p>
+ * Types which no-arg constructor initializes fields with mutable values (collections, arrays, other
+ * objects) can't be reset by copying such values, so their instances are constructed fresh for each
+ * event instead of being reused and are not tracked.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class RecyclingInstancePool {
+
+    public static final int DEFAULT_MAX_POOLED = 1024;
+
+    private static final Logger logger = LoggerFactory.getLogger(RecyclingInstancePool.class);
+
+    private static final class Pool<T> implements InstanceCreator<T> {
+
+        private final Supplier<T> factory;
+        private final Consumer<T> reset;
+        private final int maxPooled;
+
+        private final ArrayDeque<T> free = new ArrayDeque<>();
+        private final List<T> used = new ArrayList<>();
+        private long created = 0;
+        private long reused = 0;
+
+        private Pool(Supplier<T> factory, Consumer<T> reset, int maxPooled) {
+            this.factory = factory;
+            this.reset = reset;
+            this.maxPooled = maxPooled;
+        }
+
+        @Override
+        public synchronized T createInstance(Type type) {
+            T instance = free.poll();
+            if (instance == null) {
+                instance = factory.get();
+                created++;
+            } else {
+                reused++;
+            }
+
+            // instances that can't be reset are never reused, so they are not retained until release
+            if (reset != null) {
+                used.add(instance);
+            }
+            return instance;
+        }
+
+        private synchronized void release() {
+            for (T instance : used) {
+                reset.accept(instance);
+                if (free.size() < maxPooled) {
+                    free.add(instance);
+                }
+            }
+
+            used.clear();
+        }
+    }
+
+    private final int maxPooled;
+    private final Map<Class<?>, Pool<?>> pools = new LinkedHashMap<>();
+    private final List<Pool<?>> distinctPools = new ArrayList<>();
+    private Pool<List<Object>> lists;
+    private Pool<Map<Object, Object>> maps;
+
+    public RecyclingInstancePool() {
+        this(DEFAULT_MAX_POOLED);
+    }
+
+    /**
+     * @param maxPooled maximum amount of instances kept for reuse per type
+     */
+    public RecyclingInstancePool(int maxPooled) {
+        this.maxPooled = maxPooled;
+    }
+
+    /**
+     * @param type to recycle, must have no-arg constructor
+     * @return self
+     */
+    @NotNull
+    public RecyclingInstancePool recycle(@NotNull Class<?> type) {
+        if (type.isInterface() || Modifier.isAbstract(type.getModifiers())) {
+            throw new IllegalArgumentException("Can't recycle abstract type: " + type.getName());
+        }
+
+        final Pool<?> pool = createPool(type);
+        pools.put(type, pool);
+        distinctPools.add(pool);
+        return this;
+    }
+
+    /**
+     * Recycles {@link List} and {@link Map} instances that fields of recycled types are deserialized
+     * into, only collections with recycled type as element (or value with {@link String} key for maps)
+     * are recycled, all other collections are created by Gson as usual
+     *
+     * @return self
+     */
+    @NotNull
+    public RecyclingInstancePool recycleCollections() {
+        if (lists == null) {
+            this.lists = new Pool<>(ArrayList::new, List::clear, maxPooled);
+            this.maps = new Pool<>(LinkedHashMap::new, Map::clear, maxPooled);
+            distinctPools.add(lists);
+            distinctPools.add(maps);
+        }
+        return this;
+    }
+
+    /**
+     * Resets all instances handed out since previous release and returns them to pool
+     */
+    public void release() {
+        for (Pool<?> pool : distinctPools) {
+            pool.release();
+        }
+    }
+
+    /**
+     * @return amount of instances handed out since previous release that will be reset and reused
+     */
+    int getTracked() {
+        int tracked = 0;
+        for (Pool<?> pool : distinctPools) {
+            synchronized (pool) {
+                tracked += pool.used.size();
+            }
+        }
+        return tracked;
+    }
+
+    /**
+     * @return amount of instances that were allocated cause pool was empty
+     */
+    public long getCreated() {
+        long created = 0;
+        for (Pool<?> pool : distinctPools) {
+            created += pool.created;
+        }
+        return created;
+    }
+
+    /**
+     * @return amount of instances that were taken from pool
+     */
+    public long getReused() {
+        long reused = 0;
+        for (Pool<?> pool : distinctPools) {
+            reused += pool.reused;
+        }
+        return reused;
+    }
+
+    GsonBuilder registerInstanceCreators(GsonBuilder builder) {
+        pools.forEach(builder::registerTypeAdapter);
+        if (lists != null) {
+            // Gson looks up instance creator by exact parameterized type before raw type
+            for (Class<?> type : pools.keySet()) {
+                builder.registerTypeAdapter(TypeToken.getParameterized(Collection.class, type).getType(), lists);
+                builder.registerTypeAdapter(TypeToken.getParameterized(List.class, type).getType(), lists);
+                builder.registerTypeAdapter(TypeToken.getParameterized(ArrayList.class, type).getType(), lists);
+                builder.registerTypeAdapter(TypeToken.getParameterized(Map.class, String.class, type).getType(), maps);
+                builder.registerTypeAdapter(TypeToken.getParameterized(HashMap.class, String.class, type).getType(), maps);
+                builder.registerTypeAdapter(TypeToken.getParameterized(LinkedHashMap.class, String.class, type).getType(), maps);
+            }
+        }
+        return builder;
+    }
+
+    private <T> Pool<T> createPool(Class<T> type) {
+        final Supplier<T> factory = getFactory(type);
+        final Consumer<T> reset = getReset(type, factory.get());
+        if (reset == null) {
+            logger.debug("Type '{}' is not recyclable cause its no-arg constructor initializes mutable field values, "
+                    + "instances are constructed for each event", type.getName());
+        }
+
+        return new Pool<>(factory, reset, maxPooled);
+    }
+
+    private static <T> Supplier<T> getFactory(Class<T> type) {
+        try {
+            final Constructor<T> constructor = type.getDeclaredConstructor();
+            constructor.setAccessible(true);
+            return () -> {
+                try {
+                    return constructor.newInstance();
+                } catch (ReflectiveOperationException e) {
+                    throw new IllegalStateException(e);
+                }
+            };
+        } catch (NoSuchMethodException | SecurityException e) {
+            throw new IllegalArgumentException("Can't recycle type without no-arg constructor: " + type.getName(), e);
+        }
+    }
+
+    /**
+     * @param type     to reset
+     * @param template freshly constructed instance which field values are copied on reset
+     * @return reset that copies template values or null if template has mutable field values
+     */
+    private static <T> Consumer<T> getReset(Class<T> type, T template) {
+        final List<Field> fields = new ArrayList<>();
+        final List<Object> values = new ArrayList<>();
+        try {
+            for (Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass()) {
+                for (Field field : c.getDeclaredFields()) {
+                    if (!Modifier.isStatic(field.getModifiers())) {
+                        field.setAccessible(true);
+                        final Object value = field.get(template);
+                        if (!field.getType().isPrimitive() && !isImmutable(value)) {
+                            return null;
+                        }
+
+                        fields.add(field);
+                        values.add(value);
+                    }
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Can't recycle type with inaccessible fields: " + type.getName(), e);
+        }
+
+        final Field[] resetFields = fields.toArray(Field[]::new);
+        final Object[] resetValues = values.toArray();
+        return instance -> {
+            try {
+                for (int i = 0; i < resetFields.length; i++) {
+                    resetFields[i].set(instance, resetValues[i]);
+                }
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        };
+    }
+
+    private static boolean isImmutable(Object value) {
+        return value == null
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum<?>
+                || (value instanceof Number && value.getClass().getPackageName().equals("java.lang"));
+    }
+}
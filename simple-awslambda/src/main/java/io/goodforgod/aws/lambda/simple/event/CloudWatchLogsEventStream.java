@@ -0,0 +1,405 @@
+package io.goodforgod.aws.lambda.simple.event;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.zip.GZIPInputStream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Streaming view over CloudWatch Logs subscription event
+ * ({@code {"awslogs":{"data":"<base64 gzip>"}}}), can be used as
+ * {@link com.amazonaws.services.lambda.runtime.RequestHandler} input type.
+ * <p>
+ * Event is never materialized as String or byte array: {@code data} value is read straight from
+ * event stream, base64 decoded via {@link Base64.Decoder#wrap(InputStream)}, decompressed via
+ * {@link GZIPInputStream} and parsed via {@link JsonReader}, so {@link LogEvent}s are yielded one at
+ * a time and only one of them is kept in memory.
+ * <p>
+ * Header fields (owner, logGroup, etc.) are available once stream is started if they precede
+ * {@code logEvents} in payload (as CloudWatch Logs sends them), otherwise after all events are read.
+ * <p>
+ * Instance is NOT thread-safe and can be iterated only once.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class CloudWatchLogsEventStream implements Iterator<CloudWatchLogsEventStream.LogEvent>, AutoCloseable {
+
+    public record LogEvent(String id, long timestamp, String message) {}
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final InputStream event;
+
+    private JsonReader reader;
+    private boolean finished = false;
+
+    private String messageType;
+    private String owner;
+    private String logGroup;
+    private String logStream;
+    private List<String> subscriptionFilters = List.of();
+
+    /**
+     * @param event raw CloudWatch Logs subscription event
+     */
+    public CloudWatchLogsEventStream(@NotNull InputStream event) {
+        this.event = event;
+    }
+
+    public @Nullable String getMessageType() {
+        start();
+        return messageType;
+    }
+
+    public @Nullable String getOwner() {
+        start();
+        return owner;
+    }
+
+    public @Nullable String getLogGroup() {
+        start();
+        return logGroup;
+    }
+
+    public @Nullable String getLogStream() {
+        start();
+        return logStream;
+    }
+
+    public @NotNull List<String> getSubscriptionFilters() {
+        start();
+        return subscriptionFilters;
+    }
+
+    @Override
+    public boolean hasNext() {
+        start();
+        if (finished) {
+            return false;
+        }
+
+        try {
+            if (reader.hasNext()) {
+                return true;
+            }
+
+            reader.endArray();
+            readFields();
+            finished = true;
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public LogEvent next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("No more log events");
+        }
+
+        try {
+            String id = null;
+            long timestamp = 0;
+            String message = null;
+
+            reader.beginObject();
+            while (reader.hasNext()) {
+                switch (reader.nextName()) {
+                    case "id" -> id = nextString();
+                    case "timestamp" -> timestamp = reader.nextLong();
+                    case "message" -> message = nextString();
+                    default -> reader.skipValue();
+                }
+            }
+            reader.endObject();
+
+            return new LogEvent(id, timestamp, message);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        finished = true;
+        if (reader != null) {
+            reader.close();
+        } else {
+            event.close();
+        }
+    }
+
+    private void start() {
+        if (reader != null) {
+            return;
+        }
+
+        try {
+            final InputStream data = new JsonStringInputStream(openData(new BufferedInputStream(event, BUFFER_SIZE)));
+            final InputStream decompressed = new GZIPInputStream(Base64.getDecoder().wrap(data), BUFFER_SIZE);
+            reader = new JsonReader(new InputStreamReader(decompressed, StandardCharsets.UTF_8));
+            reader.beginObject();
+            if (!readFields()) {
+                finished = true;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Reads payload fields until {@code logEvents} array start or payload end
+     *
+     * @return true if {@code logEvents} array is started
+     */
+    private boolean readFields() throws IOException {
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "messageType" -> messageType = nextString();
+                case "owner" -> owner = nextString();
+                case "logGroup" -> logGroup = nextString();
+                case "logStream" -> logStream = nextString();
+                case "subscriptionFilters" -> subscriptionFilters = nextStrings();
+                case "logEvents" -> {
+                    if (reader.peek() == JsonToken.NULL) {
+                        reader.nextNull();
+                    } else {
+                        reader.beginArray();
+                        return true;
+                    }
+                }
+                default -> reader.skipValue();
+            }
+        }
+
+        reader.endObject();
+        return false;
+    }
+
+    private String nextString() throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        return reader.nextString();
+    }
+
+    private List<String> nextStrings() throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return List.of();
+        }
+
+        final List<String> values = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            values.add(nextString());
+        }
+        reader.endArray();
+        return values;
+    }
+
+    /**
+     * Event envelope is scanned structurally without materializing it, only {@code data} key of
+     * top-level {@code awslogs} object is matched, other keys and values are skipped
+     *
+     * @param input event stream
+     * @return same stream positioned right after opening quote of {@code data} value
+     */
+    private static InputStream openData(InputStream input) throws IOException {
+        if (skipWhitespace(input) == '{'
+                && findKey(input, "awslogs")
+                && skipWhitespace(input) == '{'
+                && findKey(input, "data")
+                && skipWhitespace(input) == '"') {
+            return input;
+        }
+
+        throw new IllegalStateException("CloudWatch Logs event 'awslogs.data' field not found");
+    }
+
+    /**
+     * @param input positioned right after object opening brace
+     * @param key   to look for in object
+     * @return true if key is found and stream is positioned right after its colon, false if object
+     *             ended without key
+     */
+    private static boolean findKey(InputStream input, String key) throws IOException {
+        int c = skipWhitespace(input);
+        while (c == '"') {
+            final String name = readString(input);
+            if (skipWhitespace(input) != ':') {
+                throw new IllegalStateException("CloudWatch Logs event is malformed, colon expected after key: " + name);
+            }
+            if (key.equals(name)) {
+                return true;
+            }
+
+            c = skipValue(input);
+            if (c != ',') {
+                return false;
+            }
+            c = skipWhitespace(input);
+        }
+
+        return false;
+    }
+
+    /**
+     * @param input positioned right after opening quote
+     * @return string value, escape sequences are kept as is except escaped quote and backslash
+     */
+    private static String readString(InputStream input) throws IOException {
+        final ByteArrayOutputStream value = new ByteArrayOutputStream();
+        int c;
+        while ((c = input.read()) != '"') {
+            if (c == '\\') {
+                c = input.read();
+                if (c != '"' && c != '\\') {
+                    value.write('\\');
+                }
+            }
+            if (c == -1) {
+                throw new EOFException("CloudWatch Logs event string is not terminated");
+            }
+
+            value.write(c);
+        }
+
+        return value.toString(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param input positioned right before value (after colon)
+     * @return first non whitespace character after value
+     */
+    private static int skipValue(InputStream input) throws IOException {
+        final int first = skipWhitespace(input);
+        if (first == '"') {
+            skipString(input);
+            return skipWhitespace(input);
+        } else if (first == '{' || first == '[') {
+            int depth = 1;
+            while (depth > 0) {
+                final int c = input.read();
+                if (c == '"') {
+                    skipString(input);
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                } else if (c == -1) {
+                    throw new EOFException("CloudWatch Logs event is not terminated");
+                }
+            }
+            return skipWhitespace(input);
+        }
+
+        // number, boolean or null
+        int c = first;
+        while (c != -1 && c != ',' && c != '}' && c != ']') {
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                return skipWhitespace(input);
+            }
+            c = input.read();
+        }
+        return c;
+    }
+
+    private static void skipString(InputStream input) throws IOException {
+        int c;
+        while ((c = input.read()) != '"') {
+            if (c == '\\') {
+                c = input.read();
+            }
+            if (c == -1) {
+                throw new EOFException("CloudWatch Logs event string is not terminated");
+            }
+        }
+    }
+
+    private static int skipWhitespace(InputStream input) throws IOException {
+        int c;
+        do {
+            c = input.read();
+        } while (c == ' ' || c == '\n' || c == '\r' || c == '\t');
+        return c;
+    }
+
+    @Override
+    public String toString() {
+        return "[messageType=" + messageType + ", owner=" + owner + ", logGroup=" + logGroup + ", logStream=" + logStream
+                + ", subscriptionFilters=" + subscriptionFilters + ']';
+    }
+
+    /**
+     * Raw bytes of JSON string value until closing quote, escape backslashes are dropped (base64
+     * alphabet can only be escaped as {@code \/})
+     */
+    private static final class JsonStringInputStream extends InputStream {
+
+        private final InputStream input;
+        private boolean ended = false;
+
+        private JsonStringInputStream(InputStream input) {
+            this.input = input;
+        }
+
+        @Override
+        public int read() throws IOException {
+            if (ended) {
+                return -1;
+            }
+
+            int c = input.read();
+            if (c == '\\') {
+                c = input.read();
+            } else if (c == '"') {
+                ended = true;
+                return -1;
+            }
+
+            if (c == -1) {
+                throw new EOFException("CloudWatch Logs event 'awslogs.data' value is not terminated");
+            }
+
+            return c;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            int count = 0;
+            while (count < len) {
+                final int c = read();
+                if (c == -1) {
+                    break;
+                }
+
+                b[off + count++] = (byte) c;
+                if (input.available() == 0 && count > 0) {
+                    break;
+                }
+            }
+
+            return (count == 0)
+                    ? -1
+                    : count;
+        }
+
+        @Override
+        public void close() throws IOException {
+            input.close();
+        }
+    }
+}
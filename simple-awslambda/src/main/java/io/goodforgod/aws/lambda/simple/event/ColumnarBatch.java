@@ -0,0 +1,367 @@
+package io.goodforgod.aws.lambda.simple.event;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Batch event (SQS, Kinesis, etc.) that can be used as
+ * {@link com.amazonaws.services.lambda.runtime.RequestHandler} input type for aggregations, instead
+ * of deserializing every record into object, selected JSON paths of every record are projected via
+ * {@link #project(ColumnarSchema)} in single streaming pass into primitive arrays (numbers are never
+ * boxed, strings are dictionary encoded), so handler can run tight loops over columns.
+ * <p>
+ * Batch can be projected only once, event is not retained.
+ * <p>
+ * Record is projected either complete or absent: if record payload is not valid JSON or any
+ * projected value can't be read as its column type, all values of such record are absent.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class ColumnarBatch {
+
+    private static final int INITIAL_CAPACITY = 256;
+
+    /**
+     * Dictionary encoded string column
+     *
+     * @param codes      index in dictionary for each record or -1 if value is absent
+     * @param dictionary distinct values
+     */
+    public record DictionaryColumn(int[] codes, String[] dictionary) {
+
+        public @Nullable String get(int row) {
+            final int code = codes[row];
+            return (code < 0)
+                    ? null
+                    : dictionary[code];
+        }
+
+        @Override
+        public String toString() {
+            return "[size=" + codes.length + ", dictionary=" + Arrays.toString(dictionary) + ']';
+        }
+    }
+
+    /**
+     * Projected columns, each column array has exactly {@link #size()} values, absent values are zero
+     * (or -1 code for strings) and are not set in {@link #getPresent(String)}
+     */
+    public static final class Columns {
+
+        private final ColumnarSchema schema;
+        private final int size;
+        private final Object[] values;
+        private final BitSet[] present;
+
+        private Columns(ColumnarSchema schema, int size, Object[] values, BitSet[] present) {
+            this.schema = schema;
+            this.size = size;
+            this.values = values;
+            this.present = present;
+        }
+
+        /**
+         * @return amount of records in batch
+         */
+        public int size() {
+            return size;
+        }
+
+        public long @NotNull [] getLongs(@NotNull String path) {
+            return (long[]) values[schema.getColumn(path, ColumnarSchema.Type.LONG).index()];
+        }
+
+        public double @NotNull [] getDoubles(@NotNull String path) {
+            return (double[]) values[schema.getColumn(path, ColumnarSchema.Type.DOUBLE).index()];
+        }
+
+        public @NotNull DictionaryColumn getStrings(@NotNull String path) {
+            return (DictionaryColumn) values[schema.getColumn(path, ColumnarSchema.Type.STRING).index()];
+        }
+
+        /**
+         * @param path of column
+         * @return records that have value for column
+         */
+        public @NotNull BitSet getPresent(@NotNull String path) {
+            for (ColumnarSchema.Column column : schema.columns()) {
+                if (column.path().equals(path)) {
+                    return present[column.index()];
+                }
+            }
+
+            throw new IllegalArgumentException("Column '" + path + "' is not present in schema");
+        }
+
+        @Override
+        public String toString() {
+            return "[size=" + size + ", schema=" + schema + ']';
+        }
+    }
+
+    private static final class ColumnBuilder {
+
+        private final ColumnarSchema.Type type;
+        private final BitSet present = new BitSet();
+        private long[] longs;
+        private double[] doubles;
+        private int[] codes;
+        private Map<String, Integer> dictionary;
+
+        private ColumnBuilder(ColumnarSchema.Type type) {
+            this.type = type;
+            switch (type) {
+                case LONG -> longs = new long[INITIAL_CAPACITY];
+                case DOUBLE -> doubles = new double[INITIAL_CAPACITY];
+                case STRING -> {
+                    codes = new int[INITIAL_CAPACITY];
+                    Arrays.fill(codes, -1);
+                    dictionary = new LinkedHashMap<>();
+                }
+            }
+        }
+
+        private void ensureCapacity(int row) {
+            switch (type) {
+                case LONG -> {
+                    if (row >= longs.length) {
+                        longs = Arrays.copyOf(longs, longs.length * 2);
+                    }
+                }
+                case DOUBLE -> {
+                    if (row >= doubles.length) {
+                        doubles = Arrays.copyOf(doubles, doubles.length * 2);
+                    }
+                }
+                case STRING -> {
+                    if (row >= codes.length) {
+                        final int previous = codes.length;
+                        codes = Arrays.copyOf(codes, previous * 2);
+                        Arrays.fill(codes, previous, codes.length, -1);
+                    }
+                }
+            }
+        }
+
+        /**
+         * @return false if value can't be read as column type
+         */
+        private boolean read(JsonReader reader, int row) throws IOException {
+            final JsonToken token = reader.peek();
+            if (token == JsonToken.NULL) {
+                reader.nextNull();
+                return true;
+            } else if (token == JsonToken.BEGIN_OBJECT || token == JsonToken.BEGIN_ARRAY) {
+                reader.skipValue();
+                return true;
+            }
+
+            try {
+                switch (type) {
+                    case LONG -> longs[row] = reader.nextLong();
+                    case DOUBLE -> doubles[row] = reader.nextDouble();
+                    case STRING -> {
+                        final String value = (token == JsonToken.BOOLEAN)
+                                ? String.valueOf(reader.nextBoolean())
+                                : reader.nextString();
+                        codes[row] = dictionary.computeIfAbsent(value, k -> dictionary.size());
+                    }
+                }
+            } catch (NumberFormatException e) {
+                // value is already buffered by reader, so it is skipped without rereading
+                reader.skipValue();
+                return false;
+            }
+
+            present.set(row);
+            return true;
+        }
+
+        private void clear(int row) {
+            present.clear(row);
+            switch (type) {
+                case LONG -> longs[row] = 0;
+                case DOUBLE -> doubles[row] = 0;
+                case STRING -> codes[row] = -1;
+            }
+        }
+
+        private Object build(int size) {
+            return switch (type) {
+                case LONG -> Arrays.copyOf(longs, size);
+                case DOUBLE -> Arrays.copyOf(doubles, size);
+                case STRING -> new DictionaryColumn(Arrays.copyOf(codes, size), dictionary.keySet().toArray(String[]::new));
+            };
+        }
+    }
+
+    private final InputStream event;
+    private boolean projected = false;
+
+    /**
+     * @param event raw batch event with {@code Records} array
+     */
+    public ColumnarBatch(@NotNull InputStream event) {
+        this.event = event;
+    }
+
+    /**
+     * @param schema to project
+     * @return projected columns
+     */
+    public @NotNull Columns project(@NotNull ColumnarSchema schema) {
+        if (projected) {
+            throw new IllegalStateException("ColumnarBatch can be projected only once");
+        }
+
+        projected = true;
+        final List<ColumnarSchema.Column> columns = schema.columns();
+        final ColumnBuilder[] builders = new ColumnBuilder[columns.size()];
+        for (ColumnarSchema.Column column : columns) {
+            builders[column.index()] = new ColumnBuilder(column.type());
+        }
+
+        int size = 0;
+        try (JsonReader reader = new JsonReader(new InputStreamReader(event, StandardCharsets.UTF_8))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if ("Records".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_ARRAY) {
+                    reader.beginArray();
+                    while (reader.hasNext()) {
+                        for (ColumnBuilder builder : builders) {
+                            builder.ensureCapacity(size);
+                        }
+
+                        readRecord(reader, schema, builders, size);
+                        size++;
+                    }
+                    reader.endArray();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        final Object[] values = new Object[builders.length];
+        final BitSet[] present = new BitSet[builders.length];
+        for (int i = 0; i < builders.length; i++) {
+            values[i] = builders[i].build(size);
+            present[i] = builders[i].present;
+        }
+
+        return new Columns(schema, size, values, present);
+    }
+
+    private static void readRecord(JsonReader reader,
+                                   ColumnarSchema schema,
+                                   ColumnBuilder[] builders,
+                                   int row)
+            throws IOException {
+        switch (schema.source()) {
+            case RECORD -> {
+                if (!readValue(reader, schema.root(), builders, row)) {
+                    clear(builders, row);
+                }
+            }
+            case SQS_BODY -> {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if ("body".equals(reader.nextName()) && reader.peek() == JsonToken.STRING) {
+                        readPayload(new StringReader(reader.nextString()), schema, builders, row);
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            }
+            case KINESIS_DATA -> {
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    if ("kinesis".equals(reader.nextName()) && reader.peek() == JsonToken.BEGIN_OBJECT) {
+                        reader.beginObject();
+                        while (reader.hasNext()) {
+                            if ("data".equals(reader.nextName()) && reader.peek() == JsonToken.STRING) {
+                                final byte[] data = Base64.getDecoder().decode(reader.nextString());
+                                readPayload(new InputStreamReader(new ByteArrayInputStream(data), StandardCharsets.UTF_8),
+                                        schema, builders, row);
+                            } else {
+                                reader.skipValue();
+                            }
+                        }
+                        reader.endObject();
+                    } else {
+                        reader.skipValue();
+                    }
+                }
+                reader.endObject();
+            }
+        }
+    }
+
+    /**
+     * Payload that is not valid JSON is treated as record without values
+     */
+    private static void readPayload(Reader payload,
+                                    ColumnarSchema schema,
+                                    ColumnBuilder[] builders,
+                                    int row) {
+        try (JsonReader reader = new JsonReader(payload)) {
+            if (!readValue(reader, schema.root(), builders, row)) {
+                clear(builders, row);
+            }
+        } catch (IOException | JsonParseException | IllegalStateException | NumberFormatException e) {
+            // values read before failure are dropped, so record is either complete or absent
+            clear(builders, row);
+        }
+    }
+
+    /**
+     * @return false if any column value can't be read as column type
+     */
+    private static boolean readValue(JsonReader reader,
+                                     ColumnarSchema.Node node,
+                                     ColumnBuilder[] builders,
+                                     int row)
+            throws IOException {
+        if (node.column != null) {
+            return builders[node.column.index()].read(reader, row);
+        } else if (reader.peek() == JsonToken.BEGIN_OBJECT) {
+            boolean valid = true;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                final ColumnarSchema.Node child = node.children.get(reader.nextName());
+                if (child == null) {
+                    reader.skipValue();
+                } else if (!readValue(reader, child, builders, row)) {
+                    valid = false;
+                }
+            }
+            reader.endObject();
+            return valid;
+        } else {
+            reader.skipValue();
+            return true;
+        }
+    }
+
+    private static void clear(ColumnBuilder[] builders, int row) {
+        for (ColumnBuilder builder : builders) {
+            builder.clear(row);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[projected=" + projected + ']';
+    }
+}
@@ -0,0 +1,149 @@
+package io.goodforgod.aws.lambda.simple.event;
+
+import java.util.*;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Set of JSON paths to project from every batch record into primitive columns via
+ * {@link ColumnarBatch#project(ColumnarSchema)}, schema is compiled once and meant to be kept as
+ * constant.
+ * <p>
+ * Path is dot-separated field names relative to record payload that is selected via
+ * {@link Source}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class ColumnarSchema {
+
+    /**
+     * Where columns are projected from in every record
+     */
+    public enum Source {
+        /**
+         * Record object itself (like {@code eventSource}, {@code attributes.ApproximateReceiveCount})
+         */
+        RECORD,
+        /**
+         * JSON in SQS record {@code body} string
+         */
+        SQS_BODY,
+        /**
+         * JSON in Kinesis record base64 encoded {@code kinesis.data}
+         */
+        KINESIS_DATA
+    }
+
+    public enum Type {
+        LONG,
+        DOUBLE,
+        /**
+         * Dictionary encoded strings
+         */
+        STRING
+    }
+
+    record Column(String path, Type type, int index) {}
+
+    static final class Node {
+
+        final Map<String, Node> children = new HashMap<>();
+        Column column;
+    }
+
+    private final Source source;
+    private final List<Column> columns;
+    private final Map<String, Column> pathToColumn;
+    private final Node root;
+
+    private ColumnarSchema(Source source, List<Column> columns) {
+        this.source = source;
+        this.columns = List.copyOf(columns);
+        this.pathToColumn = new HashMap<>();
+        this.root = new Node();
+        for (Column column : columns) {
+            Node node = root;
+            for (String name : column.path().split("\\.")) {
+                if (node.column != null) {
+                    throw new IllegalArgumentException("Path '" + column.path() + "' is nested in path '" + node.column.path() + "'");
+                }
+
+                node = node.children.computeIfAbsent(name, k -> new Node());
+            }
+
+            if (node.column != null || !node.children.isEmpty()) {
+                throw new IllegalArgumentException("Path '" + column.path() + "' is duplicated or is parent of another path");
+            }
+
+            node.column = column;
+            pathToColumn.put(column.path(), column);
+        }
+    }
+
+    public static @NotNull Builder builder(@NotNull Source source) {
+        return new Builder(source);
+    }
+
+    public static final class Builder {
+
+        private final Source source;
+        private final List<Column> columns = new ArrayList<>();
+
+        private Builder(Source source) {
+            this.source = source;
+        }
+
+        public @NotNull Builder longColumn(@NotNull String path) {
+            return column(path, Type.LONG);
+        }
+
+        public @NotNull Builder doubleColumn(@NotNull String path) {
+            return column(path, Type.DOUBLE);
+        }
+
+        public @NotNull Builder stringColumn(@NotNull String path) {
+            return column(path, Type.STRING);
+        }
+
+        public @NotNull Builder column(@NotNull String path, @NotNull Type type) {
+            columns.add(new Column(path, type, columns.size()));
+            return this;
+        }
+
+        public @NotNull ColumnarSchema build() {
+            if (columns.isEmpty()) {
+                throw new IllegalArgumentException("Schema must have at least one column");
+            }
+
+            return new ColumnarSchema(source, columns);
+        }
+    }
+
+    public @NotNull Source source() {
+        return source;
+    }
+
+    List<Column> columns() {
+        return columns;
+    }
+
+    Node root() {
+        return root;
+    }
+
+    Column getColumn(String path, Type type) {
+        final Column column = pathToColumn.get(path);
+        if (column == null) {
+            throw new IllegalArgumentException("Column '" + path + "' is not present in schema");
+        } else if (column.type() != type) {
+            throw new IllegalArgumentException("Column '" + path + "' is " + column.type() + " but requested as " + type);
+        }
+
+        return column;
+    }
+
+    @Override
+    public String toString() {
+        return "[source=" + source + ", columns=" + columns + ']';
+    }
+}
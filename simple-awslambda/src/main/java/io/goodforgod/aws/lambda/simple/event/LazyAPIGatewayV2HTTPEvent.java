@@ -0,0 +1,128 @@
+package io.goodforgod.aws.lambda.simple.event;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lazy view over API Gateway HTTP API (payload format 2.0) event, alternative to
+ * {@link io.goodforgod.aws.lambda.events.gateway.APIGatewayV2HTTPEvent} for handlers that read
+ * only few fields (like raw path and body), fields are decoded only when accessed.
+ *
+ * @see LazyJsonObject
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class LazyAPIGatewayV2HTTPEvent extends LazyJsonObject {
+
+    private LazyJsonObject headers;
+    private LazyJsonObject queryStringParameters;
+    private LazyJsonObject pathParameters;
+    private LazyJsonObject requestContext;
+
+    /**
+     * @param json raw UTF-8 JSON event
+     */
+    public LazyAPIGatewayV2HTTPEvent(byte @NotNull [] json) {
+        super(json);
+    }
+
+    public @Nullable String getVersion() {
+        return getString("version");
+    }
+
+    public @Nullable String getRouteKey() {
+        return getString("routeKey");
+    }
+
+    public @Nullable String getRawPath() {
+        return getString("rawPath");
+    }
+
+    public @Nullable String getRawQueryString() {
+        return getString("rawQueryString");
+    }
+
+    public @Nullable List<String> getCookies() {
+        return getStringList("cookies");
+    }
+
+    /**
+     * @param name of header (API Gateway passes header names in lower case)
+     * @return header value or null if not present
+     */
+    public @Nullable String getHeader(@NotNull String name) {
+        if (headers == null) {
+            headers = getObject("headers");
+        }
+
+        return (headers == null)
+                ? null
+                : headers.getString(name.toLowerCase(Locale.ROOT));
+    }
+
+    public @Nullable Map<String, String> getHeaders() {
+        return getStringMap("headers");
+    }
+
+    /**
+     * @param name of query parameter
+     * @return query parameter value or null if not present
+     */
+    public @Nullable String getQueryStringParameter(@NotNull String name) {
+        if (queryStringParameters == null) {
+            queryStringParameters = getObject("queryStringParameters");
+        }
+
+        return (queryStringParameters == null)
+                ? null
+                : queryStringParameters.getString(name);
+    }
+
+    public @Nullable Map<String, String> getQueryStringParameters() {
+        return getStringMap("queryStringParameters");
+    }
+
+    /**
+     * @param name of path parameter
+     * @return path parameter value or null if not present
+     */
+    public @Nullable String getPathParameter(@NotNull String name) {
+        if (pathParameters == null) {
+            pathParameters = getObject("pathParameters");
+        }
+
+        return (pathParameters == null)
+                ? null
+                : pathParameters.getString(name);
+    }
+
+    public @Nullable Map<String, String> getPathParameters() {
+        return getStringMap("pathParameters");
+    }
+
+    public @Nullable Map<String, String> getStageVariables() {
+        return getStringMap("stageVariables");
+    }
+
+    /**
+     * @return lazy view over request context
+     */
+    public @Nullable LazyJsonObject getRequestContext() {
+        if (requestContext == null) {
+            requestContext = getObject("requestContext");
+        }
+
+        return requestContext;
+    }
+
+    public @Nullable String getBody() {
+        return getString("body");
+    }
+
+    public boolean isBase64Encoded() {
+        return Boolean.TRUE.equals(getBoolean("isBase64Encoded"));
+    }
+}
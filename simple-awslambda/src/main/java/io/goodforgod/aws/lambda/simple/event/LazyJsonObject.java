@@ -0,0 +1,484 @@
+package io.goodforgod.aws.lambda.simple.event;
+
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Lazy view over raw UTF-8 JSON object, on first access index of top-level keys is built in single
+ * scan (offsets only, nothing is decoded) and values are decoded only when they are accessed.
+ * <p>
+ * Can be used as {@link com.amazonaws.services.lambda.runtime.RequestHandler} input type, so
+ * handlers that touch only few fields of big event do not pay for decoding whole event.
+ * <p>
+ * Instance is NOT thread-safe and is meant to be used during invocation it was created for.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class LazyJsonObject {
+
+    private static final int[] EMPTY_INDEX = new int[0];
+
+    /**
+     * Each entry is 4 ints: key start, key end (exclusive, without quotes), value start, value end
+     * (exclusive)
+     */
+    private static final int ENTRY_SIZE = 4;
+
+    private final byte[] json;
+    private final int start;
+    private final int end;
+
+    private int[] index;
+    private int size;
+
+    /**
+     * @param json raw UTF-8 JSON object
+     */
+    public LazyJsonObject(byte @NotNull [] json) {
+        this(json, 0, json.length);
+    }
+
+    /**
+     * @param json  raw UTF-8 JSON
+     * @param start index of JSON object in array
+     * @param end   index (exclusive) of JSON object end in array
+     */
+    protected LazyJsonObject(byte @NotNull [] json, int start, int end) {
+        this.json = json;
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * @return amount of top-level keys
+     */
+    public int size() {
+        getIndex();
+        return size;
+    }
+
+    /**
+     * @return top-level keys in order they are present in JSON
+     */
+    public @NotNull Set<String> keys() {
+        final int[] entries = getIndex();
+        final Set<String> keys = new LinkedHashSet<>(size);
+        for (int i = 0; i < size; i++) {
+            final int entry = i * ENTRY_SIZE;
+            keys.add(decodeString(entries[entry], entries[entry + 1]));
+        }
+
+        return keys;
+    }
+
+    /**
+     * @param key to look for
+     * @return true if key is present (even if its value is JSON null)
+     */
+    public boolean has(@NotNull String key) {
+        return findEntry(key) != -1;
+    }
+
+    /**
+     * @param key to look for
+     * @return raw JSON value or null if key is not present
+     */
+    public @Nullable String getRaw(@NotNull String key) {
+        final int entry = findEntry(key);
+        if (entry == -1) {
+            return null;
+        }
+
+        final int valueStart = index[entry + 2];
+        return new String(json, valueStart, index[entry + 3] - valueStart, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param key to look for
+     * @return decoded string value, raw JSON for non string values or null if key is not present or
+     *             value is JSON null
+     */
+    public @Nullable String getString(@NotNull String key) {
+        final int entry = findEntry(key);
+        if (entry == -1) {
+            return null;
+        }
+
+        return valueAsString(index[entry + 2], index[entry + 3]);
+    }
+
+    /**
+     * @param key to look for
+     * @return boolean value or null if key is not present or value is JSON null
+     */
+    public @Nullable Boolean getBoolean(@NotNull String key) {
+        final String value = getString(key);
+        return (value == null)
+                ? null
+                : Boolean.parseBoolean(value);
+    }
+
+    /**
+     * @param key to look for
+     * @return long value or null if key is not present or value is JSON null
+     */
+    public @Nullable Long getLong(@NotNull String key) {
+        final String value = getString(key);
+        return (value == null)
+                ? null
+                : Long.parseLong(value);
+    }
+
+    /**
+     * @param key to look for
+     * @return lazy view over nested JSON object or null if key is not present or value is JSON null
+     */
+    public @Nullable LazyJsonObject getObject(@NotNull String key) {
+        final int entry = findEntry(key);
+        if (entry == -1 || isNull(index[entry + 2])) {
+            return null;
+        }
+
+        final int valueStart = index[entry + 2];
+        if (json[valueStart] != '{') {
+            throw new IllegalStateException("Expected JSON object for key '" + key + "', but was: " + getRaw(key));
+        }
+
+        return new LazyJsonObject(json, valueStart, index[entry + 3]);
+    }
+
+    /**
+     * @param key to look for
+     * @return nested JSON object with all values decoded as strings or null if key is not present or
+     *             value is JSON null
+     */
+    public @Nullable Map<String, String> getStringMap(@NotNull String key) {
+        final LazyJsonObject object = getObject(key);
+        return (object == null)
+                ? null
+                : object.toStringMap();
+    }
+
+    /**
+     * @param key to look for
+     * @return nested JSON array with all values decoded as strings or null if key is not present or
+     *             value is JSON null
+     */
+    public @Nullable List<String> getStringList(@NotNull String key) {
+        final int entry = findEntry(key);
+        if (entry == -1 || isNull(index[entry + 2])) {
+            return null;
+        }
+
+        int i = index[entry + 2];
+        if (json[i] != '[') {
+            throw new IllegalStateException("Expected JSON array for key '" + key + "', but was: " + getRaw(key));
+        }
+
+        final List<String> values = new ArrayList<>();
+        i = skipWhitespace(i + 1);
+        if (charAt(i) == ']') {
+            return values;
+        }
+
+        while (true) {
+            final int valueEnd = skipValue(i);
+            values.add(valueAsString(i, valueEnd));
+            i = skipWhitespace(valueEnd);
+            final byte c = charAt(i);
+            if (c == ']') {
+                return values;
+            } else if (c != ',') {
+                throw malformed(i);
+            }
+
+            i = skipWhitespace(i + 1);
+        }
+    }
+
+    /**
+     * @param key       to look for
+     * @param type      to convert value to
+     * @param converter to convert value with
+     * @param <T>       type of value
+     * @return value converted via {@link Converter} or null if key is not present or value is JSON
+     *             null
+     */
+    public <T> @Nullable T get(@NotNull String key, @NotNull Class<T> type, @NotNull Converter converter) {
+        final String raw = getRaw(key);
+        return (raw == null || "null".equals(raw))
+                ? null
+                : converter.fromString(raw, type);
+    }
+
+    /**
+     * @return all values decoded as strings
+     */
+    public @NotNull Map<String, String> toStringMap() {
+        final int[] entries = getIndex();
+        final Map<String, String> map = new LinkedHashMap<>(Math.max(size * 4 / 3 + 1, 16));
+        for (int i = 0; i < size; i++) {
+            final int entry = i * ENTRY_SIZE;
+            map.put(decodeString(entries[entry], entries[entry + 1]),
+                    valueAsString(entries[entry + 2], entries[entry + 3]));
+        }
+
+        return map;
+    }
+
+    /**
+     * @param key to look for
+     * @return index of entry in index array or -1 if key is not present
+     */
+    protected int findEntry(@NotNull String key) {
+        final int[] entries = getIndex();
+        for (int i = 0; i < size; i++) {
+            final int entry = i * ENTRY_SIZE;
+            if (keyEquals(entries[entry], entries[entry + 1], key)) {
+                return entry;
+            }
+        }
+
+        return -1;
+    }
+
+    private int[] getIndex() {
+        if (index == null) {
+            index = buildIndex();
+        }
+
+        return index;
+    }
+
+    private int[] buildIndex() {
+        int i = skipWhitespace(start);
+        if (charAt(i) != '{') {
+            throw malformed(i);
+        }
+
+        i = skipWhitespace(i + 1);
+        if (charAt(i) == '}') {
+            return EMPTY_INDEX;
+        }
+
+        int[] entries = new int[ENTRY_SIZE * 16];
+        int count = 0;
+        while (true) {
+            if (charAt(i) != '"') {
+                throw malformed(i);
+            }
+
+            final int keyEnd = skipString(i);
+            final int valueSeparator = skipWhitespace(keyEnd);
+            if (charAt(valueSeparator) != ':') {
+                throw malformed(valueSeparator);
+            }
+
+            final int valueStart = skipWhitespace(valueSeparator + 1);
+            final int valueEnd = skipValue(valueStart);
+
+            final int entry = count * ENTRY_SIZE;
+            if (entry == entries.length) {
+                entries = Arrays.copyOf(entries, entries.length * 2);
+            }
+
+            entries[entry] = i + 1;
+            entries[entry + 1] = keyEnd - 1;
+            entries[entry + 2] = valueStart;
+            entries[entry + 3] = valueEnd;
+            count++;
+
+            i = skipWhitespace(valueEnd);
+            final byte c = charAt(i);
+            if (c == '}') {
+                size = count;
+                return entries;
+            } else if (c != ',') {
+                throw malformed(i);
+            }
+
+            i = skipWhitespace(i + 1);
+        }
+    }
+
+    private byte charAt(int i) {
+        if (i >= end) {
+            throw malformed(i);
+        }
+
+        return json[i];
+    }
+
+    private int skipWhitespace(int i) {
+        while (i < end) {
+            final byte c = json[i];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return i;
+            }
+            i++;
+        }
+
+        return i;
+    }
+
+    /**
+     * @param i index of opening quote
+     * @return index after closing quote
+     */
+    private int skipString(int i) {
+        i++;
+        while (true) {
+            final byte c = charAt(i);
+            if (c == '"') {
+                return i + 1;
+            }
+
+            i += (c == '\\')
+                    ? 2
+                    : 1;
+        }
+    }
+
+    /**
+     * @param i index of value start
+     * @return index after value end
+     */
+    private int skipValue(int i) {
+        final byte first = charAt(i);
+        if (first == '"') {
+            return skipString(i);
+        } else if (first == '{' || first == '[') {
+            int depth = 0;
+            while (true) {
+                final byte c = charAt(i);
+                if (c == '"') {
+                    i = skipString(i);
+                    continue;
+                } else if (c == '{' || c == '[') {
+                    depth++;
+                } else if (c == '}' || c == ']') {
+                    depth--;
+                    if (depth == 0) {
+                        return i + 1;
+                    }
+                }
+                i++;
+            }
+        }
+
+        while (i < end) {
+            final byte c = json[i];
+            if (c == ',' || c == '}' || c == ']' || c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                break;
+            }
+            i++;
+        }
+
+        return i;
+    }
+
+    private boolean isNull(int valueStart) {
+        return json[valueStart] == 'n';
+    }
+
+    private String valueAsString(int valueStart, int valueEnd) {
+        if (isNull(valueStart)) {
+            return null;
+        } else if (json[valueStart] == '"') {
+            return decodeString(valueStart + 1, valueEnd - 1);
+        }
+
+        return new String(json, valueStart, valueEnd - valueStart, StandardCharsets.UTF_8);
+    }
+
+    private boolean keyEquals(int keyStart, int keyEnd, String key) {
+        final int length = keyEnd - keyStart;
+        if (length == key.length()) {
+            boolean plain = true;
+            for (int i = 0; i < length; i++) {
+                final byte c = json[keyStart + i];
+                if (c < 0 || c == '\\') {
+                    plain = false;
+                    break;
+                } else if (c != key.charAt(i)) {
+                    return false;
+                }
+            }
+
+            if (plain) {
+                return true;
+            }
+        } else if (length < key.length()) {
+            // UTF-8 is never shorter than UTF-16 chars count
+            return false;
+        }
+
+        return key.equals(decodeString(keyStart, keyEnd));
+    }
+
+    /**
+     * @param from index of first string char (after opening quote)
+     * @param to   index of closing quote
+     * @return decoded string
+     */
+    private String decodeString(int from, int to) {
+        int escape = -1;
+        for (int i = from; i < to; i++) {
+            if (json[i] == '\\') {
+                escape = i;
+                break;
+            }
+        }
+
+        if (escape == -1) {
+            return new String(json, from, to - from, StandardCharsets.UTF_8);
+        }
+
+        final StringBuilder builder = new StringBuilder(to - from);
+        int runStart = from;
+        int i = escape;
+        while (i < to) {
+            if (json[i] != '\\') {
+                i++;
+                continue;
+            }
+
+            builder.append(new String(json, runStart, i - runStart, StandardCharsets.UTF_8));
+            final byte escaped = charAt(i + 1);
+            switch (escaped) {
+                case 'b' -> builder.append('\b');
+                case 'f' -> builder.append('\f');
+                case 'n' -> builder.append('\n');
+                case 'r' -> builder.append('\r');
+                case 't' -> builder.append('\t');
+                case 'u' -> {
+                    if (i + 6 > to) {
+                        throw malformed(i);
+                    }
+                    builder.append((char) Integer.parseInt(new String(json, i + 2, 4, StandardCharsets.US_ASCII), 16));
+                    i += 4;
+                }
+                default -> builder.append((char) escaped);
+            }
+
+            i += 2;
+            runStart = i;
+        }
+
+        return builder.append(new String(json, runStart, to - runStart, StandardCharsets.UTF_8)).toString();
+    }
+
+    private IllegalStateException malformed(int position) {
+        return new IllegalStateException("Malformed JSON object at position " + (position - start) + ": "
+                + new String(json, start, Math.min(end - start, 128), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public String toString() {
+        return new String(json, start, end - start, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,18 @@
+package io.goodforgod.aws.lambda.simple.handler;
+
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link RequestHandler} contract for binary payloads (protobuf, Avro, images, etc.), handler
+ * receives event (or event body for body events, base64 decoded if needed) as read-only
+ * {@link ByteBuffer} and its result is sent as is, without any String or JSON conversion.
+ * <p>
+ * Handlers that produce result in parts can implement {@link RequestHandler} with
+ * {@link ByteBuffer} input and {@link java.util.concurrent.Flow.Publisher} of {@link ByteBuffer}
+ * output, such result is sent as is as well.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public interface ByteBufferRequestHandler extends RequestHandler<ByteBuffer, ByteBuffer> {}
@@ -1,6 +1,12 @@
 package io.goodforgod.aws.lambda.simple.handler;
 
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer;
+import io.goodforgod.aws.lambda.simple.reactive.InMemoryPublisher;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.concurrent.Flow.Publisher;
 import org.jetbrains.annotations.NotNull;
@@ -21,4 +27,65 @@ public interface EventHandler {
      */
     @NotNull
     Publisher<ByteBuffer> handle(@NotNull Event event, @NotNull RequestHandler requestHandler);
+
+    /**
+     * Handles event via {@link RequestStreamHandler}, by default handler output is fully buffered in
+     * memory and sent as response after handler completes
+     *
+     * @param streamHandler to handle event input stream and write response to output stream
+     * @param event         to handle
+     * @return response as reactive byte buffered
+     */
+    @NotNull
+    default Publisher<ByteBuffer> handle(@NotNull Event event, @NotNull RequestStreamHandler streamHandler) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            streamHandler.handleRequest(event.input(), output, event.context());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return InMemoryPublisher.ofBytes(output.toByteArray());
+    }
+
+    /**
+     * Handles event and reports its phases to timer, by default whole handling is reported as
+     * {@link PhaseTimer.Phase#HANDLER}
+     *
+     * @param requestHandler to handle event input
+     * @param event          to handle
+     * @param timer          of current invocation
+     * @return response as reactive byte buffered
+     */
+    @NotNull
+    default Publisher<ByteBuffer> handle(@NotNull Event event, @NotNull RequestHandler requestHandler, @NotNull PhaseTimer timer) {
+        timer.start(PhaseTimer.Phase.HANDLER);
+        return handle(event, requestHandler);
+    }
+
+    /**
+     * Handles event and reports its phases to timer, by default whole handling is reported as
+     * {@link PhaseTimer.Phase#HANDLER}
+     *
+     * @param streamHandler to handle event input stream and write response to output stream
+     * @param event         to handle
+     * @param timer         of current invocation
+     * @return response as reactive byte buffered
+     */
+    @NotNull
+    default Publisher<ByteBuffer> handle(@NotNull Event event,
+                                         @NotNull RequestStreamHandler streamHandler,
+                                         @NotNull PhaseTimer timer) {
+        timer.start(PhaseTimer.Phase.HANDLER);
+        return handle(event, streamHandler);
+    }
+
+    /**
+     * Prepares conversion of {@link RequestHandler} input and output types ahead of first event
+     *
+     * @param requestHandler that will handle events
+     */
+    default void warmup(@NotNull RequestHandler requestHandler) {
+        // do nothing
+    }
 }
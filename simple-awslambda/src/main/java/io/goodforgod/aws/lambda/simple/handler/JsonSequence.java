@@ -0,0 +1,118 @@
+package io.goodforgod.aws.lambda.simple.handler;
+
+import java.util.Iterator;
+import java.util.concurrent.Flow.Publisher;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Sequence of elements returned from {@link com.amazonaws.services.lambda.runtime.RequestHandler}
+ * that is serialized incrementally element by element while response is being sent, so only one
+ * element at a time is kept in memory instead of whole result.
+ * <p>
+ * Handler can return {@link Stream} or {@link Iterator} directly, such result is serialized as
+ * {@link Format#ARRAY}, this class is required only to choose {@link Format#LINES} or to return
+ * {@link Publisher} of elements (raw {@link Publisher} result is treated as
+ * {@link java.nio.ByteBuffer} publisher).
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class JsonSequence implements AutoCloseable {
+
+    public enum Format {
+        /**
+         * JSON array of elements
+         */
+        ARRAY,
+        /**
+         * Newline-delimited JSON where each element is on separate line
+         */
+        LINES
+    }
+
+    private final Format format;
+    private final Iterator<?> iterator;
+    private final Publisher<?> publisher;
+    private final AutoCloseable resource;
+
+    private JsonSequence(Format format, Iterator<?> iterator, Publisher<?> publisher, AutoCloseable resource) {
+        this.format = format;
+        this.iterator = iterator;
+        this.publisher = publisher;
+        this.resource = resource;
+    }
+
+    public static @NotNull JsonSequence ofArray(@NotNull Stream<?> stream) {
+        return of(Format.ARRAY, stream);
+    }
+
+    public static @NotNull JsonSequence ofArray(@NotNull Iterator<?> iterator) {
+        return of(Format.ARRAY, iterator);
+    }
+
+    public static @NotNull JsonSequence ofArray(@NotNull Publisher<?> publisher) {
+        return of(Format.ARRAY, publisher);
+    }
+
+    public static @NotNull JsonSequence ofLines(@NotNull Stream<?> stream) {
+        return of(Format.LINES, stream);
+    }
+
+    public static @NotNull JsonSequence ofLines(@NotNull Iterator<?> iterator) {
+        return of(Format.LINES, iterator);
+    }
+
+    public static @NotNull JsonSequence ofLines(@NotNull Publisher<?> publisher) {
+        return of(Format.LINES, publisher);
+    }
+
+    public static @NotNull JsonSequence of(@NotNull Format format, @NotNull Stream<?> stream) {
+        return new JsonSequence(format, stream.iterator(), null, stream);
+    }
+
+    public static @NotNull JsonSequence of(@NotNull Format format, @NotNull Iterator<?> iterator) {
+        return new JsonSequence(format, iterator, null, null);
+    }
+
+    public static @NotNull JsonSequence of(@NotNull Format format, @NotNull Publisher<?> publisher) {
+        return new JsonSequence(format, null, publisher, null);
+    }
+
+    public @NotNull Format format() {
+        return format;
+    }
+
+    /**
+     * @return elements iterator or null if sequence is based on {@link #publisher()}
+     */
+    public @Nullable Iterator<?> iterator() {
+        return iterator;
+    }
+
+    /**
+     * @return elements publisher or null if sequence is based on {@link #iterator()}
+     */
+    public @Nullable Publisher<?> publisher() {
+        return publisher;
+    }
+
+    /**
+     * Closes underlying {@link Stream} if sequence is based on it
+     */
+    @Override
+    public void close() throws Exception {
+        if (resource != null) {
+            resource.close();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[format=" + format + ", source=" + ((iterator != null)
+                ? iterator
+                : publisher)
+                + ']';
+    }
+}
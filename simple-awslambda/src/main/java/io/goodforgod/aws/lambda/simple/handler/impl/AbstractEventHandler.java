@@ -2,18 +2,36 @@
 
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
 import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.event.CloudWatchLogsEventStream;
+import io.goodforgod.aws.lambda.simple.event.ColumnarBatch;
+import io.goodforgod.aws.lambda.simple.event.LazyAPIGatewayV2HTTPEvent;
+import io.goodforgod.aws.lambda.simple.event.LazyJsonObject;
+import io.goodforgod.aws.lambda.simple.handler.Event;
 import io.goodforgod.aws.lambda.simple.handler.EventHandler;
+import io.goodforgod.aws.lambda.simple.handler.JsonSequence;
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpRequest;
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpResponse;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer;
+import io.goodforgod.aws.lambda.simple.metrics.jfr.ConversionEvent;
+import io.goodforgod.aws.lambda.simple.reactive.InMemoryPublisher;
+import io.goodforgod.aws.lambda.simple.utils.ExecutorUtils;
 import io.goodforgod.aws.lambda.simple.utils.InputStreamUtils;
 import io.goodforgod.aws.lambda.simple.utils.ReflectionUtils;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.http.HttpRequest;
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -25,18 +43,159 @@ abstract class AbstractEventHandler implements EventHandler {
 
     protected final Logger logger = LoggerFactory.getLogger(getClass());
 
+    /**
+     * Writes response into piped output stream
+     */
+    @FunctionalInterface
+    protected interface PipeWriter {
+
+        void write(@NotNull OutputStream output) throws Exception;
+    }
+
+    /**
+     * Invocations are processed one at a time, extra threads only cover writers that are still
+     * finishing after their invocation was reported
+     */
+    private static final int STREAM_EXECUTOR_THREADS = 2;
+
     protected final Converter converter;
 
+    private volatile ExecutorService streamExecutor;
+
     protected AbstractEventHandler(Converter converter) {
         this.converter = converter;
     }
 
+    /**
+     * Event input stream is passed to handler as is and handler output stream is connected to
+     * response via {@link BoundedStreamPipe}, handler is executed on separate thread so response is
+     * sent while handler is still writing it and neither input nor output are fully buffered
+     *
+     * @param event         to handle
+     * @param streamHandler to handle event input stream and write response to output stream
+     * @return response publisher that emits handler output as it is written
+     */
+    @Override
+    public @NotNull Publisher<ByteBuffer> handle(@NotNull Event event, @NotNull RequestStreamHandler streamHandler) {
+        return handleStream(event, streamHandler, null);
+    }
+
+    /**
+     * Stream handler runs while response is posted, so its time is measured on writer thread and
+     * reported to timer as {@link PhaseTimer.Phase#HANDLER} time overlapped with
+     * {@link PhaseTimer.Phase#RESPONSE}
+     */
+    @Override
+    public @NotNull Publisher<ByteBuffer> handle(@NotNull Event event,
+                                                 @NotNull RequestStreamHandler streamHandler,
+                                                 @NotNull PhaseTimer timer) {
+        timer.start(PhaseTimer.Phase.HANDLER);
+        return handleStream(event, streamHandler, timer);
+    }
+
+    private Publisher<ByteBuffer> handleStream(Event event, RequestStreamHandler streamHandler, @Nullable PhaseTimer timer) {
+        logger.debug("Function '{}' stream processing started", streamHandler.getClass().getName());
+
+        final InputStream input = event.input();
+        return getPipedPublisher(output -> {
+            final long responseStart = System.nanoTime();
+
+            try {
+                streamHandler.handleRequest(input, output, event.context());
+                if (logger.isInfoEnabled()) {
+                    logger.info("Function stream processing took: {} millis",
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - responseStart));
+                }
+            } finally {
+                if (timer != null) {
+                    timer.setOverlappedHandlerNanos(System.nanoTime() - responseStart);
+                }
+                try {
+                    input.close();
+                } catch (IOException e) {
+                    logger.debug("Event input stream closing failed: {}", e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Writer is executed on separate thread and its output is connected to response via
+     * {@link BoundedStreamPipe}, so response is sent while writer is still writing it
+     *
+     * @param writer that writes response
+     * @return response publisher that emits output as it is written
+     */
+    protected @NotNull Publisher<ByteBuffer> getPipedPublisher(@NotNull PipeWriter writer) {
+        final BoundedStreamPipe pipe = new BoundedStreamPipe();
+        getStreamExecutor().execute(() -> {
+            try {
+                final OutputStream output = pipe.output();
+                writer.write(output);
+                output.close();
+            } catch (Throwable e) {
+                pipe.fail(e);
+            }
+        });
+
+        return HttpRequest.BodyPublishers.ofInputStream(pipe::input);
+    }
+
+    private ExecutorService getStreamExecutor() {
+        ExecutorService executor = streamExecutor;
+        if (executor == null) {
+            synchronized (this) {
+                executor = streamExecutor;
+                if (executor == null) {
+                    // created in runtime only, so no thread is part of native image heap
+                    executor = ExecutorUtils.getDaemonBoundedExecutor("lambda-stream-handler", STREAM_EXECUTOR_THREADS);
+                    streamExecutor = executor;
+                }
+            }
+        }
+
+        return executor;
+    }
+
+    @Override
+    public void warmup(@NotNull RequestHandler requestHandler) {
+        final RequestFunction function = getFunctionArguments(requestHandler);
+        warmupType(function.input());
+        warmupType(function.output());
+    }
+
+    /**
+     * @param type to prepare conversion for if it is converted via {@link Converter}
+     */
+    protected void warmupType(@NotNull Class<?> type) {
+        if (!InputStream.class.isAssignableFrom(type)
+                && !String.class.equals(type)
+                && !byte[].class.equals(type)
+                && !ByteBuffer.class.equals(type)
+                && !Stream.class.isAssignableFrom(type)
+                && !Iterator.class.isAssignableFrom(type)
+                && !JsonSequence.class.equals(type)
+                && !Publisher.class.isAssignableFrom(type)
+                && !LazyJsonObject.class.isAssignableFrom(type)
+                && !ColumnarBatch.class.equals(type)) {
+            converter.warmup(type);
+        }
+    }
+
     protected @NotNull Object getFunctionInput(@NotNull InputStream funcInputValue,
                                                @NotNull Class<?> funcInputType,
                                                @NotNull Class<?> funcOutputType,
                                                @NotNull Context context) {
         if (InputStream.class.equals(funcInputType)) {
-            return funcInputType;
+            return funcInputValue;
+        } else if (LazyJsonObject.class.isAssignableFrom(funcInputType)) {
+            return getLazyFunctionInput(funcInputValue, funcInputType);
+        } else if (CloudWatchLogsEventStream.class.equals(funcInputType)) {
+            return new CloudWatchLogsEventStream(funcInputValue);
+        } else if (ColumnarBatch.class.equals(funcInputType)) {
+            return new ColumnarBatch(funcInputValue);
+        } else if (ByteBuffer.class.equals(funcInputType)) {
+            return ByteBuffer.wrap(InputStreamUtils.getBytesFromInputStream(funcInputValue)).asReadOnlyBuffer();
         }
 
         final String inputAsString = getInputAsString(funcInputValue);
@@ -53,7 +212,66 @@ protected AbstractEventHandler(Converter converter) {
             return funcInputValue;
         }
 
-        return converter.fromString(funcInputValue, funcInputType);
+        return convertFromString(funcInputValue, funcInputType, context);
+    }
+
+    /**
+     * Converts function input via {@link Converter} and reports it as {@link ConversionEvent}
+     *
+     * @param value   to convert
+     * @param type    to convert to
+     * @param context of request
+     * @param <T>     type to convert to
+     * @return converted value
+     */
+    protected <T> T convertFromString(@NotNull String value, @NotNull Class<T> type, @NotNull Context context) {
+        final ConversionEvent event = new ConversionEvent();
+        event.begin();
+        final T result = converter.fromString(value, type);
+        commit(event, ConversionEvent.INPUT, type, value, context);
+        return result;
+    }
+
+    /**
+     * Converts function output via {@link Converter} and reports it as {@link ConversionEvent}
+     *
+     * @param value   to convert
+     * @param context of request
+     * @return converted value
+     */
+    protected String convertToString(@NotNull Object value, @NotNull Context context) {
+        final ConversionEvent event = new ConversionEvent();
+        event.begin();
+        final String result = converter.toString(value);
+        commit(event, ConversionEvent.OUTPUT, value.getClass(), result, context);
+        return result;
+    }
+
+    private static void commit(ConversionEvent event, String direction, Class<?> type, String value, Context context) {
+        if (event.shouldCommit()) {
+            event.requestId = context.getAwsRequestId();
+            event.direction = direction;
+            event.type = type;
+            event.length = value.length();
+            event.commit();
+        }
+    }
+
+    /**
+     * @param funcInputValue event as it was received
+     * @param funcInputType  that is input argument class type of {@link RequestHandler}
+     * @return lazy view over event without decoding it
+     */
+    protected @NotNull LazyJsonObject getLazyFunctionInput(@NotNull InputStream funcInputValue,
+                                                           @NotNull Class<?> funcInputType) {
+        final byte[] event = InputStreamUtils.getBytesFromInputStream(funcInputValue);
+        if (LazyAPIGatewayV2HTTPEvent.class.equals(funcInputType)) {
+            return new LazyAPIGatewayV2HTTPEvent(event);
+        } else if (LazyJsonObject.class.equals(funcInputType)) {
+            return new LazyJsonObject(event);
+        }
+
+        throw new IllegalStateException("Unsupported lazy input type: " + funcInputType.getName());
     }
 
     protected Object getFunctionOutput(Object funcOutValue,
@@ -64,8 +282,16 @@ protected Object getFunctionOutput(Object funcOutValue,
 
         if (funcOutValue == null) {
             return null;
-        } else if (funcOutValue instanceof InputStream) {
+        } else if (funcOutValue instanceof InputStream
+                || funcOutValue instanceof ByteBuffer
+                || funcOutValue instanceof Publisher
+                || funcOutValue instanceof JsonSequence
+                || funcOutValue instanceof byte[]) {
             return funcOutValue;
+        } else if (funcOutValue instanceof Stream<?> stream) {
+            return JsonSequence.ofArray(stream);
+        } else if (funcOutValue instanceof Iterator<?> iterator) {
+            return JsonSequence.ofArray(iterator);
         } else if (funcOutValue instanceof String) {
             return funcOutValue;
         } else if (funcOutValue instanceof SimpleHttpResponse) {
@@ -74,7 +300,7 @@ protected Object getFunctionOutput(Object funcOutValue,
             return ((SimpleHttpRequest) funcOutValue).body();
         }
 
-        return converter.toString(funcOutValue);
+        return convertToString(funcOutValue, context);
     }
 
     protected String getInputAsString(InputStream inputStream) {
@@ -103,9 +329,13 @@ protected <T extends RequestHandler> RequestFunction getFunctionArguments(T t) {
         } else if (response instanceof InputStream) {
             return HttpRequest.BodyPublishers.ofInputStream(() -> (InputStream) response);
         } else if (response instanceof byte[]) {
-            return HttpRequest.BodyPublishers.ofByteArray((byte[]) response);
+            return InMemoryPublisher.ofBytes((byte[]) response);
+        } else if (response instanceof ByteBuffer buffer) {
+            return InMemoryPublisher.ofBuffers(buffer);
+        } else if (response instanceof JsonSequence sequence) {
+            return getPipedPublisher(output -> JsonSequenceWriter.write(sequence, converter, output));
         }
 
-        return HttpRequest.BodyPublishers.ofString(response.toString(), StandardCharsets.UTF_8);
+        return InMemoryPublisher.ofString(response.toString());
     }
 }
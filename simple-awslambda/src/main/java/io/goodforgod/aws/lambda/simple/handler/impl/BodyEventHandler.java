@@ -10,15 +10,26 @@
 import io.goodforgod.aws.lambda.events.system.LoadBalancerRequest;
 import io.goodforgod.aws.lambda.events.system.LoadBalancerResponse;
 import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.event.CloudWatchLogsEventStream;
+import io.goodforgod.aws.lambda.simple.event.ColumnarBatch;
+import io.goodforgod.aws.lambda.simple.event.LazyAPIGatewayV2HTTPEvent;
+import io.goodforgod.aws.lambda.simple.event.LazyJsonObject;
 import io.goodforgod.aws.lambda.simple.handler.Event;
 import io.goodforgod.aws.lambda.simple.handler.EventHandler;
-import io.goodforgod.aws.lambda.simple.utils.TimeUtils;
+import io.goodforgod.aws.lambda.simple.handler.JsonSequence;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer;
+import io.goodforgod.aws.lambda.simple.utils.InputStreamUtils;
 import io.goodforgod.http.common.HttpHeaders;
 import io.goodforgod.http.common.MediaType;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.concurrent.Flow.Publisher;
+import java.util.stream.Stream;
 import javax.inject.Inject;
 import javax.inject.Named;
 import javax.inject.Singleton;
@@ -36,6 +47,7 @@ public class BodyEventHandler extends AbstractEventHandler implements EventHandl
 
     private static final Map<String, String> JSON_HEADERS = HttpHeaders.of(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
             .getMap();
+    private static final byte[] EMPTY_OBJECT = "{}".getBytes(StandardCharsets.UTF_8);
 
     public static final String QUALIFIER = "bodyEvent";
 
@@ -46,43 +58,61 @@ public BodyEventHandler(Converter converter) {
 
     @Override
     public @NotNull Publisher<ByteBuffer> handle(@NotNull Event event, @NotNull RequestHandler requestHandler) {
+        return handle(event, requestHandler, new PhaseTimer());
+    }
+
+    @Override
+    public @NotNull Publisher<ByteBuffer> handle(@NotNull Event event,
+                                                 @NotNull RequestHandler requestHandler,
+                                                 @NotNull PhaseTimer timer) {
         logger.trace("Function input conversion started...");
-        final long inputStart = (logger.isDebugEnabled())
-                ? TimeUtils.getTime()
-                : 0;
+        timer.start(PhaseTimer.Phase.INPUT_CONVERSION);
 
         final RequestFunction function = getFunctionArguments(requestHandler);
         logger.debug("Function '{}' execution started with input '{}' and output '{}'",
                 requestHandler.getClass().getName(), function.input().getName(), function.output().getName());
 
         final Object functionInput = getFunctionInput(event.input(), function.input(), function.output(), event.context());
+        timer.stop();
         if (logger.isDebugEnabled()) {
-            logger.debug("Function input conversion took: {} millis", TimeUtils.timeTook(inputStart));
+            logger.debug("Function input conversion took: {} millis", timer.getMillis(PhaseTimer.Phase.INPUT_CONVERSION));
             logger.debug("Function input: {}", functionInput);
         }
 
         logger.trace("Function processing started...");
-        final long responseStart = (logger.isInfoEnabled())
-                ? TimeUtils.getTime()
-                : 0;
-
+        timer.start(PhaseTimer.Phase.HANDLER);
         final Object functionOutput = requestHandler.handleRequest(functionInput, event.context());
+        timer.stop();
         if (logger.isInfoEnabled()) {
-            logger.info("Function processing took: {} millis", TimeUtils.timeTook(responseStart));
+            logger.info("Function processing took: {} millis", timer.getMillis(PhaseTimer.Phase.HANDLER));
         }
 
         logger.trace("Function output event conversion started...");
-        final long outputStart = (logger.isDebugEnabled())
-                ? TimeUtils.getTime()
-                : 0;
-
+        timer.start(PhaseTimer.Phase.OUTPUT_CONVERSION);
         final Object response = getFunctionOutput(functionOutput, function.input(), function.output(), event.context());
+        final Publisher<ByteBuffer> publisher = getResponsePublisher(response);
+        timer.stop();
         if (logger.isDebugEnabled()) {
-            logger.debug("Function output event took: {} millis", TimeUtils.timeTook(outputStart));
+            logger.debug("Function output event took: {} millis", timer.getMillis(PhaseTimer.Phase.OUTPUT_CONVERSION));
             logger.debug("Function output event: {}", response);
         }
 
-        return getResponsePublisher(response);
+        return publisher;
+    }
+
+    @Override
+    public void warmup(@NotNull RequestHandler requestHandler) {
+        super.warmup(requestHandler);
+        final RequestFunction function = getFunctionArguments(requestHandler);
+        if (!BodyEvent.class.isAssignableFrom(function.input())
+                && !LazyJsonObject.class.isAssignableFrom(function.input())) {
+            warmupType(Base64BodyEvent.class);
+        }
+
+        final Class<?> responseType = getResponseEventType(function.input());
+        if (responseType != null) {
+            warmupType(responseType);
+        }
     }
 
     @Override
@@ -90,19 +120,51 @@ public BodyEventHandler(Converter converter) {
                                                @NotNull Class<?> funcInputType,
                                                @NotNull Class<?> funcOutputType,
                                                @NotNull Context context) {
+        if (LazyJsonObject.class.equals(funcInputType)) {
+            // same as any other non body event type, handler receives body and not whole event
+            final byte[] body = getBody(funcInputValue);
+            return new LazyJsonObject((body.length == 0)
+                    ? EMPTY_OBJECT
+                    : body);
+        } else if (LazyJsonObject.class.isAssignableFrom(funcInputType)) {
+            return getLazyFunctionInput(funcInputValue, funcInputType);
+        } else if (CloudWatchLogsEventStream.class.equals(funcInputType)) {
+            return new CloudWatchLogsEventStream(funcInputValue);
+        } else if (ColumnarBatch.class.equals(funcInputType)) {
+            return new ColumnarBatch(funcInputValue);
+        } else if (ByteBuffer.class.equals(funcInputType)) {
+            return ByteBuffer.wrap(getBody(funcInputValue)).asReadOnlyBuffer();
+        }
+
         final String event = getInputAsString(funcInputValue);
 
         final String eventBody;
         if (BodyEvent.class.isAssignableFrom(funcInputType)) {
             eventBody = event;
         } else {
-            final Base64BodyEvent<?> bodyEvent = converter.fromString(event, Base64BodyEvent.class);
+            final Base64BodyEvent<?> bodyEvent = convertFromString(event, Base64BodyEvent.class, context);
             eventBody = bodyEvent.getBody();
         }
 
         return super.getFunctionInput(eventBody, funcInputType, funcOutputType, context);
     }
 
+    /**
+     * @param funcInputValue body event
+     * @return event body bytes, decoded from base64 if event body is encoded, empty if event has no body
+     */
+    private static byte[] getBody(@NotNull InputStream funcInputValue) {
+        final LazyJsonObject event = new LazyJsonObject(InputStreamUtils.getBytesFromInputStream(funcInputValue));
+        final String body = event.getString("body");
+        if (body == null) {
+            return new byte[0];
+        }
+
+        return Boolean.TRUE.equals(event.getBoolean("isBase64Encoded"))
+                ? Base64.getDecoder().decode(body)
+                : body.getBytes(StandardCharsets.UTF_8);
+    }
+
     /**
      * @param funcOutValue   received from {@link RequestHandler}
      * @param funcInputType  that is input argument class type of {@link RequestHandler}
@@ -117,8 +179,20 @@ protected Object getFunctionOutput(Object funcOutValue,
                                        @NotNull Context context) {
         if (funcOutValue instanceof InputStream
                 || funcOutValue instanceof Publisher
+                || funcOutValue instanceof ByteBuffer
                 || funcOutValue instanceof byte[]) {
             return funcOutValue;
+        } else if (funcOutValue instanceof JsonSequence
+                || funcOutValue instanceof Stream
+                || funcOutValue instanceof Iterator) {
+            final JsonSequence sequence = (JsonSequence) super.getFunctionOutput(funcOutValue, funcInputType, funcOutputType,
+                    context);
+            if (getResponseEventType(funcInputType) == null) {
+                return sequence;
+            }
+
+            // response event body is string, so sequence is written fully before being wrapped
+            return convertToString(tryWrapEvent(getSequenceAsString(sequence), funcInputType), context);
         }
 
         final Object wrappedEvent = tryWrapEvent(funcOutValue, funcInputType);
@@ -126,7 +200,20 @@ protected Object getFunctionOutput(Object funcOutValue,
             return null;
         }
 
-        return converter.toString(wrappedEvent);
+        return convertToString(wrappedEvent, context);
+    }
+
+    private String getSequenceAsString(@NotNull JsonSequence sequence) {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try {
+            JsonSequenceWriter.write(sequence, converter, output);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IllegalStateException("Function output sequence writing failed: " + e.getMessage(), e);
+        }
+
+        return output.toString(StandardCharsets.UTF_8);
     }
 
     /**
@@ -152,7 +239,8 @@ private Object tryWrapEvent(Object funcOutValue,
             return new APIGatewayProxyResponse()
                     .setBody(funcOutValue)
                     .setHeaders(JSON_HEADERS);
-        } else if (APIGatewayV2HTTPEvent.class.isAssignableFrom(funcInputType)) {
+        } else if (APIGatewayV2HTTPEvent.class.isAssignableFrom(funcInputType)
+                || LazyAPIGatewayV2HTTPEvent.class.isAssignableFrom(funcInputType)) {
             return new APIGatewayV2HTTPResponse()
                     .setBody(funcOutValue)
                     .setHeaders(JSON_HEADERS);
@@ -164,4 +252,23 @@ private Object tryWrapEvent(Object funcOutValue,
 
         return funcOutValue;
     }
+
+    /**
+     * @param funcInputType that is input argument class type of {@link RequestHandler}
+     * @return AWS DTO type that output is wrapped into for such input or null if output is not wrapped
+     */
+    private static Class<?> getResponseEventType(@NotNull Class<?> funcInputType) {
+        if (LoadBalancerRequest.class.isAssignableFrom(funcInputType)) {
+            return LoadBalancerResponse.class;
+        } else if (APIGatewayProxyEvent.class.isAssignableFrom(funcInputType)) {
+            return APIGatewayProxyResponse.class;
+        } else if (APIGatewayV2HTTPEvent.class.isAssignableFrom(funcInputType)
+                || LazyAPIGatewayV2HTTPEvent.class.isAssignableFrom(funcInputType)) {
+            return APIGatewayV2HTTPResponse.class;
+        } else if (APIGatewayV2WebSocketEvent.class.isAssignableFrom(funcInputType)) {
+            return APIGatewayV2WebSocketResponse.class;
+        }
+
+        return null;
+    }
 }
@@ -0,0 +1,223 @@
+package io.goodforgod.aws.lambda.simple.handler.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bounded pipe that connects {@link OutputStream} written by one thread with {@link InputStream}
+ * read by another, at most {@link #DEFAULT_CAPACITY} chunks of {@link #DEFAULT_CHUNK_SIZE} are
+ * buffered, so writer is blocked while reader is behind.
+ * <p>
+ * Writer can fail the pipe, then reader receives {@link IOException} with failure as cause instead
+ * of end of stream, so partial output is never treated as complete.
+ * <p>
+ * Writer is aborted with {@link IOException} when reader closes the pipe or when reader doesn't take
+ * any chunk for {@link #DEFAULT_STALL_TIMEOUT_MILLIS}, so writer thread is never blocked forever by
+ * abandoned reader.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class BoundedStreamPipe {
+
+    static final int DEFAULT_CHUNK_SIZE = 8192;
+    static final int DEFAULT_CAPACITY = 16;
+    static final long DEFAULT_STALL_TIMEOUT_MILLIS = 30_000;
+
+    private static final byte[] EOF = new byte[0];
+
+    private final BlockingQueue<byte[]> chunks;
+    private final int chunkSize;
+    private final long stallTimeoutNanos;
+    private final PipeOutputStream output;
+    private final PipeInputStream input;
+
+    private volatile Throwable failure;
+    private volatile boolean readerClosed = false;
+
+    BoundedStreamPipe() {
+        this(DEFAULT_CHUNK_SIZE, DEFAULT_CAPACITY, DEFAULT_STALL_TIMEOUT_MILLIS);
+    }
+
+    BoundedStreamPipe(int chunkSize, int capacity, long stallTimeoutMillis) {
+        this.chunkSize = chunkSize;
+        this.stallTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(stallTimeoutMillis);
+        this.chunks = new ArrayBlockingQueue<>(capacity);
+        this.output = new PipeOutputStream();
+        this.input = new PipeInputStream();
+    }
+
+    OutputStream output() {
+        return output;
+    }
+
+    InputStream input() {
+        return input;
+    }
+
+    /**
+     * @param throwable that writer failed with
+     */
+    void fail(Throwable throwable) {
+        this.failure = throwable;
+        chunks.clear();
+        chunks.offer(EOF);
+    }
+
+    private final class PipeOutputStream extends OutputStream {
+
+        private final byte[] buffer = new byte[chunkSize];
+        private int count = 0;
+        private boolean closed = false;
+
+        @Override
+        public void write(int b) throws IOException {
+            ensureOpen();
+            if (count == buffer.length) {
+                flush();
+            }
+
+            buffer[count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            ensureOpen();
+            while (len > 0) {
+                if (count == buffer.length) {
+                    flush();
+                }
+
+                final int toCopy = Math.min(len, buffer.length - count);
+                System.arraycopy(b, off, buffer, count, toCopy);
+                count += toCopy;
+                off += toCopy;
+                len -= toCopy;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (count > 0) {
+                put(Arrays.copyOf(buffer, count));
+                count = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (!closed) {
+                flush();
+                closed = true;
+                put(EOF);
+            }
+        }
+
+        private void ensureOpen() throws IOException {
+            if (closed) {
+                throw new IOException("Pipe is closed");
+            }
+        }
+
+        private void put(byte[] chunk) throws IOException {
+            if (readerClosed) {
+                throw new IOException("Pipe is closed by reader");
+            }
+
+            try {
+                final long stallStart = System.nanoTime();
+                while (!chunks.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                    if (readerClosed) {
+                        throw new IOException("Pipe is closed by reader");
+                    } else if (System.nanoTime() - stallStart > stallTimeoutNanos) {
+                        readerClosed = true;
+                        chunks.clear();
+                        throw new IOException("Pipe reader didn't take output for "
+                                + TimeUnit.NANOSECONDS.toMillis(stallTimeoutNanos) + " millis");
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getMessage());
+            }
+        }
+    }
+
+    private final class PipeInputStream extends InputStream {
+
+        private byte[] current;
+        private int position = 0;
+
+        @Override
+        public int read() throws IOException {
+            if (!next()) {
+                return -1;
+            }
+
+            return current[position++] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            } else if (!next()) {
+                return -1;
+            }
+
+            final int toCopy = Math.min(len, current.length - position);
+            System.arraycopy(current, position, b, off, toCopy);
+            position += toCopy;
+            return toCopy;
+        }
+
+        @Override
+        public int available() {
+            return (current == null || current == EOF)
+                    ? 0
+                    : current.length - position;
+        }
+
+        /**
+         * @return true if there are bytes to read, false if end of stream reached
+         */
+        private boolean next() throws IOException {
+            if (current == EOF) {
+                return false;
+            } else if (current != null && position < current.length) {
+                return true;
+            }
+
+            try {
+                current = chunks.take();
+                position = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException(e.getMessage());
+            }
+
+            if (current == EOF) {
+                final Throwable throwable = failure;
+                if (throwable != null) {
+                    throw new IOException("Stream handler failed: " + throwable.getMessage(), throwable);
+                }
+
+                return false;
+            }
+
+            return true;
+        }
+
+        @Override
+        public void close() {
+            readerClosed = true;
+            chunks.clear();
+        }
+    }
+}
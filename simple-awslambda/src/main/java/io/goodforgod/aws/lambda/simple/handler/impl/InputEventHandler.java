@@ -6,7 +6,7 @@
 import io.goodforgod.aws.lambda.simple.convert.Converter;
 import io.goodforgod.aws.lambda.simple.handler.Event;
 import io.goodforgod.aws.lambda.simple.handler.EventHandler;
-import io.goodforgod.aws.lambda.simple.utils.TimeUtils;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer;
 import java.nio.ByteBuffer;
 import java.util.concurrent.Flow.Publisher;
 import javax.inject.Inject;
@@ -31,39 +31,47 @@ public InputEventHandler(Converter converter) {
         super(converter);
     }
 
+    @Override
     public @NotNull Publisher<ByteBuffer> handle(@NotNull Event event, @NotNull RequestHandler requestHandler) {
+        return handle(event, requestHandler, new PhaseTimer());
+    }
+
+    @Override
+    public @NotNull Publisher<ByteBuffer> handle(@NotNull Event event,
+                                                 @NotNull RequestHandler requestHandler,
+                                                 @NotNull PhaseTimer timer) {
         logger.trace("Function input conversion started...");
-        final long inputStart = (logger.isDebugEnabled())
-                ? TimeUtils.getTime()
-                : 0;
+        timer.start(PhaseTimer.Phase.INPUT_CONVERSION);
 
         final RequestFunction function = getFunctionArguments(requestHandler);
         logger.debug("Function '{}' execution started with input '{}' and output '{}'",
                 requestHandler.getClass().getName(), function.input().getName(), function.output().getName());
 
         final Object functionInput = getFunctionInput(event.input(), function.input(), function.output(), event.context());
+        timer.stop();
         if (logger.isDebugEnabled()) {
-            logger.debug("Function input conversion took: {} millis", TimeUtils.timeTook(inputStart));
+            logger.debug("Function input conversion took: {} millis", timer.getMillis(PhaseTimer.Phase.INPUT_CONVERSION));
             logger.debug("Function input: {}", functionInput);
         }
 
         logger.trace("Function processing started...");
-        final long responseStart = (logger.isInfoEnabled())
-                ? TimeUtils.getTime()
-                : 0;
+        timer.start(PhaseTimer.Phase.HANDLER);
         final Object functionOutput = requestHandler.handleRequest(functionInput, event.context());
+        timer.stop();
         if (logger.isInfoEnabled()) {
-            logger.info("Function processing took: {} millis", TimeUtils.timeTook(responseStart));
+            logger.info("Function processing took: {} millis", timer.getMillis(PhaseTimer.Phase.HANDLER));
         }
 
         logger.trace("Function output conversion started...");
-        final long outputStart = TimeUtils.getTime();
+        timer.start(PhaseTimer.Phase.OUTPUT_CONVERSION);
         final Object response = getFunctionOutput(functionOutput, function.input(), function.output(), event.context());
+        final Publisher<ByteBuffer> publisher = getResponsePublisher(response);
+        timer.stop();
         if (logger.isDebugEnabled()) {
-            logger.debug("Function output conversion took: {} millis", TimeUtils.timeTook(outputStart));
+            logger.debug("Function output conversion took: {} millis", timer.getMillis(PhaseTimer.Phase.OUTPUT_CONVERSION));
             logger.debug("Function output: {}", response);
         }
 
-        return getResponsePublisher(response);
+        return publisher;
     }
 }
@@ -0,0 +1,229 @@
+package io.goodforgod.aws.lambda.simple.handler.impl;
+
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.handler.JsonSequence;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.*;
+
+/**
+ * Writes {@link JsonSequence} elements one by one via {@link Converter} into output stream
+ * <p>
+ * {@link JsonSequence.Format#LINES} elements have line breaks dropped, so converter configured
+ * with pretty printing still produces one element per line (JSON strings can't contain raw line
+ * breaks, so only formatting whitespace is dropped).
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class JsonSequenceWriter {
+
+    private final Converter converter;
+    private final JsonSequence.Format format;
+    private final long stallTimeoutNanos;
+    private final Writer writer;
+    private final Writer elementWriter;
+    private boolean first = true;
+    private volatile long lastProgress;
+
+    private JsonSequenceWriter(Converter converter, JsonSequence.Format format, OutputStream output, long stallTimeoutMillis) {
+        this.converter = converter;
+        this.format = format;
+        this.stallTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(stallTimeoutMillis);
+        this.writer = new OutputStreamWriter(output, StandardCharsets.UTF_8);
+        this.elementWriter = (format == JsonSequence.Format.LINES)
+                ? new SingleLineWriter(writer)
+                : writer;
+    }
+
+    static void write(JsonSequence sequence, Converter converter, OutputStream output) throws Exception {
+        write(sequence, converter, output, BoundedStreamPipe.DEFAULT_STALL_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * @param stallTimeoutMillis max time to wait for next publisher element or completion, same as
+     *                           piped response stall timeout by default
+     */
+    static void write(JsonSequence sequence, Converter converter, OutputStream output, long stallTimeoutMillis)
+            throws Exception {
+        final JsonSequenceWriter sequenceWriter = new JsonSequenceWriter(converter, sequence.format(), output,
+                stallTimeoutMillis);
+        try (sequence) {
+            sequenceWriter.start();
+            final Iterator<?> iterator = sequence.iterator();
+            if (iterator != null) {
+                while (iterator.hasNext()) {
+                    sequenceWriter.element(iterator.next());
+                }
+            } else {
+                sequenceWriter.subscribe(sequence.publisher());
+            }
+
+            sequenceWriter.end();
+        }
+    }
+
+    private void start() throws IOException {
+        if (format == JsonSequence.Format.ARRAY) {
+            writer.write('[');
+        }
+    }
+
+    private void element(Object element) throws IOException {
+        if (format == JsonSequence.Format.ARRAY) {
+            if (!first) {
+                writer.write(',');
+            }
+        }
+
+        first = false;
+        converter.write(element, elementWriter);
+        if (format == JsonSequence.Format.LINES) {
+            writer.write('\n');
+        }
+    }
+
+    private void end() throws IOException {
+        if (format == JsonSequence.Format.ARRAY) {
+            writer.write(']');
+        }
+
+        writer.flush();
+    }
+
+    /**
+     * Requests elements one by one and blocks until publisher completes, so there is at most one
+     * element in flight. Subscription is cancelled if publisher doesn't emit next element or
+     * complete within stall timeout or if writing fails
+     */
+    private void subscribe(Flow.Publisher<?> publisher) throws Exception {
+        final CompletableFuture<Void> completion = new CompletableFuture<>();
+        final CompletableFuture<Flow.Subscription> subscribed = new CompletableFuture<>();
+        lastProgress = System.nanoTime();
+        publisher.subscribe(new Flow.Subscriber<Object>() {
+
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscribed.complete(subscription);
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(Object item) {
+                try {
+                    element(item);
+                    lastProgress = System.nanoTime();
+                    subscription.request(1);
+                } catch (Exception e) {
+                    subscription.cancel();
+                    completion.completeExceptionally(e);
+                }
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                completion.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                completion.complete(null);
+            }
+        });
+
+        try {
+            while (true) {
+                try {
+                    completion.get(100, TimeUnit.MILLISECONDS);
+                    return;
+                } catch (TimeoutException e) {
+                    if (System.nanoTime() - lastProgress > stallTimeoutNanos) {
+                        throw new TimeoutException("Sequence publisher didn't emit element or complete for "
+                                + TimeUnit.NANOSECONDS.toMillis(stallTimeoutNanos) + " millis");
+                    }
+                }
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof Exception cause) {
+                throw cause;
+            }
+
+            throw e;
+        } catch (TimeoutException | InterruptedException e) {
+            subscribed.thenAccept(Flow.Subscription::cancel);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+
+            throw e;
+        }
+    }
+
+    /**
+     * Drops line breaks, so element is written as single line
+     */
+    private static final class SingleLineWriter extends FilterWriter {
+
+        private SingleLineWriter(Writer writer) {
+            super(writer);
+        }
+
+        @Override
+        public void write(int c) throws IOException {
+            if (c != '\n' && c != '\r') {
+                super.write(c);
+            }
+        }
+
+        @Override
+        public void write(char[] chars, int off, int len) throws IOException {
+            int start = off;
+            final int end = off + len;
+            for (int i = off; i < end; i++) {
+                if (chars[i] == '\n' || chars[i] == '\r') {
+                    if (i > start) {
+                        super.write(chars, start, i - start);
+                    }
+                    start = i + 1;
+                }
+            }
+
+            if (end > start) {
+                super.write(chars, start, end - start);
+            }
+        }
+
+        @Override
+        public void write(String str, int off, int len) throws IOException {
+            int start = off;
+            final int end = off + len;
+            for (int i = off; i < end; i++) {
+                final char c = str.charAt(i);
+                if (c == '\n' || c == '\r') {
+                    if (i > start) {
+                        super.write(str, start, i - start);
+                    }
+                    start = i + 1;
+                }
+            }
+
+            if (end > start) {
+                super.write(str, start, end - start);
+            }
+        }
+
+        @Override
+        public void flush() {
+            // underlying writer is flushed by sequence writer
+        }
+
+        @Override
+        public void close() {
+            // underlying writer is owned by sequence writer
+        }
+    }
+}
@@ -0,0 +1,310 @@
+package io.goodforgod.aws.lambda.simple.http;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import io.goodforgod.aws.lambda.simple.utils.ExecutorUtils;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Executes handler downstream calls in parallel under shared deadline derived from invocation
+ * {@link Context}, so invocation latency is the slowest task instead of sum of all tasks.
+ * <p>
+ * HTTP tasks are executed via {@link SimpleHttpClient#executeAsync(SimpleHttpRequest)} with timeout
+ * limited by deadline, blocking tasks are executed on virtual threads on Java 21+ (or cached daemon
+ * threads otherwise). {@link #join()} waits for all tasks and cancels all remaining tasks when first
+ * task fails or deadline is reached, cancelled HTTP tasks of
+ * {@link io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient} abort their exchanges.
+ * <p>
+ * Instance is meant to be used for single invocation and joined once.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class FanOut {
+
+    /**
+     * Time left for handler to process results and report them before invocation deadline
+     */
+    private static final Duration DEFAULT_DEADLINE_MARGIN = Duration.ofMillis(100);
+
+    private static volatile ExecutorService defaultExecutor;
+
+    public enum Status {
+        COMPLETED,
+        FAILED,
+        CANCELLED
+    }
+
+    public record Timing(String name, long durationNanos, Status status) {
+
+        public long durationMillis() {
+            return TimeUnit.NANOSECONDS.toMillis(durationNanos);
+        }
+    }
+
+    public static final class Task<T> {
+
+        private final String name;
+        private final CompletableFuture<T> future;
+        private final long startNanos;
+        private volatile Future<?> execution;
+        private volatile long endNanos;
+        private volatile boolean cancelled = false;
+
+        private Task(String name, CompletableFuture<T> future, long startNanos) {
+            this.name = name;
+            this.future = future;
+            this.startNanos = startNanos;
+            future.whenComplete((r, e) -> endNanos = System.nanoTime());
+        }
+
+        public @NotNull String name() {
+            return name;
+        }
+
+        /**
+         * @return task result after {@link FanOut#join()}
+         * @throws IllegalStateException if task is not completed successfully
+         */
+        public T get() {
+            if (!future.isDone() || future.isCompletedExceptionally()) {
+                throw new IllegalStateException("Task '" + name + "' is not completed successfully");
+            }
+
+            return future.join();
+        }
+
+        private void cancel() {
+            // HTTP client futures abort exchange on cancel and complete exceptionally instead of cancelled
+            cancelled = !future.isDone();
+            future.cancel(true);
+            final Future<?> running = execution;
+            if (running != null) {
+                running.cancel(true);
+            }
+        }
+
+        private Timing timing() {
+            final long end = endNanos;
+            final long duration = ((end == 0) ? System.nanoTime() : end) - startNanos;
+            final Status status;
+            if (cancelled || future.isCancelled() || !future.isDone()) {
+                status = Status.CANCELLED;
+            } else if (future.isCompletedExceptionally()) {
+                status = Status.FAILED;
+            } else {
+                status = Status.COMPLETED;
+            }
+
+            return new Timing(name, duration, status);
+        }
+
+        @Override
+        public String toString() {
+            return "[name=" + name + ", done=" + future.isDone() + ']';
+        }
+    }
+
+    private final long deadlineNanos;
+    private final ExecutorService executor;
+    private final List<Task<?>> tasks = new ArrayList<>();
+    private boolean joined = false;
+
+    private FanOut(Duration timeout, ExecutorService executor) {
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        this.executor = executor;
+    }
+
+    /**
+     * @param context of invocation to derive deadline from
+     * @return fan-out with deadline of invocation remaining time minus default margin
+     */
+    public static @NotNull FanOut of(@NotNull Context context) {
+        return of(context, DEFAULT_DEADLINE_MARGIN);
+    }
+
+    /**
+     * @param context        of invocation to derive deadline from
+     * @param deadlineMargin to subtract from invocation remaining time
+     * @return fan-out with deadline of invocation remaining time minus margin
+     */
+    public static @NotNull FanOut of(@NotNull Context context, @NotNull Duration deadlineMargin) {
+        return ofTimeout(Duration.ofMillis(context.getRemainingTimeInMillis()).minus(deadlineMargin));
+    }
+
+    public static @NotNull FanOut ofTimeout(@NotNull Duration timeout) {
+        return ofTimeout(timeout, getDefaultExecutor());
+    }
+
+    /**
+     * @param timeout  shared by all tasks
+     * @param executor to execute blocking tasks on
+     * @return fan-out
+     */
+    public static @NotNull FanOut ofTimeout(@NotNull Duration timeout, @NotNull ExecutorService executor) {
+        return new FanOut(timeout, executor);
+    }
+
+    private static ExecutorService getDefaultExecutor() {
+        ExecutorService executorService = defaultExecutor;
+        if (executorService == null) {
+            synchronized (FanOut.class) {
+                executorService = defaultExecutor;
+                if (executorService == null) {
+                    executorService = ExecutorUtils.getVirtualThreadExecutor();
+                    if (executorService == null) {
+                        executorService = ExecutorUtils.getDaemonCachedExecutor("lambda-fan-out");
+                    }
+                    defaultExecutor = executorService;
+                }
+            }
+        }
+
+        return executorService;
+    }
+
+    /**
+     * @return time left until deadline, zero or negative if deadline is reached
+     */
+    public @NotNull Duration remaining() {
+        return Duration.ofNanos(deadlineNanos - System.nanoTime());
+    }
+
+    /**
+     * @param name    of task for timings
+     * @param client  to execute request with
+     * @param request to execute with timeout limited by deadline
+     * @return task
+     */
+    public @NotNull Task<SimpleHttpResponse> http(@NotNull String name,
+                                                  @NotNull SimpleHttpClient client,
+                                                  @NotNull SimpleHttpRequest request) {
+        return async(name, () -> {
+            final Duration remaining = remaining();
+            if (remaining.isNegative() || remaining.isZero()) {
+                return CompletableFuture.failedFuture(new TimeoutException("Fan-out deadline is reached"));
+            }
+
+            return client.executeAsync(request.withTimeoutLimit(remaining));
+        });
+    }
+
+    /**
+     * @param name     of task for timings
+     * @param supplier of asynchronous task result
+     * @param <T>      type of result
+     * @return task
+     */
+    public @NotNull <T> Task<T> async(@NotNull String name, @NotNull Supplier<CompletableFuture<T>> supplier) {
+        ensureNotJoined();
+        final long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = supplier.get();
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+
+        final Task<T> task = new Task<>(name, future, start);
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * @param name     of task for timings
+     * @param callable blocking task to execute on fan-out executor
+     * @param <T>      type of result
+     * @return task
+     */
+    public @NotNull <T> Task<T> submit(@NotNull String name, @NotNull Callable<T> callable) {
+        ensureNotJoined();
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final Task<T> task = new Task<>(name, future, System.nanoTime());
+        tasks.add(task);
+        try {
+            task.execution = executor.submit(() -> {
+                try {
+                    future.complete(callable.call());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+
+        return task;
+    }
+
+    /**
+     * Waits for all tasks to complete
+     *
+     * @return timings of all tasks in submission order
+     * @throws FanOutException when any task failed or deadline is reached, all remaining tasks are
+     *                             cancelled
+     */
+    public @NotNull List<Timing> join() {
+        ensureNotJoined();
+        joined = true;
+
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[tasks.size()];
+        final CompletableFuture<Object> failure = new CompletableFuture<>();
+        for (int i = 0; i < futures.length; i++) {
+            final CompletableFuture<?> future = tasks.get(i).future;
+            future.whenComplete((r, e) -> {
+                if (e != null) {
+                    failure.completeExceptionally(e);
+                }
+            });
+            futures[i] = future;
+        }
+
+        try {
+            CompletableFuture.anyOf(CompletableFuture.allOf(futures), failure)
+                    .get(Math.max(0, deadlineNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            return getTimings();
+        } catch (TimeoutException e) {
+            cancel();
+            throw new FanOutException("Fan-out deadline is reached", null, getTimings());
+        } catch (ExecutionException e) {
+            cancel();
+            final Throwable cause = (e.getCause() instanceof CompletionException && e.getCause().getCause() != null)
+                    ? e.getCause().getCause()
+                    : e.getCause();
+            throw new FanOutException("Fan-out task failed: " + cause.getMessage(), cause, getTimings());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw new FanOutException("Fan-out is interrupted", e, getTimings());
+        }
+    }
+
+    private void cancel() {
+        for (Task<?> task : tasks) {
+            task.cancel();
+        }
+    }
+
+    private List<Timing> getTimings() {
+        final List<Timing> timings = new ArrayList<>(tasks.size());
+        for (Task<?> task : tasks) {
+            timings.add(task.timing());
+        }
+        return timings;
+    }
+
+    private void ensureNotJoined() {
+        if (joined) {
+            throw new IllegalStateException("FanOut is already joined");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[tasks=" + tasks + ", remaining=" + remaining() + ']';
+    }
+}
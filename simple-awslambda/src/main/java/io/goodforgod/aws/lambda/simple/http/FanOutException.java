@@ -0,0 +1,28 @@
+package io.goodforgod.aws.lambda.simple.http;
+
+import java.util.List;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Thrown by {@link FanOut#join()} when task failed or deadline is reached
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class FanOutException extends RuntimeException {
+
+    private final transient List<FanOut.Timing> timings;
+
+    FanOutException(@NotNull String message, @Nullable Throwable cause, @NotNull List<FanOut.Timing> timings) {
+        super(message, cause);
+        this.timings = timings;
+    }
+
+    /**
+     * @return timings of all tasks at the moment of failure
+     */
+    public @NotNull List<FanOut.Timing> getTimings() {
+        return timings;
+    }
+}
@@ -12,6 +12,8 @@
  */
 final class NativeSimpleHttpRequestBuilder implements SimpleHttpRequestBuilder {
 
+    private static final HttpHeaders EMPTY_HEADERS = HttpHeaders.empty();
+
     private final URI uri;
 
     private String method;
@@ -58,7 +60,7 @@ final class NativeSimpleHttpRequestBuilder implements SimpleHttpRequestBuilder {
         }
 
         var finalHeaders = (headers == null)
-                ? HttpHeaders.empty()
+                ? EMPTY_HEADERS
                 : headers;
 
         return new NativeSimpleHttpRequest(uri, method, finalHeaders, timeout, body);
@@ -29,6 +29,19 @@ public interface SimpleHttpRequest {
     @Nullable
     Publisher<ByteBuffer> body();
 
+    /**
+     * @param timeout to limit request with
+     * @return same request if its timeout is not longer than given one, otherwise request view with
+     *             given timeout
+     */
+    @NotNull
+    default SimpleHttpRequest withTimeoutLimit(@NotNull Duration timeout) {
+        final Duration requestTimeout = timeout();
+        return (requestTimeout != null && requestTimeout.compareTo(timeout) <= 0)
+                ? this
+                : new TimeoutSimpleHttpRequest(this, timeout);
+    }
+
     @NotNull
     static SimpleHttpRequestBuilder builder(@NotNull URI uri) {
         return new NativeSimpleHttpRequestBuilder(uri);
@@ -6,6 +6,7 @@
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * @author Anton Kurako (GoodforGod)
@@ -25,6 +26,15 @@ public interface SimpleHttpResponse {
     @NotNull
     HttpHeaders headers();
 
+    /**
+     * @param name of header (case-insensitive)
+     * @return first header value or null, implementations may look it up without building
+     *             {@link #headers()}
+     */
+    default @Nullable String header(@NotNull String name) {
+        return headers().findFirst(name).orElse(null);
+    }
+
     /**
      * @return body as {@link InputStream}
      */
@@ -1,8 +1,7 @@
 package io.goodforgod.aws.lambda.simple.http;
 
-import java.net.http.HttpRequest;
+import io.goodforgod.aws.lambda.simple.reactive.InMemoryPublisher;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.concurrent.Flow;
 
 /**
@@ -15,6 +14,6 @@ record StringHttpBody(String body) implements SimpleHttpBody {
 
     @Override
     public Flow.Publisher<ByteBuffer> value() {
-        return HttpRequest.BodyPublishers.ofString(body, StandardCharsets.UTF_8);
+        return InMemoryPublisher.ofString(body);
     }
 }
@@ -0,0 +1,38 @@
+package io.goodforgod.aws.lambda.simple.http;
+
+import io.goodforgod.http.common.HttpHeaders;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.concurrent.Flow.Publisher;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link SimpleHttpRequest} view with limited timeout
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+record TimeoutSimpleHttpRequest(SimpleHttpRequest request, Duration timeout) implements SimpleHttpRequest {
+
+    @Override
+    public @NotNull URI uri() {
+        return request.uri();
+    }
+
+    @Override
+    public @NotNull String method() {
+        return request.method();
+    }
+
+    @Override
+    public @NotNull HttpHeaders headers() {
+        return request.headers();
+    }
+
+    @Override
+    public @Nullable Publisher<ByteBuffer> body() {
+        return request.body();
+    }
+}
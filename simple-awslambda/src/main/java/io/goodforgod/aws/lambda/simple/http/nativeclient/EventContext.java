@@ -7,20 +7,38 @@
 import io.goodforgod.aws.lambda.simple.config.AwsContextVariables;
 import io.goodforgod.aws.lambda.simple.config.AwsRuntimeVariables;
 import io.goodforgod.aws.lambda.simple.config.SimpleLambdaContextVariables;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpResponse;
 import io.goodforgod.aws.lambda.simple.utils.StringUtils;
-import io.goodforgod.http.common.HttpHeaders;
 
 /**
- * Implementation of {@link Context} runtime context
+ * Implementation of {@link Context} runtime context, invocation headers are extracted once from
+ * response without building header collections
  *
  * @author Anton Kurako (GoodforGod)
  * @since 22.5.2021
  */
-record EventContext(HttpHeaders headers) implements Context {
+record EventContext(String awsRequestId, String invokedFunctionArn, long deadlineEpochMillis) implements Context {
+
+    EventContext(SimpleHttpResponse response) {
+        this(response.header(AwsRuntimeVariables.LAMBDA_RUNTIME_AWS_REQUEST_ID),
+                response.header(AwsRuntimeVariables.LAMBDA_RUNTIME_INVOKED_FUNCTION_ARN),
+                getDeadline(response.header(AwsRuntimeVariables.LAMBDA_RUNTIME_DEADLINE_MS)));
+    }
+
+    private static long getDeadline(String millis) {
+        if (StringUtils.isEmpty(millis))
+            return 0;
+
+        try {
+            return Long.parseLong(millis);
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
 
     @Override
     public String getAwsRequestId() {
-        return headers.findFirst(AwsRuntimeVariables.LAMBDA_RUNTIME_AWS_REQUEST_ID).orElse(null);
+        return awsRequestId;
     }
 
     @Override
@@ -45,7 +63,7 @@ public String getFunctionVersion() {
 
     @Override
     public String getInvokedFunctionArn() {
-        return headers.findFirst(AwsRuntimeVariables.LAMBDA_RUNTIME_INVOKED_FUNCTION_ARN).orElse(null);
+        return invokedFunctionArn;
     }
 
     @Override
@@ -60,18 +78,10 @@ public ClientContext getClientContext() {
 
     @Override
     public int getRemainingTimeInMillis() {
-        final String millis = headers.findFirst(AwsRuntimeVariables.LAMBDA_RUNTIME_DEADLINE_MS).orElse(null);
-        if (StringUtils.isEmpty(millis))
+        if (deadlineEpochMillis == 0)
             return 0;
 
-        try {
-            final long deadlineEpoch = Long.parseLong(millis);
-            final long currentEpoch = currentTime();
-            final long remainingTime = deadlineEpoch - currentEpoch;
-            return (int) remainingTime;
-        } catch (NumberFormatException e) {
-            return 0;
-        }
+        return (int) (deadlineEpochMillis - currentTime());
     }
 
     @Override
@@ -8,28 +8,49 @@
 import java.net.http.HttpResponse;
 import java.nio.charset.Charset;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Native {@link HttpResponse} wrapper with body as {@link InputStream} for
- * {@link SimpleHttpResponse}
+ * {@link SimpleHttpResponse}, headers are looked up in {@link java.net.http.HttpHeaders} directly
+ * and are copied into {@link HttpHeaders} only when {@link #headers()} is requested
  *
  * @author Anton Kurako (GoodforGod)
  * @since 7.11.2020
  */
-final record InputStreamNativeHttpResponse(HttpStatus status,
-                                           HttpHeaders headers,
-                                           InputStream inputStream)
-        implements SimpleHttpResponse {
+final class InputStreamNativeHttpResponse implements SimpleHttpResponse {
+
+    private final HttpResponse<InputStream> httpResponse;
+    private final HttpStatus status;
+    private HttpHeaders headers;
 
     InputStreamNativeHttpResponse(@NotNull HttpResponse<InputStream> httpResponse) {
-        this(HttpStatus.valueOf(httpResponse.statusCode()),
-                HttpHeaders.ofMultiMap(httpResponse.headers().map()),
-                httpResponse.body());
+        this.httpResponse = httpResponse;
+        this.status = HttpStatus.valueOf(httpResponse.statusCode());
+    }
+
+    @Override
+    public @NotNull HttpStatus status() {
+        return status;
+    }
+
+    @Override
+    public @NotNull HttpHeaders headers() {
+        if (headers == null) {
+            headers = HttpHeaders.ofMultiMap(httpResponse.headers().map());
+        }
+
+        return headers;
+    }
+
+    @Override
+    public @Nullable String header(@NotNull String name) {
+        return httpResponse.headers().firstValue(name).orElse(null);
     }
 
     @Override
     public @NotNull InputStream body() {
-        return inputStream;
+        return httpResponse.body();
     }
 
     /**
@@ -39,4 +60,9 @@ final record InputStreamNativeHttpResponse(HttpStatus status,
     public @NotNull String bodyAsString(@NotNull Charset charset) {
         return InputStreamUtils.getStringFromInputStream(body(), charset);
     }
+
+    @Override
+    public String toString() {
+        return "[status=" + status + ", headers=" + httpResponse.headers().map() + ']';
+    }
 }
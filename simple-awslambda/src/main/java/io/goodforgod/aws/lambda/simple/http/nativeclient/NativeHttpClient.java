@@ -5,6 +5,7 @@
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpRequest;
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpResponse;
+import io.goodforgod.http.common.HttpHeaders;
 import io.goodforgod.http.common.HttpStatus;
 import io.goodforgod.http.common.exception.HttpStatusException;
 import java.io.InputStream;
@@ -12,9 +13,9 @@
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 import java.nio.ByteBuffer;
-import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
+import java.util.function.Function;
 import javax.inject.Named;
 import javax.inject.Singleton;
 import org.jetbrains.annotations.ApiStatus.Internal;
@@ -33,29 +34,42 @@ public class NativeHttpClient implements SimpleHttpClient {
 
     public static final String QUALIFIER = "native";
 
-    private static final HttpClient.Version DEFAULT_VERSION = HttpClient.Version.HTTP_2;
-    private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofMinutes(11);
-
-    private final HttpClient client;
+    private final NativeHttpClientConfig config;
+    private volatile HttpClient client;
 
+    /**
+     * Client configured via {@link NativeHttpClientConfig#ofRuntime()} for AWS Runtime API endpoint
+     */
     public NativeHttpClient() {
-        this(getDefaultHttpClient());
+        this(NativeHttpClientConfig.ofRuntime());
     }
 
-    public NativeHttpClient(@NotNull HttpClient client) {
-        this.client = client;
+    /**
+     * @param config to create {@link HttpClient} with on first request, so no client threads are
+     *               started until client is actually used
+     */
+    public NativeHttpClient(@NotNull NativeHttpClientConfig config) {
+        this.config = config;
     }
 
-    private static HttpClient getDefaultHttpClient() {
-        return HttpClient.newBuilder()
-                .followRedirects(HttpClient.Redirect.NORMAL)
-                .connectTimeout(DEFAULT_CONNECTION_TIMEOUT)
-                .version(DEFAULT_VERSION)
-                .build();
+    public NativeHttpClient(@NotNull HttpClient client) {
+        this.config = null;
+        this.client = client;
     }
 
     public @NotNull HttpClient getClient() {
-        return client;
+        HttpClient httpClient = client;
+        if (httpClient == null) {
+            synchronized (this) {
+                httpClient = client;
+                if (httpClient == null) {
+                    httpClient = config.createClient();
+                    client = httpClient;
+                }
+            }
+        }
+
+        return httpClient;
     }
 
     @Override
@@ -95,24 +109,27 @@ private HttpRequest createHttpRequest(@NotNull SimpleHttpRequest request) {
 
         final HttpRequest.Builder builder = HttpRequest.newBuilder(request.uri())
                 .method(request.method(), publisher)
-                .version(DEFAULT_VERSION);
+                .version(getClient().version());
 
         if (request.timeout() != null) {
             builder.timeout(request.timeout());
         }
 
-        request.headers().getMultiMap().forEach((header, values) -> {
-            for (String value : values) {
-                builder.header(header, value);
-            }
-        });
+        final HttpHeaders headers = request.headers();
+        if (!headers.isEmpty()) {
+            headers.getMultiMap().forEach((header, values) -> {
+                for (String value : values) {
+                    builder.header(header, value);
+                }
+            });
+        }
 
         return builder.build();
     }
 
     private SimpleHttpResponse sendAndGetResponse(HttpRequest request) {
         try {
-            final HttpResponse<InputStream> response = client.send(request, HttpResponse.BodyHandlers.ofInputStream());
+            final HttpResponse<InputStream> response = send(request, HttpResponse.BodyHandlers.ofInputStream());
             return new InputStreamNativeHttpResponse(response);
         } catch (Exception e) {
             throw new HttpStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), e);
@@ -121,7 +138,7 @@ private SimpleHttpResponse sendAndGetResponse(HttpRequest request) {
 
     private SimpleHttpResponse sendAndDiscardResponse(HttpRequest request) {
         try {
-            final HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            final HttpResponse<Void> response = send(request, HttpResponse.BodyHandlers.discarding());
             return new VoidNativeHttpResponse(response);
         } catch (Exception e) {
             throw new HttpStatusException(HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage(), e);
@@ -129,13 +146,39 @@ private SimpleHttpResponse sendAndDiscardResponse(HttpRequest request) {
     }
 
     private CompletableFuture<SimpleHttpResponse> sendAndGetResponseAsync(HttpRequest request) {
-        return client.sendAsync(request, HttpResponse.BodyHandlers.ofInputStream())
-                .thenApply(InputStreamNativeHttpResponse::new);
+        return thenApplyCancellable(sendAsync(request, HttpResponse.BodyHandlers.ofInputStream()),
+                InputStreamNativeHttpResponse::new);
     }
 
     private CompletableFuture<SimpleHttpResponse> sendAndDiscardResponseAsync(HttpRequest request) {
-        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
-                .thenApply(VoidNativeHttpResponse::new);
+        return thenApplyCancellable(sendAsync(request, HttpResponse.BodyHandlers.discarding()),
+                VoidNativeHttpResponse::new);
+    }
+
+    /**
+     * Dependent stage doesn't propagate cancellation to stage it depends on, so cancellation of
+     * returned future is passed to original {@link HttpClient#sendAsync} future which aborts exchange
+     */
+    private static <T> CompletableFuture<SimpleHttpResponse> thenApplyCancellable(CompletableFuture<T> exchange,
+                                                                                  Function<T, SimpleHttpResponse> mapper) {
+        final CompletableFuture<SimpleHttpResponse> response = exchange.thenApply(mapper);
+        response.whenComplete((r, e) -> {
+            if (response.isCancelled()) {
+                exchange.cancel(true);
+            }
+        });
+        return response;
+    }
+
+    protected <T> HttpResponse<T> send(@NotNull HttpRequest request,
+                                       @NotNull HttpResponse.BodyHandler<T> bodyHandler)
+            throws Exception {
+        return getClient().send(request, bodyHandler);
+    }
+
+    protected <T> CompletableFuture<HttpResponse<T>> sendAsync(@NotNull HttpRequest request,
+                                                               @NotNull HttpResponse.BodyHandler<T> bodyHandler) {
+        return getClient().sendAsync(request, bodyHandler);
     }
 
     @Override
@@ -0,0 +1,144 @@
+package io.goodforgod.aws.lambda.simple.http.nativeclient;
+
+import io.goodforgod.aws.lambda.simple.utils.ExecutorUtils;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Configuration of {@link HttpClient} that is used by {@link NativeHttpClient}
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class NativeHttpClientConfig {
+
+    public enum ExecutorMode {
+        /**
+         * {@link HttpClient} default cached thread pool, each blocking send is handed off between caller,
+         * selector manager and pool threads
+         */
+        DEFAULT,
+        /**
+         * Dependent tasks are executed directly in thread that completes them (selector manager thread),
+         * so blocking send in single threaded event loop avoids pool thread handoffs.
+         * <p>
+         * Use only when all request bodies are non-blocking (in memory), blocking body publishers (like
+         * {@link java.io.InputStream} or stream handler bodies) are read in selector manager thread and
+         * stall all exchanges of client
+         */
+        DIRECT,
+        /**
+         * Virtual thread per task executor on Java 21+, fallbacks to {@link #DEFAULT} on older Java
+         */
+        VIRTUAL
+    }
+
+    private static final Duration DEFAULT_CONNECTION_TIMEOUT = Duration.ofMinutes(11);
+
+    private final ExecutorMode executorMode;
+    private final HttpClient.Version version;
+    private final Duration connectTimeout;
+
+    private NativeHttpClientConfig(ExecutorMode executorMode, HttpClient.Version version, Duration connectTimeout) {
+        this.executorMode = executorMode;
+        this.version = version;
+        this.connectTimeout = connectTimeout;
+    }
+
+    /**
+     * @return configuration for AWS Runtime API endpoint that is plain local HTTP/1.1 server, so
+     *             HTTP/2 upgrade attempt is skipped, {@link ExecutorMode#DEFAULT} is used cause
+     *             responses can be streamed from blocking handler bodies, even though
+     *             {@link ExecutorMode#DIRECT} round trip is faster (see
+     *             RuntimeClientExecutorBenchmark)
+     */
+    public static @NotNull NativeHttpClientConfig ofRuntime() {
+        return builder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+    }
+
+    /**
+     * @return configuration for general purpose outbound calls
+     */
+    public static @NotNull NativeHttpClientConfig ofDefault() {
+        return builder().build();
+    }
+
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    public static final class Builder {
+
+        private ExecutorMode executorMode = ExecutorMode.DEFAULT;
+        private HttpClient.Version version = HttpClient.Version.HTTP_2;
+        private Duration connectTimeout = DEFAULT_CONNECTION_TIMEOUT;
+
+        private Builder() {}
+
+        public @NotNull Builder executorMode(@NotNull ExecutorMode executorMode) {
+            this.executorMode = executorMode;
+            return this;
+        }
+
+        public @NotNull Builder version(@NotNull HttpClient.Version version) {
+            this.version = version;
+            return this;
+        }
+
+        public @NotNull Builder connectTimeout(@NotNull Duration connectTimeout) {
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        public @NotNull NativeHttpClientConfig build() {
+            return new NativeHttpClientConfig(executorMode, version, connectTimeout);
+        }
+    }
+
+    public @NotNull ExecutorMode executorMode() {
+        return executorMode;
+    }
+
+    public @NotNull HttpClient.Version version() {
+        return version;
+    }
+
+    public @NotNull Duration connectTimeout() {
+        return connectTimeout;
+    }
+
+    /**
+     * @return new client, threads (if any) are created only here, so config can be part of native
+     *             image heap
+     */
+    public @NotNull HttpClient createClient() {
+        final HttpClient.Builder builder = HttpClient.newBuilder()
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(connectTimeout)
+                .version(version);
+
+        final Executor executor = getExecutor(executorMode);
+        if (executor != null) {
+            builder.executor(executor);
+        }
+
+        return builder.build();
+    }
+
+    private static Executor getExecutor(ExecutorMode mode) {
+        return switch (mode) {
+            case DEFAULT -> null;
+            case DIRECT -> Runnable::run;
+            case VIRTUAL -> ExecutorUtils.getVirtualThreadExecutor();
+        };
+    }
+
+    @Override
+    public String toString() {
+        return "[executorMode=" + executorMode + ", version=" + version + ", connectTimeout=" + connectTimeout + ']';
+    }
+}
@@ -0,0 +1,126 @@
+package io.goodforgod.aws.lambda.simple.http.nativeclient;
+
+import static io.goodforgod.aws.lambda.simple.http.nativeclient.OutboundHttpClient.QUALIFIER;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpRequest;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpResponse;
+import io.goodforgod.http.common.HttpStatus;
+import io.goodforgod.http.common.exception.HttpStatusException;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Shared {@link SimpleHttpClient} for user code downstream calls, registered separately from AWS
+ * Runtime API client so connections (per host keep-alive pool, HTTP/2 multiplexed connections and
+ * TLS sessions) are reused across warm invocations instead of client being created per invocation.
+ * <p>
+ * Requests executed with {@link Context} have their timeout limited by invocation remaining time.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Named(QUALIFIER)
+@Singleton
+public class OutboundHttpClient extends NativeHttpClient implements SimpleHttpClient {
+
+    public static final String QUALIFIER = "outbound";
+
+    /**
+     * Time left for handler to process response and report result before invocation deadline
+     */
+    private static final Duration DEFAULT_DEADLINE_MARGIN = Duration.ofMillis(100);
+
+    private final Duration deadlineMargin;
+    private final OutboundHttpMetrics metrics = new OutboundHttpMetrics();
+
+    /**
+     * Client configured via {@link NativeHttpClientConfig#ofDefault()} (HTTP/2 where supported)
+     */
+    public OutboundHttpClient() {
+        this(NativeHttpClientConfig.ofDefault(), DEFAULT_DEADLINE_MARGIN);
+    }
+
+    /**
+     * @param config         to create client with on first request
+     * @param deadlineMargin to subtract from invocation remaining time for request timeout
+     */
+    public OutboundHttpClient(@NotNull NativeHttpClientConfig config, @NotNull Duration deadlineMargin) {
+        super(config);
+        this.deadlineMargin = deadlineMargin;
+    }
+
+    public @NotNull OutboundHttpMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @param request to execute
+     * @param context of invocation to limit request timeout with
+     * @return http response
+     */
+    public @NotNull SimpleHttpResponse execute(@NotNull SimpleHttpRequest request, @NotNull Context context) {
+        return execute(withDeadline(request, context));
+    }
+
+    public @NotNull SimpleHttpResponse executeAndForget(@NotNull SimpleHttpRequest request, @NotNull Context context) {
+        return executeAndForget(withDeadline(request, context));
+    }
+
+    public @NotNull CompletableFuture<SimpleHttpResponse> executeAsync(@NotNull SimpleHttpRequest request,
+                                                                       @NotNull Context context) {
+        return executeAsync(withDeadline(request, context));
+    }
+
+    public @NotNull CompletableFuture<SimpleHttpResponse> executeAndForgetAsync(@NotNull SimpleHttpRequest request,
+                                                                                @NotNull Context context) {
+        return executeAndForgetAsync(withDeadline(request, context));
+    }
+
+    private SimpleHttpRequest withDeadline(SimpleHttpRequest request, Context context) {
+        final Duration remaining = Duration.ofMillis(context.getRemainingTimeInMillis()).minus(deadlineMargin);
+        if (remaining.isNegative() || remaining.isZero()) {
+            throw new HttpStatusException(HttpStatus.GATEWAY_TIMEOUT,
+                    "Invocation deadline is reached, remaining time is " + context.getRemainingTimeInMillis() + " millis");
+        }
+
+        return request.withTimeoutLimit(remaining);
+    }
+
+    @Override
+    protected <T> HttpResponse<T> send(@NotNull HttpRequest request,
+                                       @NotNull HttpResponse.BodyHandler<T> bodyHandler)
+            throws Exception {
+        final long start = System.nanoTime();
+        try {
+            final HttpResponse<T> response = super.send(request, bodyHandler);
+            metrics.onResponse(response, System.nanoTime() - start);
+            return response;
+        } catch (Exception e) {
+            metrics.onFailure(System.nanoTime() - start);
+            throw e;
+        }
+    }
+
+    @Override
+    protected <T> CompletableFuture<HttpResponse<T>> sendAsync(@NotNull HttpRequest request,
+                                                               @NotNull HttpResponse.BodyHandler<T> bodyHandler) {
+        final long start = System.nanoTime();
+        // original future is returned, so its cancellation aborts exchange
+        final CompletableFuture<HttpResponse<T>> exchange = super.sendAsync(request, bodyHandler);
+        exchange.whenComplete((response, throwable) -> {
+            if (throwable == null) {
+                metrics.onResponse(response, System.nanoTime() - start);
+            } else {
+                metrics.onFailure(System.nanoTime() - start);
+            }
+        });
+        return exchange;
+    }
+}
@@ -0,0 +1,112 @@
+package io.goodforgod.aws.lambda.simple.http.nativeclient;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import javax.net.ssl.SSLSession;
+
+/**
+ * Metrics of {@link OutboundHttpClient} that are accumulated across warm invocations.
+ * <p>
+ * {@link HttpClient} does not expose its connection pool, so TLS handshakes are counted as responses
+ * with TLS session that was not seen before and pool hits as responses with already seen TLS session
+ * (reused keep-alive connection or multiplexed HTTP/2 stream), plain HTTP connection reuse is not
+ * observable.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class OutboundHttpMetrics {
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder tlsHandshakes = new LongAdder();
+    private final LongAdder tlsPoolHits = new LongAdder();
+    private final LongAdder http2Responses = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+    private final Set<SSLSession> sessions = Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
+    OutboundHttpMetrics() {}
+
+    void onResponse(HttpResponse<?> response, long latencyNanos) {
+        onLatency(latencyNanos);
+        if (response.version() == HttpClient.Version.HTTP_2) {
+            http2Responses.increment();
+        }
+
+        response.sslSession().ifPresent(session -> {
+            if (sessions.add(session)) {
+                tlsHandshakes.increment();
+            } else {
+                tlsPoolHits.increment();
+            }
+        });
+    }
+
+    void onFailure(long latencyNanos) {
+        onLatency(latencyNanos);
+        failures.increment();
+    }
+
+    private void onLatency(long latencyNanos) {
+        requests.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    /**
+     * @return responses received over newly established TLS session
+     */
+    public long getTlsHandshakes() {
+        return tlsHandshakes.sum();
+    }
+
+    /**
+     * @return responses received over already established TLS session
+     */
+    public long getTlsPoolHits() {
+        return tlsPoolHits.sum();
+    }
+
+    public long getHttp2Responses() {
+        return http2Responses.sum();
+    }
+
+    /**
+     * @return summary latency until response headers are received
+     */
+    public long getTotalLatencyNanos() {
+        return totalLatencyNanos.sum();
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    public long getAverageLatencyNanos() {
+        final long count = getRequests();
+        return (count == 0)
+                ? 0
+                : getTotalLatencyNanos() / count;
+    }
+
+    @Override
+    public String toString() {
+        return "[requests=" + getRequests() + ", failures=" + getFailures() + ", tlsHandshakes=" + getTlsHandshakes()
+                + ", tlsPoolHits=" + getTlsPoolHits() + ", http2Responses=" + getHttp2Responses()
+                + ", averageLatencyNanos=" + getAverageLatencyNanos() + ", maxLatencyNanos=" + getMaxLatencyNanos() + ']';
+    }
+}
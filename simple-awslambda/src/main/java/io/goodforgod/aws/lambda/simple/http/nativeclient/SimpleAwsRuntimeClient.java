@@ -10,8 +10,8 @@
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpRequest;
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpResponse;
+import io.goodforgod.aws.lambda.simple.metrics.jfr.RuntimeApiCallEvent;
 import io.goodforgod.aws.lambda.simple.utils.StringUtils;
-import io.goodforgod.aws.lambda.simple.utils.TimeUtils;
 import io.goodforgod.http.common.HttpHeaders;
 import io.goodforgod.http.common.HttpMethod;
 import io.goodforgod.http.common.HttpStatus;
@@ -70,18 +70,24 @@ public SimpleAwsRuntimeClient(SimpleHttpClient httpClient) {
                 .timeout(DEFAULT_TIMEOUT)
                 .build();
 
+        final RuntimeApiCallEvent callEvent = new RuntimeApiCallEvent();
+        callEvent.begin();
         final SimpleHttpResponse response = httpClient.execute(request);
-        logger.trace("Event received with httpCode '{}' with headers: {}", response.status(), response.headers());
+        if (logger.isTraceEnabled()) {
+            logger.trace("Event received with httpCode '{}' with headers: {}", response.status(), response.headers());
+        }
 
         if (!HttpStatus.OK.equals(response.status())) {
             throw new HttpStatusException(response.status(), response.bodyAsString());
         }
 
-        final EventContext eventContext = new EventContext(response.headers());
+        final EventContext eventContext = new EventContext(response);
         if (StringUtils.isEmpty(eventContext.getAwsRequestId())) {
             throw new IllegalStateException("AWS Request ID is not present!");
         }
 
+        commit(callEvent, RuntimeApiCallEvent.NEXT, eventContext.getAwsRequestId(), response.status().code());
+
         return new SimpleEvent(response.body(), eventContext);
     }
 
@@ -91,20 +97,16 @@ public void reportInvocationSuccess(@NotNull URI runtimeEndpoint,
                                         @NotNull Context context) {
         final URI responseUri = getInvocationResponseUri(runtimeEndpoint, context.getAwsRequestId());
         logger.debug("Responding to AWS Invocation URI: {}", responseUri);
-        final long respondingStart = (logger.isDebugEnabled())
-                ? TimeUtils.getTime()
-                : 0;
-
         final SimpleHttpRequest request = SimpleHttpRequest.builder(responseUri)
                 .method(HttpMethod.POST)
                 .timeout(DEFAULT_TIMEOUT)
                 .body(lambdaResult)
                 .build();
 
+        final RuntimeApiCallEvent callEvent = new RuntimeApiCallEvent();
+        callEvent.begin();
         final SimpleHttpResponse awsResponse = httpClient.execute(request);
-        if (logger.isDebugEnabled()) {
-            logger.debug("Responding to AWS Invocation took: {} millis", TimeUtils.timeTook(respondingStart));
-        }
+        commit(callEvent, RuntimeApiCallEvent.RESPONSE, context.getAwsRequestId(), awsResponse.status().code());
 
         if (logger.isTraceEnabled()) {
             final String responseBody = awsResponse.bodyAsString();
@@ -119,7 +121,7 @@ public void reportInitializationError(@NotNull URI runtimeEndpoint,
         logger.error("Function initialization error occurred", throwable);
         final URI errorUri = runtimeEndpoint.resolve(AwsRuntimeVariables.INIT_ERROR);
         logger.debug("Responding to AWS Runtime Init Error URI: {}", errorUri);
-        respondWithError(errorUri, throwable);
+        respondWithError(errorUri, throwable, RuntimeApiCallEvent.INIT_ERROR, null);
     }
 
     @Override
@@ -129,10 +131,10 @@ public void reportInvocationError(@NotNull URI runtimeEndpoint,
         logger.error("Function Invocation error occurred", throwable);
         final URI errorUri = getInvocationErrorUri(runtimeEndpoint, context.getAwsRequestId());
         logger.debug("Responding to AWS Invocation Error URI: {}", errorUri);
-        respondWithError(errorUri, throwable);
+        respondWithError(errorUri, throwable, RuntimeApiCallEvent.ERROR, context.getAwsRequestId());
     }
 
-    private void respondWithError(@NotNull URI uri, @NotNull Throwable throwable) {
+    private void respondWithError(@NotNull URI uri, @NotNull Throwable throwable, String operation, String requestId) {
         final SimpleHttpRequest request = SimpleHttpRequest.builder(uri)
                 .method(HttpMethod.POST)
                 .body(getErrorResponseBody(throwable))
@@ -140,7 +142,19 @@ private void respondWithError(@NotNull URI uri, @NotNull Throwable throwable) {
                 .timeout(DEFAULT_TIMEOUT)
                 .build();
 
+        final RuntimeApiCallEvent callEvent = new RuntimeApiCallEvent();
+        callEvent.begin();
         httpClient.executeAndForget(request);
+        commit(callEvent, operation, requestId, 0);
+    }
+
+    private static void commit(RuntimeApiCallEvent event, String operation, String requestId, int status) {
+        if (event.shouldCommit()) {
+            event.operation = operation;
+            event.requestId = requestId;
+            event.status = status;
+            event.commit();
+        }
     }
 
     /**
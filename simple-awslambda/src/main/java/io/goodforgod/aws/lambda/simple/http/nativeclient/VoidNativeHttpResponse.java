@@ -7,17 +7,43 @@
 import java.net.http.HttpResponse;
 import java.nio.charset.Charset;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 /**
- * Native {@link HttpResponse} wrapper without body for {@link SimpleHttpResponse}
+ * Native {@link HttpResponse} wrapper without body for {@link SimpleHttpResponse}, headers are
+ * copied into {@link HttpHeaders} only when {@link #headers()} is requested
  *
  * @author Anton Kurako (GoodforGod)
  * @since 20.08.2020
  */
-final record VoidNativeHttpResponse(HttpStatus status, HttpHeaders headers) implements SimpleHttpResponse {
+final class VoidNativeHttpResponse implements SimpleHttpResponse {
+
+    private final HttpResponse<Void> httpResponse;
+    private final HttpStatus status;
+    private HttpHeaders headers;
 
     VoidNativeHttpResponse(@NotNull HttpResponse<Void> httpResponse) {
-        this(HttpStatus.valueOf(httpResponse.statusCode()), HttpHeaders.ofMultiMap(httpResponse.headers().map()));
+        this.httpResponse = httpResponse;
+        this.status = HttpStatus.valueOf(httpResponse.statusCode());
+    }
+
+    @Override
+    public @NotNull HttpStatus status() {
+        return status;
+    }
+
+    @Override
+    public @NotNull HttpHeaders headers() {
+        if (headers == null) {
+            headers = HttpHeaders.ofMultiMap(httpResponse.headers().map());
+        }
+
+        return headers;
+    }
+
+    @Override
+    public @Nullable String header(@NotNull String name) {
+        return httpResponse.headers().firstValue(name).orElse(null);
     }
 
     @Override
@@ -29,4 +55,9 @@ final record VoidNativeHttpResponse(HttpStatus status, HttpHeaders headers) impl
     public String bodyAsString(@NotNull Charset charset) {
         return null;
     }
+
+    @Override
+    public String toString() {
+        return "[status=" + status + ", headers=" + httpResponse.headers().map() + ']';
+    }
 }
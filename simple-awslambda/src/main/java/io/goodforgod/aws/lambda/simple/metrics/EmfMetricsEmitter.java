@@ -0,0 +1,311 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import io.goodforgod.aws.lambda.simple.config.AwsContextVariables;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer.Phase;
+import io.goodforgod.aws.lambda.simple.utils.StringUtils;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Writes per invocation runtime overhead as CloudWatch Embedded Metric Format documents to stdout,
+ * so CloudWatch extracts metrics from logs without metrics API calls.
+ * <p>
+ * Values of N invocations are aggregated into single document as value arrays (EMF allows up to 100
+ * values per metric), pending values are flushed when event loop ends or on JVM shutdown. Document
+ * parts are pre-encoded and values are written as ASCII digits into reused buffer, so recording does
+ * not allocate.
+ * <p>
+ * Emitter is opt-in and should be registered in runtime, as function name is resolved from environment:
+ *
+ * <pre>
+ * context.registerBean(new EmfMetricsEmitter());
+ * </pre>
+ *
+ * @see <a href=
+ *          "https://docs.aws.amazon.com/AmazonCloudWatch/latest/monitoring/CloudWatch_Embedded_Metric_Format_Specification.html">EMF
+ *          Specification</a>
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class EmfMetricsEmitter implements InvocationMetrics, AutoCloseable {
+
+    public static final String DEFAULT_NAMESPACE = "SimpleAwsLambda";
+    public static final int DEFAULT_BATCH_SIZE = 10;
+    public static final int MAX_BATCH_SIZE = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(EmfMetricsEmitter.class);
+
+    private static final String MICROSECONDS = "Microseconds";
+    private static final String BYTES = "Bytes";
+    private static final String COUNT = "Count";
+
+    private static final int NEXT_EVENT_WAIT = 0;
+    private static final int INPUT_CONVERSION = 1;
+    private static final int HANDLER = 2;
+    private static final int OUTPUT_CONVERSION = 3;
+    private static final int RESPONSE_POST = 4;
+    private static final int INPUT_BYTES = 5;
+    private static final int OUTPUT_BYTES = 6;
+    private static final int COLD_START = 7;
+    private static final int INIT_DURATION = 8;
+    private static final int ALLOCATED_BYTES = 9;
+    private static final int CPU_TIME = 10;
+    private static final int HEAP_USED = 11;
+
+    private static final String[][] METRICS = {
+            { "NextEventWait", MICROSECONDS },
+            { "InputConversion", MICROSECONDS },
+            { "Handler", MICROSECONDS },
+            { "OutputConversion", MICROSECONDS },
+            { "ResponsePost", MICROSECONDS },
+            { "InputBytes", BYTES },
+            { "OutputBytes", BYTES },
+            { "ColdStart", COUNT },
+            { "InitDuration", MICROSECONDS },
+            { "AllocatedBytes", BYTES },
+            { "CpuTime", MICROSECONDS },
+            { "HeapUsed", BYTES },
+    };
+
+    private static final byte[] DOCUMENT_START = ascii("{\"_aws\":{\"Timestamp\":");
+    private static final byte[] METRICS_END = ascii("]}]}");
+    private static final byte[] DOCUMENT_END = ascii("}\n");
+    private static final byte[] METRICS_DELIMITER = ascii(",");
+    private static final byte[] VALUES_END = ascii("]");
+
+    private final int batchSize;
+    private final boolean resourceTracking;
+    private final OutputStream output;
+    private final byte[] namespaceStart;
+    private final byte[][] definitions = new byte[METRICS.length][];
+    private final byte[][] valuesStart = new byte[METRICS.length][];
+
+    private final long[][] values;
+    private final int[] counts = new int[METRICS.length];
+    private int invocations = 0;
+
+    private byte[] dimension;
+    private byte[] buffer = new byte[4096];
+    private int size = 0;
+    private boolean shutdownHookRegistered = false;
+
+    public EmfMetricsEmitter() {
+        this(DEFAULT_NAMESPACE, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param namespace CloudWatch metrics namespace
+     * @param batchSize number of invocations aggregated into single document
+     */
+    public EmfMetricsEmitter(@NotNull String namespace, int batchSize) {
+        this(namespace, batchSize, System.out);
+    }
+
+    /**
+     * @param namespace CloudWatch metrics namespace
+     * @param batchSize number of invocations aggregated into single document
+     * @param output    to write documents to
+     */
+    public EmfMetricsEmitter(@NotNull String namespace, int batchSize, @NotNull OutputStream output) {
+        this(namespace, batchSize, false, output);
+    }
+
+    /**
+     * @param namespace        CloudWatch metrics namespace
+     * @param batchSize        number of invocations aggregated into single document
+     * @param resourceTracking true to report allocated bytes, CPU time and heap used per invocation
+     */
+    public EmfMetricsEmitter(@NotNull String namespace, int batchSize, boolean resourceTracking) {
+        this(namespace, batchSize, resourceTracking, System.out);
+    }
+
+    /**
+     * @param namespace        CloudWatch metrics namespace
+     * @param batchSize        number of invocations aggregated into single document
+     * @param resourceTracking true to report allocated bytes, CPU time and heap used per invocation
+     * @param output           to write documents to
+     */
+    public EmfMetricsEmitter(@NotNull String namespace,
+                             int batchSize,
+                             boolean resourceTracking,
+                             @NotNull OutputStream output) {
+        if (batchSize < 1 || batchSize > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("Batch size must be in range [1, " + MAX_BATCH_SIZE + "], but was: " + batchSize);
+        }
+
+        this.batchSize = batchSize;
+        this.resourceTracking = resourceTracking;
+        this.output = output;
+        this.values = new long[METRICS.length][batchSize];
+        this.namespaceStart = ascii(",\"CloudWatchMetrics\":[{\"Namespace\":\"" + escape(namespace)
+                + "\",\"Dimensions\":[[\"FunctionName\"]],\"Metrics\":[");
+        for (int i = 0; i < METRICS.length; i++) {
+            this.definitions[i] = ascii("{\"Name\":\"" + METRICS[i][0] + "\",\"Unit\":\"" + METRICS[i][1] + "\"}");
+            this.valuesStart[i] = ascii(",\"" + METRICS[i][0] + "\":[");
+        }
+    }
+
+    @Override
+    public synchronized void record(@NotNull PhaseTimer timer) {
+        if (!shutdownHookRegistered) {
+            // registered in runtime on first invocation, so thread is not part of native image heap
+            Runtime.getRuntime().addShutdownHook(new Thread(this::flush, "lambda-metrics-flush"));
+            shutdownHookRegistered = true;
+        }
+
+        add(NEXT_EVENT_WAIT, timer.getMicros(Phase.NEXT_EVENT));
+        add(INPUT_CONVERSION, timer.getMicros(Phase.INPUT_CONVERSION));
+        add(HANDLER, timer.getMicros(Phase.HANDLER));
+        add(OUTPUT_CONVERSION, timer.getMicros(Phase.OUTPUT_CONVERSION));
+        add(RESPONSE_POST, timer.getMicros(Phase.RESPONSE));
+        if (timer.getInputBytes() >= 0) {
+            add(INPUT_BYTES, timer.getInputBytes());
+        }
+        if (timer.getOutputBytes() >= 0) {
+            add(OUTPUT_BYTES, timer.getOutputBytes());
+        }
+        add(COLD_START, timer.isColdStart()
+                ? 1
+                : 0);
+        if (timer.isColdStart()) {
+            add(INIT_DURATION, TimeUnit.NANOSECONDS.toMicros(timer.getInitNanos()));
+        }
+
+        if (timer.getAllocatedBytes() >= 0) {
+            add(ALLOCATED_BYTES, timer.getAllocatedBytes());
+        }
+        if (timer.getCpuNanos() >= 0) {
+            add(CPU_TIME, TimeUnit.NANOSECONDS.toMicros(timer.getCpuNanos()));
+        }
+        if (timer.getHeapUsedBytes() >= 0) {
+            add(HEAP_USED, timer.getHeapUsedBytes());
+        }
+
+        if (++invocations == batchSize) {
+            flush();
+        }
+    }
+
+    @Override
+    public boolean isResourceTracking() {
+        return resourceTracking;
+    }
+
+    private void add(int metric, long value) {
+        values[metric][counts[metric]++] = Math.max(value, 0);
+    }
+
+    /**
+     * Writes pending values as single document if any
+     */
+    @Override
+    public synchronized void flush() {
+        if (invocations == 0) {
+            return;
+        }
+
+        size = 0;
+        write(DOCUMENT_START);
+        writeLong(System.currentTimeMillis());
+        write(namespaceStart);
+        boolean first = true;
+        for (int i = 0; i < METRICS.length; i++) {
+            if (counts[i] > 0) {
+                if (!first) {
+                    write(METRICS_DELIMITER);
+                }
+                write(definitions[i]);
+                first = false;
+            }
+        }
+        write(METRICS_END);
+        write(getDimension());
+
+        for (int i = 0; i < METRICS.length; i++) {
+            if (counts[i] > 0) {
+                write(valuesStart[i]);
+                for (int j = 0; j < counts[i]; j++) {
+                    if (j > 0) {
+                        write(METRICS_DELIMITER);
+                    }
+                    writeLong(values[i][j]);
+                }
+                write(VALUES_END);
+            }
+        }
+        write(DOCUMENT_END);
+
+        try {
+            output.write(buffer, 0, size);
+            output.flush();
+        } catch (IOException e) {
+            logger.warn("EMF metrics writing failed: {}", e.getMessage());
+        } finally {
+            Arrays.fill(counts, 0);
+            invocations = 0;
+        }
+    }
+
+    private byte[] getDimension() {
+        if (dimension == null) {
+            final String functionName = System.getenv(AwsContextVariables.AWS_LAMBDA_FUNCTION_NAME);
+            dimension = ascii(",\"FunctionName\":\"" + (StringUtils.isEmpty(functionName)
+                    ? "unknown"
+                    : escape(functionName)) + "\"");
+        }
+
+        return dimension;
+    }
+
+    private void write(byte[] bytes) {
+        ensureCapacity(bytes.length);
+        System.arraycopy(bytes, 0, buffer, size, bytes.length);
+        size += bytes.length;
+    }
+
+    private void writeLong(long value) {
+        ensureCapacity(20);
+        if (value == 0) {
+            buffer[size++] = '0';
+            return;
+        }
+
+        final int start = size;
+        long remaining = value;
+        while (remaining > 0) {
+            buffer[size++] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+
+        for (int i = start, j = size - 1; i < j; i++, j--) {
+            final byte digit = buffer[i];
+            buffer[i] = buffer[j];
+            buffer[j] = digit;
+        }
+    }
+
+    private void ensureCapacity(int length) {
+        if (size + length > buffer.length) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+        }
+    }
+
+    private static String escape(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void close() {
+        flush();
+    }
+}
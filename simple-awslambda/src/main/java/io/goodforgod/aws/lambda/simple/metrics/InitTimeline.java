@@ -0,0 +1,480 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import io.goodforgod.aws.lambda.simple.config.SimpleLambdaContextVariables;
+import io.goodforgod.aws.lambda.simple.metrics.jfr.InitPhaseEvent;
+import io.goodforgod.aws.lambda.simple.utils.StringUtils;
+import java.lang.management.ClassLoadingMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cold start timeline from JVM start to first Runtime API next invocation call, entrypoint begins
+ * timeline, runtime components measure their initialization phases and event loop completes it
+ * after first event is received, timeline is logged as single JSON line:
+ *
+ * <pre>
+ * Init timeline: {"totalMicros":84210,"jvmStartToMainMillis":312,"classesLoaded":1830,"phases":[{"phase":"initializeRuntimeContext","depth":0,"micros":41020,"classes":1210},...]}
+ * </pre>
+ * <p>
+ * Phase durations are always measured as they cost only a clock read, JVM uptime and loaded classes
+ * per phase are reported when {@link SimpleLambdaContextVariables#INIT_TIMELINE} is {@link #JVM},
+ * with {@link #CLASSES} each class loaded during init is also logged with its phase and load time
+ * recorded by Flight Recorder (recording itself slows init down, so use it only to find what to
+ * optimize).
+ * <p>
+ * In native image phases executed during image build are marked as build time and are not part of
+ * total, timeline is one per process and phases started when no timeline is active only emit
+ * {@link InitPhaseEvent}.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class InitTimeline {
+
+    public static final String INITIALIZE_RUNTIME_CONTEXT = "initializeRuntimeContext";
+    public static final String CONVERTER = "converter";
+    public static final String LOGGER_REFRESH = "loggerRefresh";
+    public static final String SETUP_IN_RUNTIME = "setupInRuntime";
+    public static final String HTTP_CLIENT = "httpClient";
+    public static final String HANDLER_RESOLUTION = "handlerResolution";
+    public static final String WARMUP = "warmup";
+    public static final String FIRST_NEXT_EVENT = "firstNextEvent";
+
+    /**
+     * {@link SimpleLambdaContextVariables#INIT_TIMELINE} value to report JVM uptime and loaded classes
+     */
+    public static final String JVM = "jvm";
+    /**
+     * {@link SimpleLambdaContextVariables#INIT_TIMELINE} value to also trace loaded classes
+     */
+    public static final String CLASSES = "classes";
+
+    private static final Logger logger = LoggerFactory.getLogger(InitTimeline.class);
+
+    private static final String CLASS_LOAD_EVENT = "jdk.ClassLoad";
+
+    private static volatile InitTimeline active;
+    private static volatile InitTimeline last;
+
+    /**
+     * @param phase             name of phase
+     * @param depth             of phase nested in other phases, 0 for top level
+     * @param nanos             phase took
+     * @param classesLoaded     during phase or -1 if not tracked
+     * @param classLoadingNanos spent loading classes during phase or -1 if not traced
+     * @param buildTime         true if phase was executed during native image build
+     */
+    public record Phase(@NotNull String phase,
+                        int depth,
+                        long nanos,
+                        long classesLoaded,
+                        long classLoadingNanos,
+                        boolean buildTime) {}
+
+    /**
+     * Started phase, ended phase is added to timeline, phase that is not ended until timeline completes
+     * is not reported
+     */
+    public static final class Span {
+
+        private final InitTimeline timeline;
+        private final InitPhaseEvent event;
+        private final String phase;
+        private final int depth;
+        private final long startNanos;
+        private final long startClasses;
+        private final Instant startInstant;
+        private final boolean buildTime;
+        private Instant endInstant;
+        private final int index;
+        private boolean ended = false;
+
+        private Span(InitTimeline timeline, String phase) {
+            this.event = InitPhaseEvent.start(phase);
+            this.timeline = timeline;
+            this.phase = phase;
+            this.buildTime = isBuildTime();
+            if (timeline == null) {
+                this.depth = 0;
+                this.index = -1;
+                this.startClasses = -1;
+                this.startInstant = null;
+            } else {
+                if (!buildTime) {
+                    timeline.startRuntime();
+                }
+                this.startClasses = timeline.getLoadedClasses(buildTime);
+                this.startInstant = timeline.isTracing(buildTime)
+                        ? Instant.now()
+                        : null;
+                // phases are reported in start order, depth is number of phases still open
+                synchronized (timeline.phases) {
+                    this.depth = timeline.open.size();
+                    this.index = timeline.phases.size();
+                    timeline.phases.add(null);
+                    timeline.spans.add(this);
+                    timeline.open.add(this);
+                }
+            }
+            this.startNanos = System.nanoTime();
+        }
+
+        /**
+         * Ends phase, repeated calls are ignored, nested phases that are still open are no longer
+         * counted in depth of phases started after this one
+         */
+        public synchronized void end() {
+            if (ended) {
+                return;
+            }
+
+            ended = true;
+            final long nanos = System.nanoTime() - startNanos;
+            event.classesLoaded = -1;
+            if (timeline != null) {
+                final long endClasses = timeline.getLoadedClasses(buildTime);
+                final long classesLoaded = (startClasses == -1 || endClasses == -1)
+                        ? -1
+                        : endClasses - startClasses;
+                event.classesLoaded = classesLoaded;
+                synchronized (timeline.phases) {
+                    timeline.phases.set(index, new Phase(phase, depth, nanos, classesLoaded, -1, buildTime));
+                    final int opened = timeline.open.indexOf(this);
+                    if (opened != -1) {
+                        timeline.open.subList(opened, timeline.open.size()).clear();
+                    }
+                }
+                if (startInstant != null) {
+                    endInstant = Instant.now();
+                }
+            }
+            event.commit();
+        }
+    }
+
+    private final List<Phase> phases = new ArrayList<>();
+    private final List<Span> spans = new ArrayList<>();
+    private final List<Span> open = new ArrayList<>();
+
+    private long runtimeStartNanos = 0;
+    private long totalNanos = -1;
+    private long jvmStartToMainMillis = -1;
+    private long classesLoaded = -1;
+    private long classLoadingNanos = -1;
+
+    private ClassLoadingMXBean classLoading;
+    private long startClasses = -1;
+    private Recording recording;
+
+    private InitTimeline() {}
+
+    /**
+     * Begins new timeline, previous active timeline is discarded
+     */
+    public static void begin() {
+        active = new InitTimeline();
+    }
+
+    /**
+     * @param phase name to start
+     * @return started phase to end when phase completes
+     */
+    public static @NotNull Span start(@NotNull String phase) {
+        return new Span(active, phase);
+    }
+
+    /**
+     * Completes active timeline and logs it, does nothing if there is no active timeline
+     *
+     * @return completed timeline or null if there was no active timeline
+     */
+    public static @Nullable InitTimeline complete() {
+        final InitTimeline timeline = active;
+        if (timeline == null) {
+            return null;
+        }
+
+        active = null;
+        timeline.finish();
+        last = timeline;
+        return timeline;
+    }
+
+    /**
+     * @return last completed timeline or null
+     */
+    public static @Nullable InitTimeline getLast() {
+        return last;
+    }
+
+    private static boolean isBuildTime() {
+        return "buildtime".equals(System.getProperty("org.graalvm.nativeimage.imagecode"));
+    }
+
+    /**
+     * Resolves detail level on first phase executed in runtime, so native image reads function
+     * environment, system property is used when environment variable is absent
+     */
+    private void startRuntime() {
+        if (runtimeStartNanos != 0) {
+            return;
+        }
+
+        runtimeStartNanos = System.nanoTime();
+        String mode = System.getenv(SimpleLambdaContextVariables.INIT_TIMELINE);
+        if (StringUtils.isEmpty(mode)) {
+            mode = System.getProperty(SimpleLambdaContextVariables.INIT_TIMELINE);
+        }
+
+        if (JVM.equals(mode) || CLASSES.equals(mode)) {
+            try {
+                jvmStartToMainMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+                classLoading = ManagementFactory.getClassLoadingMXBean();
+                startClasses = classLoading.getTotalLoadedClassCount();
+            } catch (Throwable e) {
+                logger.debug("Init timeline JVM metrics are not available: {}", e.getMessage());
+                return;
+            }
+        }
+
+        if (CLASSES.equals(mode)) {
+            try {
+                recording = new Recording();
+                recording.setName("simple-lambda-init-classes");
+                recording.enable(CLASS_LOAD_EVENT).withoutStackTrace().withThreshold(Duration.ZERO);
+                recording.start();
+            } catch (Throwable e) {
+                logger.debug("Init timeline class tracing is not available: {}", e.getMessage());
+                recording = null;
+            }
+        }
+    }
+
+    private long getLoadedClasses(boolean buildTime) {
+        return (buildTime || classLoading == null)
+                ? -1
+                : classLoading.getTotalLoadedClassCount();
+    }
+
+    private boolean isTracing(boolean buildTime) {
+        return !buildTime && recording != null;
+    }
+
+    private void finish() {
+        if (runtimeStartNanos != 0) {
+            totalNanos = System.nanoTime() - runtimeStartNanos;
+        }
+        if (classLoading != null) {
+            classesLoaded = classLoading.getTotalLoadedClassCount() - startClasses;
+        }
+
+        final List<String> trace = (recording == null)
+                ? List.of()
+                : trace();
+
+        if (logger.isInfoEnabled()) {
+            logger.info("Init timeline: {}", toJson());
+            for (String line : trace) {
+                logger.info("Init class load: {}", line);
+            }
+        }
+    }
+
+    /**
+     * Reads class load events recorded during init, assigns each class to innermost phase it was
+     * loaded in and sums class loading time of top level loads (nested loads are part of them)
+     *
+     * @return trace lines in load order
+     */
+    private List<String> trace() {
+        final List<RecordedEvent> events;
+        Path dump = null;
+        try {
+            recording.stop();
+            dump = Files.createTempFile("simple-lambda-init-classes", ".jfr");
+            recording.dump(dump);
+            events = new ArrayList<>(RecordingFile.readAllEvents(dump));
+        } catch (Throwable e) {
+            logger.debug("Init timeline class trace reading failed: {}", e.getMessage());
+            return List.of();
+        } finally {
+            recording.close();
+            recording = null;
+            if (dump != null) {
+                try {
+                    Files.deleteIfExists(dump);
+                } catch (Exception e) {
+                    // ignore
+                }
+            }
+        }
+
+        events.removeIf(event -> !CLASS_LOAD_EVENT.equals(event.getEventType().getName()));
+        events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+
+        final long[] phaseClassLoading = new long[spans.size()];
+        final List<String> trace = new ArrayList<>(events.size());
+        long total = 0;
+        Instant topLevelEnd = Instant.MIN;
+        for (RecordedEvent event : events) {
+            final long nanos = event.getDuration().toNanos();
+            final boolean topLevel = !event.getStartTime().isBefore(topLevelEnd);
+            if (topLevel) {
+                total += nanos;
+                topLevelEnd = event.getEndTime();
+            }
+
+            final int span = getSpan(event.getStartTime());
+            if (span != -1 && topLevel) {
+                phaseClassLoading[span] += nanos;
+            }
+
+            final String className = (event.getClass("loadedClass") == null)
+                    ? "unknown"
+                    : event.getClass("loadedClass").getName();
+            trace.add("{\"class\":\"" + className
+                    + "\",\"phase\":\"" + ((span == -1)
+                            ? ""
+                            : spans.get(span).phase)
+                    + "\",\"micros\":" + TimeUnit.NANOSECONDS.toMicros(nanos) + "}");
+        }
+
+        synchronized (phases) {
+            for (int i = 0; i < spans.size(); i++) {
+                final Phase phase = phases.get(i);
+                if (phase != null && !phase.buildTime()) {
+                    phases.set(i, new Phase(phase.phase(), phase.depth(), phase.nanos(), phase.classesLoaded(),
+                            phaseClassLoading[i], false));
+                }
+            }
+        }
+
+        classLoadingNanos = total;
+        return trace;
+    }
+
+    /**
+     * @param instant of class load start
+     * @return index of innermost span that was active at instant or -1
+     */
+    private int getSpan(Instant instant) {
+        int found = -1;
+        for (int i = 0; i < spans.size(); i++) {
+            final Span span = spans.get(i);
+            if (span.startInstant != null
+                    && !instant.isBefore(span.startInstant)
+                    && (span.endInstant == null || instant.isBefore(span.endInstant))
+                    && (found == -1 || span.depth >= spans.get(found).depth)) {
+                found = i;
+            }
+        }
+        return found;
+    }
+
+    /**
+     * @return ended phases in start order
+     */
+    public @NotNull List<Phase> getPhases() {
+        synchronized (phases) {
+            return phases.stream()
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+    }
+
+    /**
+     * @return nanos from first phase executed in runtime until timeline completed or -1
+     */
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * @return JVM uptime when first phase was started in runtime or -1 if not tracked
+     */
+    public long getJvmStartToMainMillis() {
+        return jvmStartToMainMillis;
+    }
+
+    /**
+     * @return classes loaded during init or -1 if not tracked
+     */
+    public long getClassesLoaded() {
+        return classesLoaded;
+    }
+
+    /**
+     * @return time spent loading classes during init or -1 if not traced
+     */
+    public long getClassLoadingNanos() {
+        return classLoadingNanos;
+    }
+
+    /**
+     * @return timeline as single line JSON
+     */
+    public @NotNull String toJson() {
+        final StringBuilder builder = new StringBuilder(256).append('{');
+        builder.append("\"totalMicros\":").append(toMicros(totalNanos));
+        if (jvmStartToMainMillis != -1) {
+            builder.append(",\"jvmStartToMainMillis\":").append(jvmStartToMainMillis);
+        }
+        if (classesLoaded != -1) {
+            builder.append(",\"classesLoaded\":").append(classesLoaded);
+        }
+        if (classLoadingNanos != -1) {
+            builder.append(",\"classLoadingMicros\":").append(toMicros(classLoadingNanos));
+        }
+
+        builder.append(",\"phases\":[");
+        final List<Phase> completed = getPhases();
+        for (int i = 0; i < completed.size(); i++) {
+            final Phase phase = completed.get(i);
+            if (i > 0) {
+                builder.append(',');
+            }
+
+            builder.append("{\"phase\":\"").append(phase.phase())
+                    .append("\",\"depth\":").append(phase.depth())
+                    .append(",\"micros\":").append(toMicros(phase.nanos()));
+            if (phase.classesLoaded() != -1) {
+                builder.append(",\"classes\":").append(phase.classesLoaded());
+            }
+            if (phase.classLoadingNanos() != -1) {
+                builder.append(",\"classLoadingMicros\":").append(toMicros(phase.classLoadingNanos()));
+            }
+            if (phase.buildTime()) {
+                builder.append(",\"buildTime\":true");
+            }
+            builder.append('}');
+        }
+
+        return builder.append("]}").toString();
+    }
+
+    private static long toMicros(long nanos) {
+        return (nanos < 0)
+                ? -1
+                : TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    @Override
+    public String toString() {
+        return toJson();
+    }
+}
@@ -0,0 +1,45 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runtime instrumentation SPI, bean registered in {@link io.goodforgod.aws.lambda.simple.runtime.RuntimeContext}
+ * receives {@link PhaseTimer} of each completed invocation from event loop.
+ * <p>
+ * When no bean is registered {@link #noop()} is used and is inlined away by JIT.
+ *
+ * @see SimpleInvocationMetrics
+ * @see EmfMetricsEmitter
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public interface InvocationMetrics {
+
+    /**
+     * Called after invocation response is reported, timer is reused after method returns, so it should
+     * not be retained
+     *
+     * @param timer of completed invocation
+     */
+    void record(@NotNull PhaseTimer timer);
+
+    /**
+     * @return true if event loop should sample allocated bytes, CPU time and heap usage for
+     *             {@link PhaseTimer}, sampling costs few hundred nanos per phase
+     */
+    default boolean isResourceTracking() {
+        return false;
+    }
+
+    /**
+     * Called when event loop ends to publish pending values if any
+     */
+    default void flush() {}
+
+    /**
+     * @return metrics that record nothing
+     */
+    static @NotNull InvocationMetrics noop() {
+        return NoopInvocationMetrics.INSTANCE;
+    }
+}
@@ -0,0 +1,147 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Lock-free histogram of nanosecond durations with log-linear buckets: values below 16 are exact and
+ * every power of two range above is split into 16 sub-buckets, so percentile error is below 6.25%
+ * with fixed memory regardless of recorded values count.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong sum = new AtomicLong();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong(0);
+
+    /**
+     * @param nanos duration to record, negative durations are recorded as zero
+     */
+    public void record(long nanos) {
+        final long value = Math.max(nanos, 0);
+        buckets.incrementAndGet(index(value));
+        count.incrementAndGet();
+        sum.addAndGet(value);
+        min.accumulateAndGet(value, Math::min);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+
+        final int shift = (Long.SIZE - 1 - Long.numberOfLeadingZeros(value)) - SUB_BUCKET_BITS;
+        final int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long lowerBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+
+        final int shift = index / SUB_BUCKETS - 1;
+        final int subBucket = index % SUB_BUCKETS;
+        return ((long) (SUB_BUCKETS + subBucket)) << shift;
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    /**
+     * @return min recorded nanos or 0 if nothing recorded
+     */
+    public long getMin() {
+        return (count.get() == 0)
+                ? 0
+                : min.get();
+    }
+
+    /**
+     * @return max recorded nanos or 0 if nothing recorded
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * @return mean of recorded nanos or 0 if nothing recorded
+     */
+    public long getMean() {
+        final long recorded = count.get();
+        return (recorded == 0)
+                ? 0
+                : sum.get() / recorded;
+    }
+
+    /**
+     * @param percentile in range (0, 100]
+     * @return upper bound in nanos of bucket that contains percentile, never greater than max
+     */
+    public long getPercentile(double percentile) {
+        if (percentile <= 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be in range (0, 100], but was: " + percentile);
+        }
+
+        final long recorded = count.get();
+        if (recorded == 0) {
+            return 0;
+        }
+
+        final long target = (long) Math.ceil(recorded * percentile / 100);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += buckets.get(i);
+            if (cumulative >= target) {
+                final long upperBound = (i + 1 < BUCKETS)
+                        ? lowerBound(i + 1) - 1
+                        : Long.MAX_VALUE;
+                return Math.min(upperBound, getMax());
+            }
+        }
+
+        return getMax();
+    }
+
+    /**
+     * Clears all recorded values, values recorded concurrently with reset may be partially lost
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.set(0);
+        sum.set(0);
+        min.set(Long.MAX_VALUE);
+        max.set(0);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+
+    @Override
+    public @NotNull String toString() {
+        return "[count=" + getCount()
+                + ", min=" + toMicros(getMin()) + "us"
+                + ", mean=" + toMicros(getMean()) + "us"
+                + ", p50=" + toMicros(getPercentile(50)) + "us"
+                + ", p90=" + toMicros(getPercentile(90)) + "us"
+                + ", p99=" + toMicros(getPercentile(99)) + "us"
+                + ", p99.9=" + toMicros(getPercentile(99.9)) + "us"
+                + ", max=" + toMicros(getMax()) + "us]";
+    }
+}
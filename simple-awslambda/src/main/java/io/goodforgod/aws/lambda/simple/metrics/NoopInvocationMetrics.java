@@ -0,0 +1,19 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class NoopInvocationMetrics implements InvocationMetrics {
+
+    static final NoopInvocationMetrics INSTANCE = new NoopInvocationMetrics();
+
+    private NoopInvocationMetrics() {}
+
+    @Override
+    public void record(@NotNull PhaseTimer timer) {
+        // do nothing
+    }
+}
@@ -0,0 +1,302 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Monotonic per invocation timer of runtime loop phases, starting next phase stops current one with
+ * same timestamp, so contiguous phases cost single {@link System#nanoTime()} call.
+ * <p>
+ * When resource tracking is enabled and supported by JVM, thread allocated bytes and thread CPU time
+ * are sampled at the same phase boundaries via {@link com.sun.management.ThreadMXBean}, so only work
+ * done on event loop thread is accounted.
+ * <p>
+ * Timer is reused by event loop across invocations and is not thread safe, except
+ * {@link #setOverlappedHandlerNanos(long)} that is called by handler thread.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class PhaseTimer {
+
+    public enum Phase {
+        NEXT_EVENT,
+        INPUT_CONVERSION,
+        HANDLER,
+        OUTPUT_CONVERSION,
+        RESPONSE
+    }
+
+    private static final int PHASES = Phase.values().length;
+
+    private final long[] nanos = new long[PHASES];
+    private final long[] allocated = new long[PHASES];
+    private final long[] cpuNanos = new long[PHASES];
+    private final com.sun.management.ThreadMXBean threads;
+    private final MemoryMXBean memory;
+    private final boolean allocationTracked;
+    private final boolean cpuTracked;
+
+    private int current = -1;
+    private long startedNanos;
+    private long startedAllocated;
+    private long startedCpuNanos;
+    private long heapUsedBytes = -1;
+    private long inputBytes = -1;
+    private long outputBytes = -1;
+    private long initNanos = -1;
+    private boolean error = false;
+    private volatile long overlappedHandlerNanos = 0;
+
+    public PhaseTimer() {
+        this(false);
+    }
+
+    /**
+     * @param resourceTracking true to sample thread allocated bytes, CPU time and heap usage where JVM
+     *                             supports it
+     */
+    public PhaseTimer(boolean resourceTracking) {
+        final java.lang.management.ThreadMXBean threadBean = (resourceTracking)
+                ? ManagementFactory.getThreadMXBean()
+                : null;
+        if (threadBean instanceof com.sun.management.ThreadMXBean sunThreadBean) {
+            this.threads = sunThreadBean;
+            this.allocationTracked = sunThreadBean.isThreadAllocatedMemorySupported()
+                    && sunThreadBean.isThreadAllocatedMemoryEnabled();
+            this.cpuTracked = sunThreadBean.isCurrentThreadCpuTimeSupported()
+                    && sunThreadBean.isThreadCpuTimeEnabled();
+        } else {
+            this.threads = null;
+            this.allocationTracked = false;
+            this.cpuTracked = false;
+        }
+
+        this.memory = (resourceTracking)
+                ? ManagementFactory.getMemoryMXBean()
+                : null;
+    }
+
+    /**
+     * @param phase to start, current phase is stopped
+     */
+    public void start(@NotNull Phase phase) {
+        final long now = System.nanoTime();
+        final long nowAllocated = (allocationTracked)
+                ? threads.getCurrentThreadAllocatedBytes()
+                : 0;
+        final long nowCpuNanos = (cpuTracked)
+                ? threads.getCurrentThreadCpuTime()
+                : 0;
+        if (current != -1) {
+            nanos[current] += now - startedNanos;
+            allocated[current] += nowAllocated - startedAllocated;
+            cpuNanos[current] += nowCpuNanos - startedCpuNanos;
+        }
+
+        current = phase.ordinal();
+        startedNanos = now;
+        startedAllocated = nowAllocated;
+        startedCpuNanos = nowCpuNanos;
+    }
+
+    /**
+     * Stops current phase if any
+     */
+    public void stop() {
+        if (current != -1) {
+            nanos[current] += System.nanoTime() - startedNanos;
+            if (allocationTracked) {
+                allocated[current] += threads.getCurrentThreadAllocatedBytes() - startedAllocated;
+            }
+            if (cpuTracked) {
+                cpuNanos[current] += threads.getCurrentThreadCpuTime() - startedCpuNanos;
+            }
+            current = -1;
+        }
+    }
+
+    /**
+     * Samples heap used after invocation if resource tracking is enabled
+     */
+    public void sampleHeapUsed() {
+        if (memory != null) {
+            heapUsedBytes = memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+
+    /**
+     * @param phase to get duration for
+     * @return nanos spent in phase during invocation
+     */
+    public long getNanos(@NotNull Phase phase) {
+        return switch (phase) {
+            case HANDLER -> nanos[phase.ordinal()] + overlappedHandlerNanos;
+            case RESPONSE -> Math.max(0, nanos[phase.ordinal()] - overlappedHandlerNanos);
+            default -> nanos[phase.ordinal()];
+        };
+    }
+
+    public long getMicros(@NotNull Phase phase) {
+        return TimeUnit.NANOSECONDS.toMicros(getNanos(phase));
+    }
+
+    public long getMillis(@NotNull Phase phase) {
+        return TimeUnit.NANOSECONDS.toMillis(getNanos(phase));
+    }
+
+    /**
+     * Handler that writes response while it is posted (like stream handler) runs on other thread during
+     * {@link Phase#RESPONSE}, its time is moved from {@link Phase#RESPONSE} to {@link Phase#HANDLER}.
+     * Allocations and CPU time of other thread are not tracked.
+     *
+     * @param nanos handler took on other thread
+     */
+    public void setOverlappedHandlerNanos(long nanos) {
+        this.overlappedHandlerNanos = nanos;
+    }
+
+    /**
+     * @param phase to get allocated bytes for
+     * @return bytes allocated by event loop thread during phase or -1 if not tracked
+     */
+    public long getAllocatedBytes(@NotNull Phase phase) {
+        return (allocationTracked)
+                ? allocated[phase.ordinal()]
+                : -1;
+    }
+
+    /**
+     * @return bytes allocated by event loop thread during all phases or -1 if not tracked
+     */
+    public long getAllocatedBytes() {
+        return (allocationTracked)
+                ? sum(allocated)
+                : -1;
+    }
+
+    /**
+     * @param phase to get CPU time for
+     * @return CPU nanos of event loop thread during phase or -1 if not tracked
+     */
+    public long getCpuNanos(@NotNull Phase phase) {
+        return (cpuTracked)
+                ? cpuNanos[phase.ordinal()]
+                : -1;
+    }
+
+    /**
+     * @return CPU nanos of event loop thread during all phases or -1 if not tracked
+     */
+    public long getCpuNanos() {
+        return (cpuTracked)
+                ? sum(cpuNanos)
+                : -1;
+    }
+
+    /**
+     * @return heap used bytes sampled after invocation or -1 if not tracked
+     */
+    public long getHeapUsedBytes() {
+        return heapUsedBytes;
+    }
+
+    private static long sum(long[] values) {
+        long sum = 0;
+        for (long value : values) {
+            sum += value;
+        }
+        return sum;
+    }
+
+    /**
+     * @return event payload bytes read by handler or -1 if unknown
+     */
+    public long getInputBytes() {
+        return inputBytes;
+    }
+
+    public void setInputBytes(long inputBytes) {
+        this.inputBytes = inputBytes;
+    }
+
+    /**
+     * @return response payload bytes or -1 if unknown
+     */
+    public long getOutputBytes() {
+        return outputBytes;
+    }
+
+    public void setOutputBytes(long outputBytes) {
+        this.outputBytes = outputBytes;
+    }
+
+    /**
+     * @return true if invocation is first after runtime initialization
+     */
+    public boolean isColdStart() {
+        return initNanos != -1;
+    }
+
+    /**
+     * @return runtime initialization nanos for cold start invocation or -1
+     */
+    public long getInitNanos() {
+        return initNanos;
+    }
+
+    /**
+     * @param initNanos runtime initialization took before first invocation
+     */
+    public void setColdStart(long initNanos) {
+        this.initNanos = initNanos;
+    }
+
+    /**
+     * @return true if invocation error was reported
+     */
+    public boolean isError() {
+        return error;
+    }
+
+    public void setError(boolean error) {
+        this.error = error;
+    }
+
+    /**
+     * Prepares timer for next invocation
+     */
+    public void reset() {
+        Arrays.fill(nanos, 0);
+        Arrays.fill(allocated, 0);
+        Arrays.fill(cpuNanos, 0);
+        current = -1;
+        heapUsedBytes = -1;
+        inputBytes = -1;
+        outputBytes = -1;
+        initNanos = -1;
+        error = false;
+        overlappedHandlerNanos = 0;
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[");
+        for (Phase phase : Phase.values()) {
+            builder.append(phase).append('=').append(getMicros(phase)).append("us, ");
+        }
+
+        return builder.append("inputBytes=").append(inputBytes)
+                .append(", outputBytes=").append(outputBytes)
+                .append(", coldStart=").append(isColdStart())
+                .append(", error=").append(error)
+                .append(", allocatedBytes=").append(getAllocatedBytes())
+                .append(", cpuNanos=").append(getCpuNanos())
+                .append(", heapUsedBytes=").append(heapUsedBytes)
+                .append(']')
+                .toString();
+    }
+}
@@ -0,0 +1,194 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer.Phase;
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * In memory {@link InvocationMetrics} with counters and {@link LatencyHistogram} for each
+ * {@link Phase}, recording does not allocate and values can be read concurrently by tests,
+ * benchmarks or exporters.
+ * <p>
+ * With resource tracking enabled also keeps histograms of allocated bytes and CPU time per
+ * invocation together with heap used after invocation.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class SimpleInvocationMetrics implements InvocationMetrics {
+
+    private final LatencyHistogram[] phases = new LatencyHistogram[Phase.values().length];
+    private final AtomicLong invocations = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong coldStarts = new AtomicLong();
+    private final AtomicLong inputBytes = new AtomicLong();
+    private final AtomicLong outputBytes = new AtomicLong();
+    private final AtomicLong initNanos = new AtomicLong(-1);
+    private final LatencyHistogram allocatedBytes = new LatencyHistogram();
+    private final LatencyHistogram cpuNanos = new LatencyHistogram();
+    private final AtomicLong heapUsedBytes = new AtomicLong(-1);
+    private final AtomicLong heapUsedMaxBytes = new AtomicLong(-1);
+    private final boolean resourceTracking;
+
+    public SimpleInvocationMetrics() {
+        this(false);
+    }
+
+    /**
+     * @param resourceTracking true to record allocated bytes, CPU time and heap usage per invocation
+     */
+    public SimpleInvocationMetrics(boolean resourceTracking) {
+        this.resourceTracking = resourceTracking;
+        for (int i = 0; i < phases.length; i++) {
+            phases[i] = new LatencyHistogram();
+        }
+    }
+
+    @Override
+    public boolean isResourceTracking() {
+        return resourceTracking;
+    }
+
+    @Override
+    public void record(@NotNull PhaseTimer timer) {
+        invocations.incrementAndGet();
+        if (timer.isError()) {
+            errors.incrementAndGet();
+        }
+        if (timer.isColdStart()) {
+            coldStarts.incrementAndGet();
+            initNanos.set(timer.getInitNanos());
+        }
+        if (timer.getInputBytes() > 0) {
+            inputBytes.addAndGet(timer.getInputBytes());
+        }
+        if (timer.getOutputBytes() > 0) {
+            outputBytes.addAndGet(timer.getOutputBytes());
+        }
+
+        for (Phase phase : Phase.values()) {
+            phases[phase.ordinal()].record(timer.getNanos(phase));
+        }
+
+        if (timer.getAllocatedBytes() >= 0) {
+            allocatedBytes.record(timer.getAllocatedBytes());
+        }
+        if (timer.getCpuNanos() >= 0) {
+            cpuNanos.record(timer.getCpuNanos());
+        }
+        if (timer.getHeapUsedBytes() >= 0) {
+            heapUsedBytes.set(timer.getHeapUsedBytes());
+            heapUsedMaxBytes.accumulateAndGet(timer.getHeapUsedBytes(), Math::max);
+        }
+    }
+
+    /**
+     * @param phase to get histogram for
+     * @return nanos histogram of phase across recorded invocations
+     */
+    public @NotNull LatencyHistogram getPhase(@NotNull Phase phase) {
+        return phases[phase.ordinal()];
+    }
+
+    /**
+     * @return histogram of bytes allocated by event loop thread per invocation, empty when not tracked
+     */
+    public @NotNull LatencyHistogram getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * @return nanos histogram of event loop thread CPU time per invocation, empty when not tracked
+     */
+    public @NotNull LatencyHistogram getCpu() {
+        return cpuNanos;
+    }
+
+    /**
+     * @return heap used bytes after last invocation or -1 if not tracked
+     */
+    public long getHeapUsedBytes() {
+        return heapUsedBytes.get();
+    }
+
+    /**
+     * @return max heap used bytes after invocation or -1 if not tracked
+     */
+    public long getHeapUsedMaxBytes() {
+        return heapUsedMaxBytes.get();
+    }
+
+    public long getInvocations() {
+        return invocations.get();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public long getColdStarts() {
+        return coldStarts.get();
+    }
+
+    /**
+     * @return total event payload bytes of recorded invocations
+     */
+    public long getInputBytes() {
+        return inputBytes.get();
+    }
+
+    /**
+     * @return total response payload bytes of recorded invocations
+     */
+    public long getOutputBytes() {
+        return outputBytes.get();
+    }
+
+    /**
+     * @return runtime initialization nanos of last cold start or -1
+     */
+    public long getInitNanos() {
+        return initNanos.get();
+    }
+
+    /**
+     * Clears counters and histograms, last cold start initialization is kept
+     */
+    public void reset() {
+        for (LatencyHistogram phase : phases) {
+            phase.reset();
+        }
+        invocations.set(0);
+        errors.set(0);
+        coldStarts.set(0);
+        inputBytes.set(0);
+        outputBytes.set(0);
+        allocatedBytes.reset();
+        cpuNanos.reset();
+        heapUsedBytes.set(-1);
+        heapUsedMaxBytes.set(-1);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder builder = new StringBuilder("[invocations=").append(getInvocations())
+                .append(", errors=").append(getErrors())
+                .append(", coldStarts=").append(getColdStarts())
+                .append(", inputBytes=").append(getInputBytes())
+                .append(", outputBytes=").append(getOutputBytes());
+        for (Phase phase : Phase.values()) {
+            builder.append(", ").append(phase).append('=').append(getPhase(phase));
+        }
+
+        if (resourceTracking) {
+            builder.append(", allocatedBytes=[mean=").append(allocatedBytes.getMean())
+                    .append(", p99=").append(allocatedBytes.getPercentile(99))
+                    .append(", max=").append(allocatedBytes.getMax())
+                    .append("], cpu=").append(cpuNanos)
+                    .append(", heapUsedBytes=").append(getHeapUsedBytes())
+                    .append(", heapUsedMaxBytes=").append(getHeapUsedMaxBytes());
+        }
+
+        return builder.append(']').toString();
+    }
+}
@@ -0,0 +1,43 @@
+package io.goodforgod.aws.lambda.simple.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that spans {@link io.goodforgod.aws.lambda.simple.convert.Converter} call of event
+ * handler, so converter frames and allocations are attributed to invocation phase
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Name(ConversionEvent.NAME)
+@Label("Conversion")
+@Description("Function input or output conversion by event handler")
+@Category({ "AWS Lambda", "Runtime" })
+@Enabled(false)
+@StackTrace(false)
+public final class ConversionEvent extends Event {
+
+    public static final String NAME = "io.goodforgod.aws.lambda.simple.Conversion";
+
+    public static final String INPUT = "Input";
+    public static final String OUTPUT = "Output";
+
+    @Label("Request ID")
+    public String requestId;
+
+    @Label("Direction")
+    public String direction;
+
+    @Label("Type")
+    public Class<?> type;
+
+    @Label("Payload Length")
+    @Description("Converted JSON length in chars")
+    public long length;
+}
@@ -0,0 +1,44 @@
+package io.goodforgod.aws.lambda.simple.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that spans runtime initialization phase before first invocation
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Name(InitPhaseEvent.NAME)
+@Label("Init Phase")
+@Description("AWS Lambda runtime initialization phase")
+@Category({ "AWS Lambda", "Runtime" })
+@Enabled(false)
+@StackTrace(false)
+public final class InitPhaseEvent extends Event {
+
+    public static final String NAME = "io.goodforgod.aws.lambda.simple.InitPhase";
+
+    @Label("Phase")
+    public String phase;
+
+    @Label("Classes Loaded")
+    @Description("Classes loaded during phase, -1 if not tracked")
+    public long classesLoaded = -1;
+
+    /**
+     * @param phase name of started phase
+     * @return started event to commit when phase ends
+     */
+    public static InitPhaseEvent start(String phase) {
+        final InitPhaseEvent event = new InitPhaseEvent();
+        event.phase = phase;
+        event.begin();
+        return event;
+    }
+}
@@ -0,0 +1,75 @@
+package io.goodforgod.aws.lambda.simple.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR event that spans invocation from received event to reported response, so profiling samples
+ * and allocations can be correlated with specific invocation
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Name(InvocationEvent.NAME)
+@Label("Invocation")
+@Description("AWS Lambda invocation handled by runtime event loop")
+@Category({ "AWS Lambda", "Runtime" })
+@Enabled(false)
+@StackTrace(false)
+public final class InvocationEvent extends Event {
+
+    public static final String NAME = "io.goodforgod.aws.lambda.simple.Invocation";
+
+    @Label("Request ID")
+    public String requestId;
+
+    @Label("Handler")
+    public String handler;
+
+    @Label("Cold Start")
+    public boolean coldStart;
+
+    @Label("Error")
+    public boolean error;
+
+    @Label("Input Size")
+    @DataAmount
+    public long inputBytes;
+
+    @Label("Output Size")
+    @DataAmount
+    public long outputBytes;
+
+    @Label("Input Conversion")
+    @Timespan
+    public long inputConversion;
+
+    @Label("Handler Time")
+    @Timespan
+    public long handlerTime;
+
+    @Label("Output Conversion")
+    @Timespan
+    public long outputConversion;
+
+    @Label("Response Post")
+    @Timespan
+    public long responsePost;
+
+    @Label("Allocated")
+    @Description("Bytes allocated by event loop thread or -1 if not tracked")
+    @DataAmount
+    public long allocatedBytes;
+
+    @Label("CPU Time")
+    @Description("CPU time of event loop thread or -1 if not tracked")
+    @Timespan
+    public long cpuTime;
+}
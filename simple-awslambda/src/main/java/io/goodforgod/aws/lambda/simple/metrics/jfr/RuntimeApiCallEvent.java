@@ -0,0 +1,41 @@
+package io.goodforgod.aws.lambda.simple.metrics.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that spans AWS Lambda Runtime API call
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Name(RuntimeApiCallEvent.NAME)
+@Label("Runtime API Call")
+@Description("AWS Lambda Runtime API call made by runtime client")
+@Category({ "AWS Lambda", "Runtime" })
+@Enabled(false)
+@StackTrace(false)
+public final class RuntimeApiCallEvent extends Event {
+
+    public static final String NAME = "io.goodforgod.aws.lambda.simple.RuntimeApiCall";
+
+    public static final String NEXT = "next";
+    public static final String RESPONSE = "response";
+    public static final String ERROR = "error";
+    public static final String INIT_ERROR = "init/error";
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Request ID")
+    public String requestId;
+
+    @Label("Status")
+    @Description("Runtime API response status or 0 when response is not awaited")
+    public int status;
+}
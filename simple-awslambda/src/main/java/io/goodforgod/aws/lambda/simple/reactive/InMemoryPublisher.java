@@ -0,0 +1,162 @@
+package io.goodforgod.aws.lambda.simple.reactive;
+
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Flow;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Publisher for fully in-memory body (String, byte array, pre-encoded buffers) that emits
+ * buffers synchronously under demand to its subscriber without scheduler, state machine or buffer
+ * copying, known {@link #contentLength()} allows HTTP layer to send {@code Content-Length} instead of
+ * chunked body.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class InMemoryPublisher implements HttpRequest.BodyPublisher {
+
+    private static final ByteBuffer[] EMPTY = new ByteBuffer[0];
+
+    private final ByteBuffer[] buffers;
+    private final long contentLength;
+
+    private InMemoryPublisher(ByteBuffer[] buffers) {
+        this.buffers = buffers;
+        long length = 0;
+        for (ByteBuffer buffer : buffers) {
+            length += buffer.remaining();
+        }
+        this.contentLength = length;
+    }
+
+    public static @NotNull InMemoryPublisher ofString(@NotNull String value) {
+        return ofBytes(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static @NotNull InMemoryPublisher ofBytes(byte @NotNull [] bytes) {
+        return ofBytes(bytes, 0, bytes.length);
+    }
+
+    /**
+     * @param bytes  to publish, array is NOT copied and must not be modified after
+     * @param offset of content in array
+     * @param length of content
+     * @return publisher
+     */
+    public static @NotNull InMemoryPublisher ofBytes(byte @NotNull [] bytes, int offset, int length) {
+        return (length == 0)
+                ? new InMemoryPublisher(EMPTY)
+                : new InMemoryPublisher(new ByteBuffer[] { ByteBuffer.wrap(bytes, offset, length) });
+    }
+
+    /**
+     * @param buffers to publish (heap or direct) from their current position, buffers are NOT copied
+     *                and must not be modified after
+     * @return publisher
+     */
+    public static @NotNull InMemoryPublisher ofBuffers(@NotNull ByteBuffer... buffers) {
+        int nonEmpty = 0;
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                nonEmpty++;
+            }
+        }
+
+        final ByteBuffer[] content = new ByteBuffer[nonEmpty];
+        int i = 0;
+        for (ByteBuffer buffer : buffers) {
+            if (buffer.hasRemaining()) {
+                content[i++] = buffer.duplicate();
+            }
+        }
+
+        return new InMemoryPublisher(content);
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        final Subscription subscription = new Subscription(subscriber, buffers);
+        subscriber.onSubscribe(subscription);
+        if (buffers.length == 0) {
+            subscription.complete();
+        }
+    }
+
+    /**
+     * Subscriber calls to {@link #request(long)} and {@link #cancel()} are serial by
+     * {@link Flow.Subscription} contract, so reentrant request from {@code onNext} only adds demand
+     * that is drained by outer call and no CAS is required
+     */
+    private static final class Subscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final ByteBuffer[] buffers;
+
+        private int index = 0;
+        private long demand = 0;
+        private boolean emitting = false;
+        private volatile boolean done = false;
+
+        private Subscription(Flow.Subscriber<? super ByteBuffer> subscriber, ByteBuffer[] buffers) {
+            this.subscriber = subscriber;
+            this.buffers = buffers;
+        }
+
+        @Override
+        public void request(long n) {
+            if (done) {
+                return;
+            } else if (n <= 0) {
+                done = true;
+                subscriber.onError(new IllegalArgumentException("Requested items must be positive, but was: " + n));
+                return;
+            }
+
+            demand = (demand + n < 0)
+                    ? Long.MAX_VALUE
+                    : demand + n;
+            if (emitting) {
+                return;
+            }
+
+            emitting = true;
+            try {
+                while (demand > 0 && index < buffers.length && !done) {
+                    demand--;
+                    // each subscription gets own view, so publisher can be subscribed again
+                    subscriber.onNext(buffers[index++].duplicate());
+                }
+
+                if (index == buffers.length) {
+                    complete();
+                }
+            } finally {
+                emitting = false;
+            }
+        }
+
+        private void complete() {
+            if (!done) {
+                done = true;
+                subscriber.onComplete();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            done = true;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[buffers=" + buffers.length + ", contentLength=" + contentLength + ']';
+    }
+}
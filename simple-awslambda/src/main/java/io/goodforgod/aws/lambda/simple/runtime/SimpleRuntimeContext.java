@@ -1,7 +1,9 @@
 package io.goodforgod.aws.lambda.simple.runtime;
 
+import com.amazonaws.services.lambda.runtime.RequestHandler;
 import io.goodforgod.aws.lambda.simple.AwsRuntimeClient;
 import io.goodforgod.aws.lambda.simple.AwsRuntimeLoopCondition;
+import io.goodforgod.aws.lambda.simple.config.AwsContextVariables;
 import io.goodforgod.aws.lambda.simple.convert.Converter;
 import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverterFactory;
 import io.goodforgod.aws.lambda.simple.handler.EventHandler;
@@ -9,12 +11,16 @@
 import io.goodforgod.aws.lambda.simple.handler.impl.InputEventHandler;
 import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
 import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.OutboundHttpClient;
 import io.goodforgod.aws.lambda.simple.http.nativeclient.SimpleAwsRuntimeClient;
+import io.goodforgod.aws.lambda.simple.metrics.InitTimeline;
 import java.util.*;
 import java.util.function.Consumer;
 import javax.inject.Named;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Simple Runtime without any DI that can be extended for more performant workload.
@@ -24,6 +30,8 @@
  */
 public class SimpleRuntimeContext implements RuntimeContext {
 
+    private static final Logger logger = LoggerFactory.getLogger(SimpleRuntimeContext.class);
+
     private record Qualifier(@NotNull String beanName, @Nullable String qualifierName) {
 
         private Qualifier(@NotNull Class<?> beanType) {
@@ -56,21 +64,32 @@ public int hashCode() {
     public SimpleRuntimeContext(@NotNull Consumer<SimpleRuntimeContext> setupInRuntime,
                                 @NotNull Consumer<SimpleRuntimeContext> setupInCompileTime) {
         this.runtimeContextConsumer = getRuntimeConsumer().andThen(setupInRuntime);
-        getCompileTimeConsumer().andThen(setupInCompileTime).accept(this);
+        getCompileTimeConsumer()
+                .andThen(setupInCompileTime)
+                .andThen(SimpleRuntimeContext::warmupInCompileTime)
+                .accept(this);
     }
 
     protected Consumer<SimpleRuntimeContext> getRuntimeConsumer() {
         return context -> {
+            final InitTimeline.Span httpClientSpan = InitTimeline.start(InitTimeline.HTTP_CLIENT);
             final SimpleHttpClient httpClient = new NativeHttpClient();
             registerBean(httpClient);
             final AwsRuntimeClient awsRuntimeClient = new SimpleAwsRuntimeClient(httpClient);
             registerBean(awsRuntimeClient);
+            // registered only as qualified OutboundHttpClient (as in Micronaut), so it never competes with runtime client
+            final OutboundHttpClient outboundHttpClient = new OutboundHttpClient();
+            registerBean(new Qualifier(OutboundHttpClient.class.getName(), OutboundHttpClient.QUALIFIER),
+                    new BeanContainer(OutboundHttpClient.class, outboundHttpClient));
+            httpClientSpan.end();
         };
     }
 
     protected Consumer<SimpleRuntimeContext> getCompileTimeConsumer() {
         return context -> {
+            final InitTimeline.Span converterSpan = InitTimeline.start(InitTimeline.CONVERTER);
             final Converter converter = new GsonConverterFactory().build();
+            converterSpan.end();
             registerBean(converter);
             final EventHandler inputEventHandler = new InputEventHandler(converter);
             registerBean(inputEventHandler);
@@ -81,6 +100,31 @@ protected Consumer<SimpleRuntimeContext> getCompileTimeConsumer() {
         };
     }
 
+    /**
+     * Prepares all registered {@link EventHandler}s for {@link RequestHandler} if it was registered in
+     * compile time, so conversion state is initialized once and can be part of native image heap
+     */
+    private static void warmupInCompileTime(SimpleRuntimeContext context) {
+        // beans are looked up directly, as context is not fully constructed yet
+        RequestHandler requestHandler = context.findBean(RequestHandler.class, System.getenv(AwsContextVariables.HANDLER));
+        if (requestHandler == null) {
+            requestHandler = context.findBean(RequestHandler.class, null);
+        }
+
+        final Collection<BeanContainer> eventHandlers = context.beanMap.get(new Qualifier(EventHandler.class));
+        if (requestHandler != null && eventHandlers != null) {
+            for (BeanContainer eventHandler : eventHandlers) {
+                try {
+                    ((EventHandler) eventHandler.bean()).warmup(requestHandler);
+                } catch (Exception e) {
+                    // context is constructed before runtime can report init errors, handler fails on invocation
+                    logger.debug("Warmup of '{}' for '{}' failed: {}", eventHandler.bean().getClass().getName(),
+                            requestHandler.getClass().getName(), e.getMessage());
+                }
+            }
+        }
+    }
+
     public void registerBean(@NotNull Object bean) {
         final Class<?> beanType = bean.getClass();
         final String qualifier = beanType.isAnnotationPresent(Named.class)
@@ -89,6 +133,10 @@ public void registerBean(@NotNull Object bean) {
 
         for (final Class<?> beanInterface : beanType.getInterfaces()) {
             registerBean(bean, beanInterface, qualifier);
+            // handler contracts like ByteBufferRequestHandler are resolved as RequestHandler too
+            if (beanInterface != RequestHandler.class && RequestHandler.class.isAssignableFrom(beanInterface)) {
+                registerBean(bean, RequestHandler.class, qualifier);
+            }
         }
 
         registerBean(bean, beanType, qualifier);
@@ -131,9 +179,13 @@ public <T> T getBean(@NotNull Class<T> beanType) {
      * @param <T>       type to cast bean to
      * @return bean or null if not found
      */
-    @SuppressWarnings("unchecked")
     @Override
     public <T> T getBean(@NotNull Class<T> beanType, @Nullable String qualifier) {
+        return findBean(beanType, qualifier);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T findBean(@NotNull Class<T> beanType, @Nullable String qualifier) {
         final Qualifier beanQualifier = new Qualifier(beanType.getName(), qualifier);
         final Collection<BeanContainer> beans = beanMap.get(beanQualifier);
         if (beans != null) {
@@ -0,0 +1,436 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import io.goodforgod.aws.lambda.simple.AbstractLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.AwsRuntimeLoopCondition;
+import io.goodforgod.aws.lambda.simple.capture.CapturedEvent;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClientConfig;
+import io.goodforgod.aws.lambda.simple.metrics.LatencyHistogram;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer.Phase;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Load testing of Lambda entrypoint warm event loop, events are served by
+ * {@link AwsRuntimeApiEmulator} so invocations go through real runtime client and HTTP layer.
+ * <p>
+ * Warmup invocations are executed first and are excluded from report, then measured invocations
+ * report throughput, runtime overhead and handler time percentiles, GC activity and event loop
+ * thread allocated bytes per invocation.
+ * <p>
+ * Budgets can be specified with expect methods, run fails with {@link AssertionError} that lists all
+ * exceeded budgets, so hot path regressions fail unit tests.
+ *
+ * <pre>
+ * AwsLambdaLoad.Report report = AwsLambdaLoad.ofEntrypoint(new MyLambdaEntrypoint())
+ *         .events(Path.of("src/test/resources/events"))
+ *         .warmup(1_000)
+ *         .invocations(10_000)
+ *         .expectAllocatedBytesPerInvocationBelow(64 * 1024)
+ *         .expectRuntimeOverheadP99Below(Duration.ofMillis(2))
+ *         .expectNoClassLoadingAfterWarmup()
+ *         .run();
+ * </pre>
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class AwsLambdaLoad {
+
+    /**
+     * @param invocations       number of measured invocations
+     * @param errors            number of measured invocations that reported error
+     * @param duration          of measured invocations
+     * @param overhead          nanos histogram of runtime overhead per invocation, that is input
+     *                              conversion, output conversion and response post
+     * @param handler           nanos histogram of handler time per invocation
+     * @param allocatedBytes    histogram of bytes allocated by event loop thread per invocation
+     * @param gcCount           number of garbage collections during measured invocations
+     * @param gcTime            time spent in garbage collections during measured invocations
+     * @param classesLoaded     number of classes loaded by whole JVM during measured invocations,
+     *                              includes classes loaded by other threads
+     */
+    public record Report(long invocations,
+                         long errors,
+                         @NotNull Duration duration,
+                         @NotNull LatencyHistogram overhead,
+                         @NotNull LatencyHistogram handler,
+                         @NotNull LatencyHistogram allocatedBytes,
+                         long gcCount,
+                         @NotNull Duration gcTime,
+                         long classesLoaded) {
+
+        /**
+         * @return measured invocations per second
+         */
+        public double throughput() {
+            final long nanos = duration.toNanos();
+            return (nanos == 0)
+                    ? 0
+                    : invocations * 1_000_000_000.0 / nanos;
+        }
+
+        /**
+         * @return mean bytes allocated by event loop thread per invocation
+         */
+        public long allocatedBytesPerInvocation() {
+            return allocatedBytes.getMean();
+        }
+
+        @Override
+        public String toString() {
+            return "[invocations=" + invocations
+                    + ", errors=" + errors
+                    + ", duration=" + duration.toMillis() + "ms"
+                    + ", throughput=" + Math.round(throughput()) + "/s"
+                    + ", overhead=[p50=" + toMicros(overhead.getPercentile(50))
+                    + "us, p99=" + toMicros(overhead.getPercentile(99))
+                    + "us, p99.9=" + toMicros(overhead.getPercentile(99.9))
+                    + "us], handler=[p50=" + toMicros(handler.getPercentile(50))
+                    + "us, p99=" + toMicros(handler.getPercentile(99))
+                    + "us, p99.9=" + toMicros(handler.getPercentile(99.9))
+                    + "us], allocatedBytesPerInvocation=" + allocatedBytesPerInvocation()
+                    + ", gcCount=" + gcCount
+                    + ", gcTime=" + gcTime.toMillis() + "ms"
+                    + ", classesLoaded=" + classesLoaded + ']';
+        }
+
+        private static long toMicros(long nanos) {
+            return TimeUnit.NANOSECONDS.toMicros(nanos);
+        }
+    }
+
+    private final AbstractLambdaEntrypoint entrypoint;
+
+    private LongFunction<byte[]> events;
+    private Path eventsDirectory;
+    private long warmup = 0;
+    private long invocations = 1000;
+    private Duration timeout = Duration.ofMinutes(5);
+    private long allocatedBytesBudget = -1;
+    private Duration overheadP99Budget;
+    private long classLoadingTolerance = -1;
+
+    private AwsLambdaLoad(AbstractLambdaEntrypoint entrypoint) {
+        this.entrypoint = entrypoint;
+    }
+
+    @NotNull
+    public static AwsLambdaLoad ofEntrypoint(@NotNull AbstractLambdaEntrypoint entrypoint) {
+        return new AwsLambdaLoad(entrypoint);
+    }
+
+    /**
+     * @param generator of event for invocation number starting from 0, warmup invocations included
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad events(@NotNull LongFunction<byte[]> generator) {
+        this.events = generator;
+        this.eventsDirectory = null;
+        return this;
+    }
+
+    /**
+     * @param directory with fixture events, each regular file is one event, served in file name order
+     *                  and repeated when all are served
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad events(@NotNull Path directory) {
+        this.eventsDirectory = directory;
+        this.events = null;
+        return this;
+    }
+
+    /**
+     * @param file with one event JSON per line, served in line order and repeated when all are served
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad eventsJsonLines(@NotNull Path file) {
+        final List<byte[]> lines;
+        try {
+            lines = Files.readAllLines(file, StandardCharsets.UTF_8).stream()
+                    .filter(line -> !line.isBlank())
+                    .map(line -> line.getBytes(StandardCharsets.UTF_8))
+                    .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        if (lines.isEmpty()) {
+            throw new IllegalArgumentException("No events found in file: " + file);
+        }
+
+        return events(invocation -> lines.get((int) (invocation % lines.size())));
+    }
+
+    /**
+     * @param file with events captured by
+     *             {@link io.goodforgod.aws.lambda.simple.capture.EventCapture} or exported function
+     *             logs, served in capture order and repeated when all are served
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad eventsCaptured(@NotNull Path file) {
+        final List<CapturedEvent> captured = CapturedEvent.read(file);
+        if (captured.isEmpty()) {
+            throw new IllegalArgumentException("No captured events found in file: " + file);
+        }
+
+        return events(invocation -> captured.get((int) (invocation % captured.size())).event());
+    }
+
+    /**
+     * @param warmup number of invocations executed before measured ones and excluded from report
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad warmup(long warmup) {
+        if (warmup < 0) {
+            throw new IllegalArgumentException("Warmup can't be negative, but was: " + warmup);
+        }
+
+        this.warmup = warmup;
+        return this;
+    }
+
+    /**
+     * @param invocations number of measured invocations
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad invocations(long invocations) {
+        if (invocations < 1) {
+            throw new IllegalArgumentException("Invocations must be positive, but was: " + invocations);
+        }
+
+        this.invocations = invocations;
+        return this;
+    }
+
+    /**
+     * @param timeout for whole run including warmup
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad timeout(@NotNull Duration timeout) {
+        this.timeout = timeout;
+        return this;
+    }
+
+    /**
+     * @param bytes that mean event loop thread allocation per measured invocation must be below
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad expectAllocatedBytesPerInvocationBelow(long bytes) {
+        if (bytes < 1) {
+            throw new IllegalArgumentException("Allocated bytes budget must be positive, but was: " + bytes);
+        }
+
+        this.allocatedBytesBudget = bytes;
+        return this;
+    }
+
+    /**
+     * @param duration that runtime overhead 99th percentile of measured invocations must be below
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad expectRuntimeOverheadP99Below(@NotNull Duration duration) {
+        this.overheadP99Budget = duration;
+        return this;
+    }
+
+    /**
+     * Expects no classes loaded by JVM during measured invocations, so all hot path classes are loaded
+     * by warmup invocations
+     * <p>
+     * Loaded classes are counted for whole JVM, not for event loop thread, so use
+     * {@link #expectNoClassLoadingAfterWarmup(long)} with tolerance when other threads (like test
+     * framework or JIT) may load classes concurrently with load run
+     *
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad expectNoClassLoadingAfterWarmup() {
+        return expectNoClassLoadingAfterWarmup(0);
+    }
+
+    /**
+     * Expects no more than tolerance classes loaded by JVM during measured invocations, count is
+     * process wide and includes classes loaded by other threads
+     *
+     * @param tolerance number of classes that may be loaded by JVM during measured invocations
+     * @return self
+     */
+    @NotNull
+    public AwsLambdaLoad expectNoClassLoadingAfterWarmup(long tolerance) {
+        if (tolerance < 0) {
+            throw new IllegalArgumentException("Class loading tolerance can't be negative, but was: " + tolerance);
+        }
+
+        this.classLoadingTolerance = tolerance;
+        return this;
+    }
+
+    /**
+     * @return report of measured invocations
+     * @throws AssertionError if any of expected budgets is exceeded
+     */
+    @NotNull
+    public Report run() {
+        final Report report = load();
+        final List<String> exceeded = new ArrayList<>();
+        if (allocatedBytesBudget != -1 && report.allocatedBytesPerInvocation() >= allocatedBytesBudget) {
+            exceeded.add("allocated bytes per invocation expected below " + allocatedBytesBudget
+                    + ", but was " + report.allocatedBytesPerInvocation());
+        }
+        if (overheadP99Budget != null && report.overhead().getPercentile(99) >= overheadP99Budget.toNanos()) {
+            exceeded.add("runtime overhead p99 expected below " + overheadP99Budget.toNanos()
+                    + " nanos, but was " + report.overhead().getPercentile(99) + " nanos");
+        }
+        if (classLoadingTolerance != -1 && report.classesLoaded() > classLoadingTolerance) {
+            exceeded.add("no more than " + classLoadingTolerance + " classes loaded by JVM expected after warmup, but "
+                    + report.classesLoaded() + " classes were loaded");
+        }
+
+        if (!exceeded.isEmpty()) {
+            throw new AssertionError("Budget exceeded: " + String.join("; ", exceeded) + ", report: " + report);
+        }
+
+        return report;
+    }
+
+    private Report load() {
+        if (events == null && eventsDirectory == null) {
+            throw new IllegalStateException("Events generator, directory or file must be specified");
+        }
+
+        final AwsRuntimeApiEmulator.Builder emulatorBuilder = AwsRuntimeApiEmulator.builder()
+                .invocations(warmup + invocations);
+        if (eventsDirectory != null) {
+            emulatorBuilder.events(eventsDirectory);
+        } else {
+            emulatorBuilder.events(events);
+        }
+
+        final LoadInvocationMetrics metrics = new LoadInvocationMetrics();
+        final LoadLoopCondition loopCondition = new LoadLoopCondition(warmup, invocations, metrics);
+        try (AwsRuntimeApiEmulator emulator = emulatorBuilder.build();
+                NativeHttpClient httpClient = new NativeHttpClient(NativeHttpClientConfig.ofRuntime())) {
+            final LoadAwsRuntimeClient runtimeClient = new LoadAwsRuntimeClient(httpClient, emulator.getEndpoint());
+            final LoadEntrypoint loadEntrypoint = new LoadEntrypoint(entrypoint, runtimeClient, loopCondition, metrics);
+
+            final Thread runtime = new Thread(() -> loadEntrypoint.load(new String[0]), "lambda-load");
+            runtime.setDaemon(true);
+            runtime.start();
+            runtime.join(timeout.toMillis());
+            if (runtime.isAlive()) {
+                runtime.interrupt();
+                throw new IllegalStateException("Load didn't complete in " + timeout + ", emulator: " + emulator);
+            }
+
+            final Throwable throwable = loadEntrypoint.getThrowable();
+            if (throwable != null) {
+                throw new TestingAwsLambdaException(throwable);
+            }
+
+            return new Report(metrics.getInvocations(),
+                    metrics.getErrors(),
+                    Duration.ofNanos(loopCondition.endNanos - loopCondition.startNanos),
+                    metrics.getOverhead(),
+                    metrics.getPhase(Phase.HANDLER),
+                    metrics.getAllocatedBytes(),
+                    loopCondition.endGcCount - loopCondition.gcCount,
+                    Duration.ofMillis(loopCondition.endGcTime - loopCondition.gcTime),
+                    loopCondition.endClassesLoaded - loopCondition.classesLoaded);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TestingAwsLambdaException(e);
+        } finally {
+            try {
+                entrypoint.getRuntimeContext().close();
+            } catch (Exception e) {
+                // do nothing
+            }
+        }
+    }
+
+    private static long getGcCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(collector.getCollectionCount(), 0);
+        }
+        return count;
+    }
+
+    private static long getGcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(collector.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    /**
+     * Executes warmup and measured invocations, resets metrics and takes JVM counters snapshot when
+     * warmup is over and when last invocation is done, so runtime shutdown is not measured
+     */
+    private static final class LoadLoopCondition implements AwsRuntimeLoopCondition {
+
+        private final long warmup;
+        private final long total;
+        private final LoadInvocationMetrics metrics;
+
+        private long iteration = 0;
+        private volatile long startNanos;
+        private volatile long endNanos;
+        private volatile long gcCount;
+        private volatile long gcTime;
+        private volatile long classesLoaded;
+        private volatile long endGcCount;
+        private volatile long endGcTime;
+        private volatile long endClassesLoaded;
+
+        private LoadLoopCondition(long warmup, long invocations, LoadInvocationMetrics metrics) {
+            this.warmup = warmup;
+            this.total = warmup + invocations;
+            this.metrics = metrics;
+        }
+
+        @Override
+        public boolean continueLoop() {
+            if (iteration == warmup) {
+                metrics.reset();
+                gcCount = getGcCount();
+                gcTime = getGcTime();
+                classesLoaded = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+                startNanos = System.nanoTime();
+            }
+
+            if (iteration++ < total) {
+                return true;
+            }
+
+            endNanos = System.nanoTime();
+            endClassesLoaded = ManagementFactory.getClassLoadingMXBean().getTotalLoadedClassCount();
+            endGcCount = getGcCount();
+            endGcTime = getGcTime();
+            return false;
+        }
+    }
+}
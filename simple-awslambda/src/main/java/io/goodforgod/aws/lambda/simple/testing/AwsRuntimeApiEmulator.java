@@ -0,0 +1,426 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import io.goodforgod.aws.lambda.simple.config.AwsRuntimeVariables;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.SimpleAwsRuntimeClient;
+import io.goodforgod.aws.lambda.simple.metrics.LatencyHistogram;
+import io.goodforgod.aws.lambda.simple.utils.ExecutorUtils;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BiConsumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Embeddable local AWS Lambda Runtime API on loopback for load and latency testing of real runtime
+ * with {@link io.goodforgod.aws.lambda.simple.http.nativeclient.SimpleAwsRuntimeClient} and HTTP
+ * layer, unlike {@link AwsLambdaAssertions} that replaces HTTP layer entirely.
+ * <p>
+ * Implements next invocation, invocation response, invocation error and init error endpoints, serves
+ * events from directory or generator at target rate and records per invocation round trip (event
+ * sent to response received) and inter invocation gap (response received to next invocation
+ * requested) histograms.
+ * <p>
+ * Runtime in same JVM is pointed to emulator by providing {@link #getRuntimeClient(SimpleHttpClient)}
+ * as {@link io.goodforgod.aws.lambda.simple.AwsRuntimeClient} bean of its RuntimeContext, runtime in
+ * separate process with {@link #getRuntimeApi()} as {@link AwsRuntimeVariables#AWS_LAMBDA_RUNTIME_API}
+ * environment variable.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class AwsRuntimeApiEmulator implements AutoCloseable {
+
+    private static final String RUNTIME_PATH = "/2018-06-01/runtime/";
+    private static final String NEXT_PATH = AwsRuntimeVariables.INVOCATION_NEXT_URI;
+    private static final String RESPONSE_SUFFIX = "/response";
+    private static final String ERROR_SUFFIX = "/error";
+
+    public static final class Builder {
+
+        private LongFunction<byte[]> events;
+        private int rate = 0;
+        private long invocations = Long.MAX_VALUE;
+        private Duration timeout = Duration.ofMinutes(15);
+        private String functionArn = "arn:aws:lambda:us-east-1:123456789012:function:emulator";
+        private int port = 0;
+        private BiConsumer<String, byte[]> responseListener = (requestId, body) -> {};
+
+        private Builder() {}
+
+        /**
+         * @param directory with events, each regular file is one event, served in file name order and
+         *                  repeated when all are served
+         * @return self
+         */
+        public @NotNull Builder events(@NotNull Path directory) {
+            final List<byte[]> files;
+            try (Stream<Path> paths = Files.list(directory)) {
+                files = paths.filter(Files::isRegularFile)
+                        .sorted()
+                        .map(AwsRuntimeApiEmulator::readFile)
+                        .toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+
+            if (files.isEmpty()) {
+                throw new IllegalArgumentException("No events found in directory: " + directory);
+            }
+
+            this.events = invocation -> files.get((int) (invocation % files.size()));
+            return this;
+        }
+
+        /**
+         * @param generator of event for invocation number starting from 0
+         * @return self
+         */
+        public @NotNull Builder events(@NotNull LongFunction<byte[]> generator) {
+            this.events = generator;
+            return this;
+        }
+
+        /**
+         * @param eventsPerSecond target rate of served events, 0 means as fast as runtime requests them
+         * @return self
+         */
+        public @NotNull Builder rate(int eventsPerSecond) {
+            if (eventsPerSecond < 0) {
+                throw new IllegalArgumentException("Rate can't be negative, but was: " + eventsPerSecond);
+            }
+
+            this.rate = eventsPerSecond;
+            return this;
+        }
+
+        /**
+         * @param invocations total number of events to serve, after that next invocation requests wait
+         *                    until emulator is closed, same as idle Lambda
+         * @return self
+         */
+        public @NotNull Builder invocations(long invocations) {
+            if (invocations < 1) {
+                throw new IllegalArgumentException("Invocations must be positive, but was: " + invocations);
+            }
+
+            this.invocations = invocations;
+            return this;
+        }
+
+        /**
+         * @param timeout of function used for invocation deadline
+         * @return self
+         */
+        public @NotNull Builder timeout(@NotNull Duration timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public @NotNull Builder functionArn(@NotNull String functionArn) {
+            this.functionArn = functionArn;
+            return this;
+        }
+
+        /**
+         * @param port to listen on loopback, 0 means any free port
+         * @return self
+         */
+        public @NotNull Builder port(int port) {
+            this.port = port;
+            return this;
+        }
+
+        /**
+         * @param responseListener invoked with request ID and response body for every invocation
+         *                         response
+         * @return self
+         */
+        public @NotNull Builder onResponse(@NotNull BiConsumer<String, byte[]> responseListener) {
+            this.responseListener = responseListener;
+            return this;
+        }
+
+        /**
+         * @return started emulator
+         */
+        public @NotNull AwsRuntimeApiEmulator build() {
+            Objects.requireNonNull(events, "Events directory or generator must be specified");
+            return new AwsRuntimeApiEmulator(this);
+        }
+    }
+
+    private final LongFunction<byte[]> events;
+    private final long intervalNanos;
+    private final long invocationsLimit;
+    private final long timeoutMillis;
+    private final String functionArn;
+    private final BiConsumer<String, byte[]> responseListener;
+
+    private final LoopbackHttpServer server;
+    private final ExecutorService executor;
+    private final CountDownLatch closed = new CountDownLatch(1);
+    private final Object completionLock = new Object();
+
+    private final Map<String, Long> inflight = new ConcurrentHashMap<>();
+    private final AtomicLong dispatched = new AtomicLong();
+    private final AtomicLong responses = new AtomicLong();
+    private final AtomicLong errors = new AtomicLong();
+    private final AtomicLong initErrors = new AtomicLong();
+    private final AtomicLong lastCompletedNanos = new AtomicLong();
+    private final LatencyHistogram roundTrip = new LatencyHistogram();
+    private final LatencyHistogram gap = new LatencyHistogram();
+
+    private volatile long startNanos;
+
+    private AwsRuntimeApiEmulator(Builder builder) {
+        this.events = builder.events;
+        this.intervalNanos = (builder.rate == 0)
+                ? 0
+                : TimeUnit.SECONDS.toNanos(1) / builder.rate;
+        this.invocationsLimit = builder.invocations;
+        this.timeoutMillis = builder.timeout.toMillis();
+        this.functionArn = builder.functionArn;
+        this.responseListener = builder.responseListener;
+
+        // next invocation request waits for its event, so it must not block other requests
+        this.executor = ExecutorUtils.getDaemonCachedExecutor("lambda-runtime-api-emulator");
+        this.server = new LoopbackHttpServer(builder.port, executor, this::handle);
+    }
+
+    public static @NotNull Builder builder() {
+        return new Builder();
+    }
+
+    private static byte[] readFile(Path path) {
+        try {
+            return Files.readAllBytes(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return host and port to use as {@link AwsRuntimeVariables#AWS_LAMBDA_RUNTIME_API}
+     */
+    public @NotNull String getRuntimeApi() {
+        return server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    public @NotNull URI getEndpoint() {
+        return URI.create("http://" + getRuntimeApi());
+    }
+
+    /**
+     * @param httpClient to call emulator with
+     * @return runtime client pointed to emulator {@link #getEndpoint()}
+     */
+    public @NotNull SimpleAwsRuntimeClient getRuntimeClient(@NotNull SimpleHttpClient httpClient) {
+        return new EmulatorAwsRuntimeClient(httpClient, getEndpoint());
+    }
+
+    private LoopbackHttpServer.Response handle(LoopbackHttpServer.Request request) {
+        final String path = request.path();
+        final String method = request.method();
+        if (!path.startsWith(RUNTIME_PATH)) {
+            return LoopbackHttpServer.Response.of(404);
+        } else if ("GET".equals(method) && NEXT_PATH.equals(path)) {
+            return next();
+        } else if ("POST".equals(method) && AwsRuntimeVariables.INIT_ERROR.equals(path)) {
+            initErrors.incrementAndGet();
+            return LoopbackHttpServer.Response.of(202);
+        } else if ("POST".equals(method) && path.startsWith(AwsRuntimeVariables.INVOCATION_URI)
+                && path.endsWith(RESPONSE_SUFFIX)) {
+            final String requestId = getRequestId(path, RESPONSE_SUFFIX);
+            if (complete(requestId, responses)) {
+                responseListener.accept(requestId, request.body());
+                return LoopbackHttpServer.Response.of(202);
+            } else {
+                return getUnknownRequestId(requestId);
+            }
+        } else if ("POST".equals(method) && path.startsWith(AwsRuntimeVariables.INVOCATION_URI)
+                && path.endsWith(ERROR_SUFFIX)) {
+            final String requestId = getRequestId(path, ERROR_SUFFIX);
+            return complete(requestId, errors)
+                    ? LoopbackHttpServer.Response.of(202)
+                    : getUnknownRequestId(requestId);
+        } else {
+            return LoopbackHttpServer.Response.of(404);
+        }
+    }
+
+    /**
+     * @return event response or null when invocations limit is reached and emulator is closed
+     */
+    private LoopbackHttpServer.Response next() {
+        final long requestedNanos = System.nanoTime();
+        final long previousCompleted = lastCompletedNanos.get();
+        if (previousCompleted != 0) {
+            gap.record(requestedNanos - previousCompleted);
+        }
+
+        final long invocation = dispatched.getAndIncrement();
+        if (invocation >= invocationsLimit) {
+            dispatched.decrementAndGet();
+            awaitClose();
+            return null;
+        }
+
+        if (invocation == 0) {
+            startNanos = requestedNanos;
+        } else if (intervalNanos > 0) {
+            final long scheduledNanos = startNanos + invocation * intervalNanos;
+            long waitNanos;
+            while ((waitNanos = scheduledNanos - System.nanoTime()) > 0 && closed.getCount() > 0) {
+                LockSupport.parkNanos(waitNanos);
+            }
+        }
+
+        final byte[] event = events.apply(invocation);
+        final String requestId = String.valueOf(invocation + 1);
+        final Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(AwsRuntimeVariables.LAMBDA_RUNTIME_AWS_REQUEST_ID, requestId);
+        headers.put(AwsRuntimeVariables.LAMBDA_RUNTIME_DEADLINE_MS, String.valueOf(System.currentTimeMillis() + timeoutMillis));
+        headers.put(AwsRuntimeVariables.LAMBDA_RUNTIME_INVOKED_FUNCTION_ARN, functionArn);
+        headers.put(AwsRuntimeVariables.LAMBDA_RUNTIME_TRACE_ID,
+                "Root=1-00000000-" + String.format("%024x", invocation + 1) + ";Sampled=0");
+        headers.put("Content-Type", "application/json");
+
+        inflight.put(requestId, System.nanoTime());
+        return new LoopbackHttpServer.Response(200, headers, event);
+    }
+
+    private boolean complete(String requestId, AtomicLong counter) {
+        final Long sentNanos = inflight.remove(requestId);
+        if (sentNanos == null) {
+            return false;
+        }
+
+        final long completedNanos = System.nanoTime();
+        roundTrip.record(completedNanos - sentNanos);
+        counter.incrementAndGet();
+        lastCompletedNanos.set(completedNanos);
+        synchronized (completionLock) {
+            completionLock.notifyAll();
+        }
+        return true;
+    }
+
+    private static String getRequestId(String path, String suffix) {
+        return path.substring(AwsRuntimeVariables.INVOCATION_URI.length(), path.length() - suffix.length());
+    }
+
+    private static LoopbackHttpServer.Response getUnknownRequestId(String requestId) {
+        final byte[] body = ("{\"errorMessage\":\"Unknown request ID: " + requestId + "\",\"errorType\":\"InvalidRequestID\"}")
+                .getBytes(StandardCharsets.UTF_8);
+        return new LoopbackHttpServer.Response(400, Map.of("Content-Type", "application/json"), body);
+    }
+
+    private void awaitClose() {
+        try {
+            closed.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @param completed number of invocations that responded with result or error
+     * @param timeout   to wait for
+     * @return true if invocations are completed, false if timeout is reached
+     */
+    public boolean awaitCompleted(long completed, @NotNull Duration timeout) {
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        synchronized (completionLock) {
+            long waitNanos;
+            while (getCompleted() < completed) {
+                waitNanos = deadline - System.nanoTime();
+                if (waitNanos <= 0) {
+                    return false;
+                }
+
+                try {
+                    TimeUnit.NANOSECONDS.timedWait(completionLock, waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * @return number of events sent to runtime
+     */
+    public long getInvocations() {
+        return dispatched.get();
+    }
+
+    public long getResponses() {
+        return responses.get();
+    }
+
+    public long getErrors() {
+        return errors.get();
+    }
+
+    public long getInitErrors() {
+        return initErrors.get();
+    }
+
+    /**
+     * @return number of invocations that responded with result or error
+     */
+    public long getCompleted() {
+        return responses.get() + errors.get();
+    }
+
+    /**
+     * @return histogram of time from event sent to runtime till its response or error received
+     */
+    public @NotNull LatencyHistogram getRoundTrip() {
+        return roundTrip;
+    }
+
+    /**
+     * @return histogram of time from response or error received till next invocation requested
+     */
+    public @NotNull LatencyHistogram getGap() {
+        return gap;
+    }
+
+    @Override
+    public void close() {
+        closed.countDown();
+        server.close();
+        executor.shutdownNow();
+    }
+
+    @Override
+    public String toString() {
+        return "[invocations=" + getInvocations()
+                + ", responses=" + getResponses()
+                + ", errors=" + getErrors()
+                + ", initErrors=" + getInitErrors()
+                + ", roundTrip=" + roundTrip
+                + ", gap=" + gap + ']';
+    }
+}
@@ -0,0 +1,28 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import io.goodforgod.aws.lambda.simple.AwsRuntimeClient;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.SimpleAwsRuntimeClient;
+import java.net.URI;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runtime client pointed to {@link AwsRuntimeApiEmulator} instead of Runtime API from environment
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class EmulatorAwsRuntimeClient extends SimpleAwsRuntimeClient implements AwsRuntimeClient {
+
+    private final URI runtimeApi;
+
+    EmulatorAwsRuntimeClient(SimpleHttpClient httpClient, URI runtimeApi) {
+        super(httpClient);
+        this.runtimeApi = runtimeApi;
+    }
+
+    @Override
+    public @NotNull URI getAwsRuntimeApi() {
+        return runtimeApi;
+    }
+}
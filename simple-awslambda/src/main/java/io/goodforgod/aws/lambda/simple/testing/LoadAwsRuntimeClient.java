@@ -0,0 +1,32 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import io.goodforgod.aws.lambda.simple.AwsRuntimeClient;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
+import java.net.URI;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Runtime client of load run pointed to {@link AwsRuntimeApiEmulator} that keeps initialization
+ * error
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class LoadAwsRuntimeClient extends EmulatorAwsRuntimeClient implements AwsRuntimeClient {
+
+    private volatile Throwable throwable;
+
+    LoadAwsRuntimeClient(SimpleHttpClient httpClient, URI runtimeApi) {
+        super(httpClient, runtimeApi);
+    }
+
+    @Override
+    public void reportInitializationError(@NotNull URI runtimeEndpoint, @NotNull Throwable throwable) {
+        this.throwable = throwable;
+        super.reportInitializationError(runtimeEndpoint, throwable);
+    }
+
+    Throwable getThrowable() {
+        return throwable;
+    }
+}
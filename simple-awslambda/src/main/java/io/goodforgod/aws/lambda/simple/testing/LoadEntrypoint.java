@@ -0,0 +1,57 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import io.goodforgod.aws.lambda.simple.AbstractLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.AwsRuntimeLoopCondition;
+
+/**
+ * Load AbstractLambdaEntrypoint wraps real entrypoint and runs its event loop against
+ * {@link AwsRuntimeApiEmulator}
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class LoadEntrypoint extends AbstractLambdaEntrypoint {
+
+    final AbstractLambdaEntrypoint entrypoint;
+    final LoadAwsRuntimeClient runtimeClient;
+    final AwsRuntimeLoopCondition loopCondition;
+    final LoadInvocationMetrics metrics;
+
+    private volatile Throwable throwable;
+
+    LoadEntrypoint(AbstractLambdaEntrypoint entrypoint,
+                   LoadAwsRuntimeClient runtimeClient,
+                   AwsRuntimeLoopCondition loopCondition,
+                   LoadInvocationMetrics metrics) {
+        super();
+        this.entrypoint = entrypoint;
+        this.runtimeClient = runtimeClient;
+        this.loopCondition = loopCondition;
+        this.metrics = metrics;
+    }
+
+    void load(String[] args) {
+        run(args);
+    }
+
+    Throwable getThrowable() {
+        return (throwable == null)
+                ? runtimeClient.getThrowable()
+                : throwable;
+    }
+
+    @Override
+    public String getEventHandlerQualifier() {
+        return entrypoint.getEventHandlerQualifier();
+    }
+
+    @Override
+    public LoadRuntimeContext initializeRuntimeContext() {
+        return new LoadRuntimeContext(this);
+    }
+
+    @Override
+    protected void handleInitializationError(Throwable e) {
+        this.throwable = e;
+    }
+}
@@ -0,0 +1,42 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import io.goodforgod.aws.lambda.simple.metrics.LatencyHistogram;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer.Phase;
+import io.goodforgod.aws.lambda.simple.metrics.SimpleInvocationMetrics;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Invocation metrics of load run that also records runtime overhead, which is time spent by runtime
+ * itself: input conversion, output conversion and response post
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class LoadInvocationMetrics extends SimpleInvocationMetrics {
+
+    private final LatencyHistogram overhead = new LatencyHistogram();
+
+    LoadInvocationMetrics() {
+        super(true);
+    }
+
+    @Override
+    public void record(@NotNull PhaseTimer timer) {
+        super.record(timer);
+        overhead.record(timer.getNanos(Phase.INPUT_CONVERSION)
+                + timer.getNanos(Phase.OUTPUT_CONVERSION)
+                + timer.getNanos(Phase.RESPONSE));
+    }
+
+    @NotNull
+    LatencyHistogram getOverhead() {
+        return overhead;
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        overhead.reset();
+    }
+}
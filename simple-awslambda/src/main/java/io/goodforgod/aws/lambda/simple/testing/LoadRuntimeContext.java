@@ -0,0 +1,57 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import io.goodforgod.aws.lambda.simple.AwsRuntimeClient;
+import io.goodforgod.aws.lambda.simple.AwsRuntimeLoopCondition;
+import io.goodforgod.aws.lambda.simple.metrics.InvocationMetrics;
+import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Load RuntimeContext wraps real RuntimeContext and replaces runtime client, loop condition and
+ * metrics with ones of load run
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class LoadRuntimeContext implements RuntimeContext {
+
+    private final LoadEntrypoint loadEntrypoint;
+
+    LoadRuntimeContext(LoadEntrypoint loadEntrypoint) {
+        this.loadEntrypoint = loadEntrypoint;
+    }
+
+    @Override
+    public void setupInRuntime() {
+        getRealRuntimeContext().setupInRuntime();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getBean(@NotNull Class<T> beanType) {
+        if (AwsRuntimeClient.class.isAssignableFrom(beanType)) {
+            return (T) loadEntrypoint.runtimeClient;
+        } else if (AwsRuntimeLoopCondition.class.isAssignableFrom(beanType)) {
+            return (T) loadEntrypoint.loopCondition;
+        } else if (InvocationMetrics.class.isAssignableFrom(beanType)) {
+            return (T) loadEntrypoint.metrics;
+        } else {
+            return getRealRuntimeContext().getBean(beanType);
+        }
+    }
+
+    @Override
+    public <T> T getBean(@NotNull Class<T> beanType, @Nullable String qualifier) {
+        return getRealRuntimeContext().getBean(beanType, qualifier);
+    }
+
+    @Override
+    public void close() throws Exception {
+        // do nothing
+    }
+
+    private RuntimeContext getRealRuntimeContext() {
+        return loadEntrypoint.entrypoint.getRuntimeContext();
+    }
+}
@@ -0,0 +1,246 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Minimal HTTP/1.1 server on loopback for {@link AwsRuntimeApiEmulator}, unlike JDK HttpServer it
+ * enables {@code TCP_NODELAY} per connection (without JVM wide {@code sun.net.httpserver.nodelay}
+ * property) and writes response headers and body in single write, so responses are not delayed by
+ * Nagle algorithm and measured latency is meaningful.
+ * <p>
+ * Supports keep-alive, {@code Content-Length} and chunked request bodies.
+ * <p>
+ * Failed accept (like file descriptors exhaustion) is retried with exponential backoff up to
+ * {@link #MAX_ACCEPT_BACKOFF_MILLIS}, so accept loop doesn't spin on CPU while server is open.
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+final class LoopbackHttpServer implements AutoCloseable {
+
+    static final long MIN_ACCEPT_BACKOFF_MILLIS = 10;
+    static final long MAX_ACCEPT_BACKOFF_MILLIS = 1000;
+
+    record Request(String method, String path, byte[] body) {}
+
+    record Response(int status, Map<String, String> headers, byte[] body) {
+
+        static Response of(int status) {
+            return new Response(status, Map.of(), new byte[0]);
+        }
+    }
+
+    interface Handler {
+
+        /**
+         * @param request to handle
+         * @return response or null to close connection without response
+         */
+        @Nullable
+        Response handle(Request request) throws IOException;
+    }
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor;
+    private final Handler handler;
+    private final Set<Socket> connections = ConcurrentHashMap.newKeySet();
+    private volatile boolean closed = false;
+
+    LoopbackHttpServer(int port, ExecutorService executor, Handler handler) {
+        this.executor = executor;
+        this.handler = handler;
+        try {
+            this.serverSocket = new ServerSocket();
+            this.serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        executor.execute(this::accept);
+    }
+
+    InetSocketAddress getAddress() {
+        return (InetSocketAddress) serverSocket.getLocalSocketAddress();
+    }
+
+    private void accept() {
+        long backoffMillis = MIN_ACCEPT_BACKOFF_MILLIS;
+        while (!closed) {
+            try {
+                final Socket socket = serverSocket.accept();
+                backoffMillis = MIN_ACCEPT_BACKOFF_MILLIS;
+                socket.setTcpNoDelay(true);
+                connections.add(socket);
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                if (closed || serverSocket.isClosed()) {
+                    return;
+                }
+
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_ACCEPT_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket) {
+            final InputStream input = new BufferedInputStream(socket.getInputStream());
+            final OutputStream output = new BufferedOutputStream(socket.getOutputStream());
+            while (!closed) {
+                final String requestLine = readLine(input);
+                if (requestLine == null) {
+                    return;
+                } else if (requestLine.isEmpty()) {
+                    continue;
+                }
+
+                final String[] parts = requestLine.split(" ");
+                if (parts.length != 3) {
+                    write(output, Response.of(400));
+                    return;
+                }
+
+                long contentLength = 0;
+                boolean chunked = false;
+                boolean keepAlive = true;
+                String header;
+                while ((header = readLine(input)) != null && !header.isEmpty()) {
+                    final int separator = header.indexOf(':');
+                    if (separator > 0) {
+                        final String name = header.substring(0, separator).trim();
+                        final String value = header.substring(separator + 1).trim();
+                        if ("Content-Length".equalsIgnoreCase(name)) {
+                            contentLength = Long.parseLong(value);
+                        } else if ("Transfer-Encoding".equalsIgnoreCase(name)) {
+                            chunked = value.toLowerCase().contains("chunked");
+                        } else if ("Connection".equalsIgnoreCase(name)) {
+                            keepAlive = !"close".equalsIgnoreCase(value);
+                        }
+                    }
+                }
+
+                final byte[] body = chunked
+                        ? readChunked(input)
+                        : input.readNBytes((int) contentLength);
+                final String path = URI.create(parts[1]).getPath();
+                final Response response = handler.handle(new Request(parts[0], path, body));
+                if (response == null) {
+                    return;
+                }
+
+                write(output, response);
+                if (!keepAlive) {
+                    return;
+                }
+            }
+        } catch (IOException | IllegalArgumentException e) {
+            // connection is closed by client or request is malformed
+        } finally {
+            connections.remove(socket);
+        }
+    }
+
+    private static byte[] readChunked(InputStream input) throws IOException {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        while (true) {
+            final String sizeLine = readLine(input);
+            if (sizeLine == null) {
+                throw new EOFException("Chunked body is not completed");
+            }
+
+            final int extension = sizeLine.indexOf(';');
+            final int size = Integer.parseInt(((extension == -1)
+                    ? sizeLine
+                    : sizeLine.substring(0, extension)).trim(), 16);
+            if (size == 0) {
+                String trailer;
+                while ((trailer = readLine(input)) != null && !trailer.isEmpty()) {
+                    // trailers are ignored
+                }
+                return body.toByteArray();
+            }
+
+            body.write(input.readNBytes(size));
+            readLine(input);
+        }
+    }
+
+    /**
+     * @return line without CRLF or null if stream is ended before any byte is read
+     */
+    private static String readLine(InputStream input) throws IOException {
+        final StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = input.read()) != -1) {
+            if (b == '\n') {
+                final int length = line.length();
+                return (length > 0 && line.charAt(length - 1) == '\r')
+                        ? line.substring(0, length - 1)
+                        : line.toString();
+            }
+
+            line.append((char) b);
+        }
+
+        return (line.length() == 0)
+                ? null
+                : line.toString();
+    }
+
+    private static void write(OutputStream output, Response response) throws IOException {
+        final StringBuilder head = new StringBuilder()
+                .append("HTTP/1.1 ").append(response.status()).append(' ').append(getReason(response.status())).append("\r\n");
+        response.headers().forEach((name, value) -> head.append(name).append(": ").append(value).append("\r\n"));
+        head.append("Content-Length: ").append(response.body().length).append("\r\n\r\n");
+
+        output.write(head.toString().getBytes(StandardCharsets.ISO_8859_1));
+        output.write(response.body());
+        output.flush();
+    }
+
+    private static String getReason(int status) {
+        return switch (status) {
+            case 200 -> "OK";
+            case 202 -> "Accepted";
+            case 400 -> "Bad Request";
+            case 404 -> "Not Found";
+            default -> "Unknown";
+        };
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            serverSocket.close();
+        } catch (IOException e) {
+            // already closed
+        }
+
+        for (Socket connection : connections) {
+            try {
+                connection.close();
+            } catch (IOException e) {
+                // already closed
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "[address=" + getAddress() + ", connections=" + connections.size() + ']';
+    }
+}
@@ -0,0 +1,69 @@
+package io.goodforgod.aws.lambda.simple.utils;
+
+import io.goodforgod.graalvm.hint.annotation.ReflectionHint;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.ApiStatus.Internal;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+@Internal
+@ReflectionHint(types = Executors.class, value = ReflectionHint.AccessType.ALL_PUBLIC_METHODS)
+public final class ExecutorUtils {
+
+    private ExecutorUtils() {}
+
+    /**
+     * @return virtual thread per task executor if running on Java 21+ or null
+     */
+    public static @Nullable ExecutorService getVirtualThreadExecutor() {
+        try {
+            final Method method = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) method.invoke(null);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Should be called in runtime only, so no thread is part of native image heap
+     *
+     * @param threadName of pool threads
+     * @return cached thread pool with daemon threads
+     */
+    public static @NotNull ExecutorService getDaemonCachedExecutor(@NotNull String threadName) {
+        return Executors.newCachedThreadPool(runnable -> {
+            final Thread thread = new Thread(runnable, threadName);
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Should be called in runtime only, so no thread is part of native image heap
+     *
+     * @param threadName of pool threads
+     * @param maxThreads maximum amount of threads, tasks are queued when all threads are busy
+     * @return thread pool with daemon threads that are terminated when idle
+     */
+    public static @NotNull ExecutorService getDaemonBoundedExecutor(@NotNull String threadName, int maxThreads) {
+        final ThreadPoolExecutor executor = new ThreadPoolExecutor(maxThreads, maxThreads,
+                60L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    final Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+}
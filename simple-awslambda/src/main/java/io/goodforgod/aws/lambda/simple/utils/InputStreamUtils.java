@@ -20,8 +20,12 @@ public static String getStringFromInputStreamUTF8(InputStream inputStream) {
     }
 
     public static String getStringFromInputStream(InputStream inputStream, Charset charset) {
+        return new String(getBytesFromInputStream(inputStream), charset);
+    }
+
+    public static byte[] getBytesFromInputStream(InputStream inputStream) {
         try {
-            return new String(inputStream.readAllBytes(), charset);
+            return inputStream.readAllBytes();
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
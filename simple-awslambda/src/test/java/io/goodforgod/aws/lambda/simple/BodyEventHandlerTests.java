@@ -1,11 +1,16 @@
 package io.goodforgod.aws.lambda.simple;
 
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
 import io.goodforgod.aws.lambda.events.gateway.APIGatewayV2HTTPEvent;
 import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.event.LazyJsonObject;
 import io.goodforgod.aws.lambda.simple.mock.BodyLambdaEntrypoint;
 import io.goodforgod.aws.lambda.simple.mock.Request;
 import io.goodforgod.aws.lambda.simple.mock.Response;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
 import io.goodforgod.aws.lambda.simple.testing.AwsLambdaAssertions;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -15,6 +20,22 @@
  */
 class BodyEventHandlerTests extends Assertions {
 
+    static final class LazyBodyLambda implements RequestHandler<LazyJsonObject, String> {
+
+        @Override
+        public String handleRequest(LazyJsonObject body, Context context) {
+            return body.getString("name") + ":" + body.has("rawPath");
+        }
+    }
+
+    static final class LazyBodyLambdaEntrypoint extends BodyLambdaEntrypoint {
+
+        @Override
+        protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+            return context -> context.registerBean(new LazyBodyLambda());
+        }
+    }
+
     @Test
     void eventHandled() {
         final Request request = new Request("Steeven King");
@@ -29,4 +50,22 @@ void eventHandled() {
 
         assertEquals("Hello - Steeven King", response.message());
     }
+
+    @Test
+    void lazyBodyHandled() {
+        final String response = AwsLambdaAssertions.ofEntrypoint(new LazyBodyLambdaEntrypoint())
+                .inputString("{\"rawPath\":\"/users\",\"body\":\"{\\\"name\\\":\\\"Bob\\\"}\"}")
+                .expectString();
+
+        assertEquals("\"Bob:false\"", response);
+    }
+
+    @Test
+    void lazyBase64BodyHandled() {
+        final String response = AwsLambdaAssertions.ofEntrypoint(new LazyBodyLambdaEntrypoint())
+                .inputString("{\"rawPath\":\"/users\",\"body\":\"eyJuYW1lIjoiQm9iIn0=\",\"isBase64Encoded\":true}")
+                .expectString();
+
+        assertEquals("\"Bob:false\"", response);
+    }
 }
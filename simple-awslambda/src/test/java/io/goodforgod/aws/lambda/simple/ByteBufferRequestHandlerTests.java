@@ -0,0 +1,34 @@
+package io.goodforgod.aws.lambda.simple;
+
+import io.goodforgod.aws.lambda.simple.mock.ByteBufferBodyLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.mock.ByteBufferLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.testing.AwsLambdaAssertions;
+import java.util.Base64;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class ByteBufferRequestHandlerTests extends Assertions {
+
+    @Test
+    void eventHandled() {
+        final byte[] response = AwsLambdaAssertions.ofEntrypoint(new ByteBufferLambdaEntrypoint())
+                .inputBytes(new byte[] { 1, 2, 3, -1 })
+                .expectBytes();
+
+        assertArrayEquals(new byte[] { -1, 3, 2, 1 }, response);
+    }
+
+    @Test
+    void base64BodyEventHandled() {
+        final String body = Base64.getEncoder().encodeToString(new byte[] { 1, 2, 3, -1 });
+        final byte[] response = AwsLambdaAssertions.ofEntrypoint(new ByteBufferBodyLambdaEntrypoint())
+                .inputString("{\"body\":\"" + body + "\",\"isBase64Encoded\":true}")
+                .expectBytes();
+
+        assertArrayEquals(new byte[] { -1, 3, 2, 1 }, response);
+    }
+}
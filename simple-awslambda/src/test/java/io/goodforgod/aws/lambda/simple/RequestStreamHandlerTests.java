@@ -0,0 +1,114 @@
+package io.goodforgod.aws.lambda.simple;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.amazonaws.services.lambda.runtime.RequestStreamHandler;
+import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverterFactory;
+import io.goodforgod.aws.lambda.simple.handler.Event;
+import io.goodforgod.aws.lambda.simple.handler.EventHandler;
+import io.goodforgod.aws.lambda.simple.handler.impl.InputEventHandler;
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer;
+import io.goodforgod.aws.lambda.simple.mock.StreamLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.mock.UpperCaseStreamLambda;
+import io.goodforgod.aws.lambda.simple.reactive.PublisherUtils;
+import io.goodforgod.aws.lambda.simple.testing.AwsLambdaAssertions;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class RequestStreamHandlerTests extends Assertions {
+
+    @Test
+    void eventStreamed() {
+        final String input = "streamed,csv,line\n".repeat(50_000);
+        final String response = AwsLambdaAssertions.ofEntrypoint(new StreamLambdaEntrypoint())
+                .inputString(input)
+                .expectString();
+
+        assertEquals(input.toUpperCase(), response);
+    }
+
+    @Test
+    void streamHandlerFailureReported() {
+        final String input = "streamed,csv,line\n".repeat(50_000) + "!";
+        final Exception e = assertThrows(Exception.class, () -> AwsLambdaAssertions.ofEntrypoint(new StreamLambdaEntrypoint())
+                .inputString(input)
+                .expectThrows());
+
+        Throwable cause = e;
+        while (cause != null && !"Unexpected symbol".equals(cause.getMessage())) {
+            cause = cause.getCause();
+        }
+        assertNotNull(cause, () -> "Handler failure is not reported, but was: " + e);
+        assertInstanceOf(IllegalStateException.class, cause);
+    }
+
+    @Test
+    void streamHandlerTimeReportedAsHandler() {
+        final RequestStreamHandler streamHandler = (input, output, context) -> {
+            try {
+                Thread.sleep(200);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            output.write(input.readAllBytes());
+        };
+        final Event event = new Event() {
+
+            @Override
+            public InputStream input() {
+                return new ByteArrayInputStream("streamed".getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public Context context() {
+                return null;
+            }
+        };
+
+        final PhaseTimer timer = new PhaseTimer();
+        final Publisher<ByteBuffer> publisher = new InputEventHandler(new GsonConverterFactory().build())
+                .handle(event, streamHandler, timer);
+        // handler writes response while it is posted
+        timer.start(PhaseTimer.Phase.RESPONSE);
+        assertEquals("streamed", PublisherUtils.asString(publisher));
+        timer.stop();
+
+        assertTrue(timer.getNanos(PhaseTimer.Phase.HANDLER) >= TimeUnit.MILLISECONDS.toNanos(200), timer.toString());
+        assertTrue(timer.getNanos(PhaseTimer.Phase.RESPONSE) < timer.getNanos(PhaseTimer.Phase.HANDLER), timer.toString());
+    }
+
+    @Test
+    void streamHandledByDefaultEventHandler() {
+        final EventHandler eventHandler = new EventHandler() {
+
+            @Override
+            public Publisher<ByteBuffer> handle(Event event, RequestHandler requestHandler) {
+                throw new UnsupportedOperationException();
+            }
+        };
+        final Event event = new Event() {
+
+            @Override
+            public InputStream input() {
+                return new ByteArrayInputStream("streamed".getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public Context context() {
+                return null;
+            }
+        };
+
+        assertEquals("STREAMED", PublisherUtils.asString(eventHandler.handle(event, new UpperCaseStreamLambda())));
+    }
+}
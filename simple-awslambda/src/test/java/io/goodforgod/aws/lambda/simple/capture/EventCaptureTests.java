@@ -0,0 +1,286 @@
+package io.goodforgod.aws.lambda.simple.capture;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import io.goodforgod.aws.lambda.simple.mock.EmulatorRuntimeContext;
+import io.goodforgod.aws.lambda.simple.mock.HelloWorldLambda;
+import io.goodforgod.aws.lambda.simple.mock.InputLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.mock.InvocationsRuntimeContext;
+import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import io.goodforgod.aws.lambda.simple.testing.AwsLambdaLoad;
+import io.goodforgod.aws.lambda.simple.testing.AwsRuntimeApiEmulator;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class EventCaptureTests extends Assertions {
+
+    private record CaptureContext(String getAwsRequestId, String getInvokedFunctionArn, int getRemainingTimeInMillis)
+            implements Context {
+
+        @Override
+        public String getLogGroupName() {
+            return null;
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionName() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return null;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return 0;
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    private final Context context = new CaptureContext("8476a536-e9f4-11e8-9739-2dfe598c3fcd",
+            "arn:aws:lambda:us-east-1:123456789012:function:test", 3000);
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String string(byte[] value) {
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void fieldsRedacted() {
+        final EventRedactor redactor = EventRedactor.ofFields("password", "Authorization");
+
+        assertEquals("{\"user\":\"bob\",\"password\" : \"***\",\"nested\":{\"authorization\":\"***\"}}",
+                string(redactor.redact(bytes("{\"user\":\"bob\",\"password\" : \"s3c\\\"ret\",\"nested\":{\"authorization\":\"Bearer x\"}}"))));
+        assertEquals("{\"body\":\"{\\\"PASSWORD\\\":\\\"***\\\",\\\"user\\\":\\\"bob\\\"}\"}",
+                string(redactor.redact(bytes("{\"body\":\"{\\\"PASSWORD\\\":\\\"secret\\\",\\\"user\\\":\\\"bob\\\"}\"}"))));
+        assertEquals("{\"password\":\"***\",\"authorization\":\"***\",\"age\":42}",
+                string(redactor.redact(bytes("{\"password\":-1234.5e3,\"authorization\":true,\"age\":42}"))));
+        assertEquals("{\"body\":\"{\\\"password\\\":\\\"***\\\"}\"}",
+                string(redactor.redact(bytes("{\"body\":\"{\\\"password\\\":1234}\"}"))));
+
+        final byte[] untouched = bytes("{\"user\":\"bob\",\"password\":null}");
+        assertSame(untouched, redactor.redact(untouched));
+        assertThrows(IllegalArgumentException.class, EventRedactor::ofFields);
+    }
+
+    @Test
+    void capturedAndParsed() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final EventCapture capture = EventCapture.builder()
+                .sampleRate(1)
+                .redactor(EventRedactor.ofFields("password"))
+                .output(output)
+                .build();
+
+        assertTrue(capture.sample());
+        capture.capture(bytes("{\"name\":\"Bob\",\"password\":\"secret\"}"), context, 42, false);
+        assertEquals(1, capture.getCaptured());
+
+        final String line = output.toString(StandardCharsets.UTF_8);
+        assertFalse(line.startsWith(EventCapture.PREFIX));
+        assertFalse(line.contains("secret"));
+
+        final CapturedEvent event = CapturedEvent.parse(line);
+        assertNotNull(event);
+        assertEquals(context.getAwsRequestId(), event.requestId());
+        assertEquals(context.getInvokedFunctionArn(), event.functionArn());
+        assertEquals(42, event.responseBytes());
+        assertFalse(event.error());
+        assertTrue(event.timestamp() > 0);
+        assertTrue(event.deadlineMillis() >= event.timestamp() + 3000);
+        assertEquals("{\"name\":\"Bob\",\"password\":\"***\"}", string(event.event()));
+    }
+
+    @Test
+    void capturedFromLogsParsed() {
+        final CapturedEvent event = CapturedEvent.parse("2026-10-18T10:00:00.000Z\t8476a536\tINFO\t" + EventCapture.PREFIX
+                + "{\"requestId\":\"1\",\"functionArn\":\"arn\",\"deadlineMillis\":10,\"timestamp\":5,"
+                + "\"responseBytes\":-1,\"error\":true,\"event\":\"bnVsbA==\"}");
+
+        assertNotNull(event);
+        assertEquals("1", event.requestId());
+        assertEquals(10, event.deadlineMillis());
+        assertTrue(event.error());
+        assertEquals("null", string(event.event()));
+
+        assertNull(CapturedEvent.parse("START RequestId: 8476a536 Version: $LATEST"));
+        assertNull(CapturedEvent.parse("{\"level\":\"INFO\",\"message\":\"hello\"}"));
+    }
+
+    @Test
+    void limitsApplied() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final EventCapture capture = EventCapture.builder()
+                .sampleRate(1)
+                .maxEvents(2)
+                .maxEventBytes(16)
+                .output(output)
+                .build();
+
+        capture.capture(bytes("{\"name\":\"Bob Bobsen Bobsky\"}"), context, 1, false);
+        assertEquals(1, capture.getSkipped());
+        assertEquals(0, output.size());
+
+        capture.capture(bytes("{\"name\":\"Bob\"}"), context, 1, false);
+        capture.capture(bytes("{\"name\":\"Bob\"}"), context, 1, false);
+        assertFalse(capture.sample());
+        capture.capture(bytes("{\"name\":\"Bob\"}"), context, 1, false);
+        assertEquals(2, capture.getCaptured());
+        assertEquals(2, output.toString(StandardCharsets.UTF_8).lines().count());
+
+        assertFalse(EventCapture.builder().sampleRate(0).build().sample());
+        assertThrows(IllegalArgumentException.class, () -> EventCapture.builder().sampleRate(1.5));
+        assertThrows(IllegalArgumentException.class, () -> EventCapture.builder().maxEvents(0));
+        assertThrows(IllegalArgumentException.class, () -> EventCapture.builder().maxEventBytes(0));
+    }
+
+    @Test
+    void capturedByEventLoopAndReplayed(@TempDir Path directory) throws Exception {
+        final EventCapture capture = EventCapture.builder()
+                .sampleRate(1)
+                .maxEvents(3)
+                .directory(directory)
+                .build();
+        try (AwsRuntimeApiEmulator emulator = AwsRuntimeApiEmulator.builder()
+                .events(invocation -> ((invocation == 1)
+                        ? "null"
+                        : "{\"name\":\"User-" + invocation + "\"}").getBytes(StandardCharsets.UTF_8))
+                .invocations(5)
+                .build()) {
+            final Thread runtime = new Thread(() -> new InputLambdaEntrypoint() {
+
+                @Override
+                public RuntimeContext initializeRuntimeContext() {
+                    return new InvocationsRuntimeContext(new EmulatorRuntimeContext(super.initializeRuntimeContext(), emulator), 5);
+                }
+
+                @Override
+                protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+                    return context -> {
+                        context.registerBean(new HelloWorldLambda());
+                        context.registerBean(capture);
+                    };
+                }
+
+                @Override
+                protected void handleInitializationError(Throwable e) {
+                    // failure is asserted by emulator responses
+                }
+            }.run(new String[0]));
+            runtime.setDaemon(true);
+            runtime.start();
+
+            // event loop returns after last invocation is captured
+            runtime.join(Duration.ofSeconds(30).toMillis());
+            assertFalse(runtime.isAlive(), emulator.toString());
+            assertEquals(1, emulator.getErrors());
+            assertEquals(4, emulator.getResponses());
+        }
+
+        final Path file;
+        try (Stream<Path> files = Files.list(directory)) {
+            file = files.findFirst().orElseThrow();
+        }
+
+        final List<CapturedEvent> events = CapturedEvent.read(file);
+        assertEquals(3, events.size(), events.toString());
+        assertEquals("{\"name\":\"User-0\"}", string(events.get(0).event()));
+        assertTrue(events.get(0).responseBytes() > 0);
+        assertFalse(events.get(0).error());
+        assertEquals("null", string(events.get(1).event()));
+        assertTrue(events.get(1).error());
+        assertEquals("2", events.get(1).requestId());
+
+        final AwsLambdaLoad.Report report = AwsLambdaLoad.ofEntrypoint(new InputLambdaEntrypoint())
+                .eventsCaptured(file)
+                .invocations(6)
+                .timeout(Duration.ofSeconds(30))
+                .run();
+        assertEquals(6, report.invocations(), report.toString());
+        assertEquals(2, report.errors());
+    }
+
+    @Test
+    void failedCaptureNotStopsEventLoop() throws Exception {
+        final EventCapture capture = EventCapture.builder()
+                .sampleRate(1)
+                .redactor(event -> {
+                    throw new IllegalStateException("boom");
+                })
+                .output(new ByteArrayOutputStream())
+                .build();
+        try (AwsRuntimeApiEmulator emulator = AwsRuntimeApiEmulator.builder()
+                .events(invocation -> "{\"name\":\"Bob\"}".getBytes(StandardCharsets.UTF_8))
+                .invocations(3)
+                .build()) {
+            final Thread runtime = new Thread(() -> new InputLambdaEntrypoint() {
+
+                @Override
+                public RuntimeContext initializeRuntimeContext() {
+                    return new InvocationsRuntimeContext(new EmulatorRuntimeContext(super.initializeRuntimeContext(), emulator), 3);
+                }
+
+                @Override
+                protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+                    return context -> {
+                        context.registerBean(new HelloWorldLambda());
+                        context.registerBean(capture);
+                    };
+                }
+
+                @Override
+                protected void handleInitializationError(Throwable e) {
+                    // failure is asserted by emulator responses
+                }
+            }.run(new String[0]));
+            runtime.setDaemon(true);
+            runtime.start();
+
+            runtime.join(Duration.ofSeconds(30).toMillis());
+            assertFalse(runtime.isAlive(), emulator.toString());
+            assertEquals(3, emulator.getResponses(), emulator.toString());
+            assertEquals(0, emulator.getErrors());
+            assertEquals(0, capture.getCaptured());
+        }
+    }
+}
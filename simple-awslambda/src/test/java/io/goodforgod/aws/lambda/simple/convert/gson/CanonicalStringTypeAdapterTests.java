@@ -0,0 +1,45 @@
+package io.goodforgod.aws.lambda.simple.convert.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class CanonicalStringTypeAdapterTests extends Assertions {
+
+    @Test
+    void repeatedValuesAndKeysCanonicalized() {
+        final CanonicalStringTypeAdapter adapter = new CanonicalStringTypeAdapter(64, 16);
+        final Gson gson = new GsonBuilder().registerTypeAdapter(String.class, adapter).create();
+
+        final List<Map<String, String>> records = gson.fromJson(
+                "[{\"awsRegion\":\"eu-west-1\"},{\"awsRegion\":\"eu-west-1\"},{\"awsRegion\":\"eu-west-1\"}]",
+                new TypeToken<List<Map<String, String>>>() {}.getType());
+
+        final Map.Entry<String, String> first = records.get(0).entrySet().iterator().next();
+        for (Map<String, String> record : records) {
+            final Map.Entry<String, String> entry = record.entrySet().iterator().next();
+            assertSame(first.getKey(), entry.getKey());
+            assertSame(first.getValue(), entry.getValue());
+        }
+
+        assertEquals(4, adapter.getHits());
+        assertEquals(2, adapter.getMisses());
+    }
+
+    @Test
+    void longValuesNotCanonicalized() {
+        final CanonicalStringTypeAdapter adapter = new CanonicalStringTypeAdapter(64, 4);
+
+        assertEquals("long-value", adapter.canonicalize("long-value"));
+        assertEquals(0, adapter.getHits() + adapter.getMisses());
+        assertEquals(0, adapter.getHitRate());
+    }
+}
@@ -0,0 +1,88 @@
+package io.goodforgod.aws.lambda.simple.convert.gson;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.annotations.SerializedName;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class RecordTypeAdapterFactoryTests extends Assertions {
+
+    record Inner(String value) {}
+
+    record Outer(@SerializedName(value = "id", alternate = { "uid" }) String name,
+                 int count,
+                 boolean enabled,
+                 double rate,
+                 Inner inner,
+                 List<Inner> inners) {}
+
+    record Validated(int count) {
+
+        Validated {
+            if (count < 0) {
+                throw new IllegalArgumentException("Count is negative");
+            }
+        }
+    }
+
+    record Conflict(@SerializedName(value = "id", alternate = { "name" }) String id, String name) {}
+
+    private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new RecordTypeAdapterFactory()).create();
+
+    @Test
+    void readAllComponents() {
+        final Outer outer = gson.fromJson(
+                "{\"id\":\"bob\",\"count\":5,\"enabled\":true,\"rate\":1.5,\"inner\":{\"value\":\"in\"},\"inners\":[{\"value\":\"a\"}]}",
+                Outer.class);
+
+        assertEquals(new Outer("bob", 5, true, 1.5, new Inner("in"), List.of(new Inner("a"))), outer);
+    }
+
+    @Test
+    void readPrimitiveDefaultsAndSkipUnknown() {
+        final Outer outer = gson.fromJson("{\"uid\":\"alice\",\"unknown\":{\"nested\":[1,2]},\"count\":null}", Outer.class);
+
+        assertEquals(new Outer("alice", 0, false, 0D, null, null), outer);
+    }
+
+    @Test
+    void writeAndReadBack() {
+        final Outer outer = new Outer("bob", 1, true, 2.5, new Inner("in"), List.of());
+        final String json = gson.toJson(outer);
+
+        assertEquals(outer, gson.fromJson(json, Outer.class));
+    }
+
+    @Test
+    void alternateLastValueWins() {
+        final Outer outer = gson.fromJson("{\"id\":\"bob\",\"uid\":\"alice\"}", Outer.class);
+
+        assertEquals("alice", outer.name());
+        assertEquals(new Gson().fromJson("{\"id\":\"bob\",\"uid\":\"alice\"}", Outer.class), outer);
+    }
+
+    @Test
+    void conflictingNamesRejectedAsGson() {
+        final IllegalArgumentException expected = assertThrows(IllegalArgumentException.class,
+                () -> new Gson().getAdapter(Conflict.class));
+        final IllegalArgumentException actual = assertThrows(IllegalArgumentException.class,
+                () -> gson.getAdapter(Conflict.class));
+
+        assertTrue(actual.getMessage().contains("'name'"), actual.getMessage());
+        assertTrue(expected.getMessage().contains("'name'"), expected.getMessage());
+    }
+
+    @Test
+    void constructorExceptionNotWrapped() {
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> gson.fromJson("{\"count\":-1}", Validated.class));
+
+        assertEquals("Count is negative", e.getMessage());
+    }
+}
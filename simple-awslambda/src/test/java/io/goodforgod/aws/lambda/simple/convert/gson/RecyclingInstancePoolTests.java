@@ -0,0 +1,127 @@
+package io.goodforgod.aws.lambda.simple.convert.gson;
+
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class RecyclingInstancePoolTests extends Assertions {
+
+    static class Message {
+
+        private String body;
+        private int size;
+    }
+
+    static class Envelope {
+
+        private String source;
+        private boolean batch;
+        private List<Message> records;
+        private List<String> tags;
+    }
+
+    static class Settings {
+
+        private String region = "us-east-1";
+        private int retries = 3;
+        private boolean enabled;
+    }
+
+    static class Tagged {
+
+        private List<String> tags = new ArrayList<>();
+    }
+
+    @Test
+    void instancesReusedAfterRelease() {
+        final RecyclingInstancePool pool = new RecyclingInstancePool()
+                .recycle(Envelope.class)
+                .recycle(Message.class)
+                .recycleCollections();
+        final Converter converter = new GsonConverterFactory(null, pool).build();
+
+        final String json = "{\"source\":\"sqs\",\"batch\":true,\"records\":[{\"body\":\"a\",\"size\":1},{\"body\":\"b\",\"size\":2}]}";
+        final Envelope first = converter.fromString(json, Envelope.class);
+        assertEquals("sqs", first.source);
+        assertTrue(first.batch);
+        assertEquals(2, first.records.size());
+        assertEquals("b", first.records.get(1).body);
+        assertEquals(4, pool.getCreated());
+        assertEquals(0, pool.getReused());
+
+        converter.release();
+        assertNull(first.source);
+        assertFalse(first.batch);
+
+        final Envelope second = converter.fromString("{\"source\":\"sns\",\"records\":[{\"body\":\"c\"}]}", Envelope.class);
+        assertSame(first, second);
+        assertEquals("sns", second.source);
+        assertFalse(second.batch);
+        assertEquals(1, second.records.size());
+        assertEquals(0, second.records.get(0).size);
+        assertEquals(4, pool.getCreated());
+        assertEquals(3, pool.getReused());
+    }
+
+    @Test
+    void onlyCollectionsOfRecycledTypesReused() {
+        final RecyclingInstancePool pool = new RecyclingInstancePool()
+                .recycle(Envelope.class)
+                .recycle(Message.class)
+                .recycleCollections();
+        final Converter converter = new GsonConverterFactory(null, pool).build();
+
+        final Envelope envelope = converter.fromString("{\"records\":[{\"body\":\"a\"}],\"tags\":[\"x\"]}", Envelope.class);
+        final List<Message> records = envelope.records;
+        final List<String> tags = envelope.tags;
+        converter.release();
+
+        assertTrue(records.isEmpty());
+        assertEquals(List.of("x"), tags);
+    }
+
+    @Test
+    void omittedFieldsResetToInitializers() {
+        final RecyclingInstancePool pool = new RecyclingInstancePool().recycle(Settings.class);
+        final Converter converter = new GsonConverterFactory(null, pool).build();
+
+        final Settings first = converter.fromString("{\"region\":\"eu-west-1\",\"retries\":5,\"enabled\":true}", Settings.class);
+        assertEquals("eu-west-1", first.region);
+        assertEquals(5, first.retries);
+        converter.release();
+
+        final Settings second = converter.fromString("{}", Settings.class);
+        assertSame(first, second);
+        assertEquals("us-east-1", second.region);
+        assertEquals(3, second.retries);
+        assertFalse(second.enabled);
+    }
+
+    @Test
+    void typeWithMutableInitializerNotReused() {
+        final RecyclingInstancePool pool = new RecyclingInstancePool().recycle(Tagged.class);
+        final Converter converter = new GsonConverterFactory(null, pool).build();
+
+        final Tagged first = converter.fromString("{\"tags\":[\"x\"]}", Tagged.class);
+        converter.release();
+
+        final Tagged second = converter.fromString("{}", Tagged.class);
+        assertNotSame(first, second);
+        assertTrue(second.tags.isEmpty());
+        assertEquals(List.of("x"), first.tags);
+        assertEquals(0, pool.getReused());
+        assertEquals(0, pool.getTracked());
+    }
+
+    @Test
+    void abstractTypeRejected() {
+        final RecyclingInstancePool pool = new RecyclingInstancePool();
+        assertThrows(IllegalArgumentException.class, () -> pool.recycle(List.class));
+    }
+}
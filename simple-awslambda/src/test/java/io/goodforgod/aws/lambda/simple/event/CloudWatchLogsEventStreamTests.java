@@ -0,0 +1,110 @@
+package io.goodforgod.aws.lambda.simple.event;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class CloudWatchLogsEventStreamTests extends Assertions {
+
+    private static final String PAYLOAD = """
+            {"messageType":"DATA_MESSAGE","owner":"123456789012","logGroup":"/aws/lambda/fn","logStream":"2026/10/18/[$LATEST]abc",
+            "subscriptionFilters":["filter"],"logEvents":[
+            {"id":"1","timestamp":1760745600000,"message":"START RequestId: 1"},
+            {"id":"2","timestamp":1760745600001,"message":"line with \\"quotes\\"","extractedFields":{"a":"b"}},
+            {"id":"3","timestamp":1760745600002,"message":"END RequestId: 1"}]}
+            """;
+
+    private static String getEvent(String payload, boolean escapeSlashes) throws IOException {
+        final ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+            gzip.write(payload.getBytes(StandardCharsets.UTF_8));
+        }
+
+        String data = Base64.getEncoder().encodeToString(compressed.toByteArray());
+        if (escapeSlashes) {
+            data = data.replace("/", "\\/");
+        }
+
+        return "{ \"awslogs\" : { \"data\" : \"" + data + "\" } }";
+    }
+
+    private static CloudWatchLogsEventStream getStream(String event) {
+        return new CloudWatchLogsEventStream(new ByteArrayInputStream(event.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void logEventsStreamed() throws IOException {
+        try (CloudWatchLogsEventStream stream = getStream(getEvent(PAYLOAD, false))) {
+            assertEquals("DATA_MESSAGE", stream.getMessageType());
+            assertEquals("123456789012", stream.getOwner());
+            assertEquals("/aws/lambda/fn", stream.getLogGroup());
+            assertEquals("2026/10/18/[$LATEST]abc", stream.getLogStream());
+            assertEquals(List.of("filter"), stream.getSubscriptionFilters());
+
+            final List<CloudWatchLogsEventStream.LogEvent> events = new ArrayList<>();
+            stream.forEachRemaining(events::add);
+            assertEquals(3, events.size());
+            assertEquals(new CloudWatchLogsEventStream.LogEvent("1", 1760745600000L, "START RequestId: 1"), events.get(0));
+            assertEquals("line with \"quotes\"", events.get(1).message());
+            assertFalse(stream.hasNext());
+        }
+    }
+
+    @Test
+    void escapedDataStreamed() throws IOException {
+        final StringBuilder payload = new StringBuilder("{\"messageType\":\"DATA_MESSAGE\",\"logEvents\":[");
+        for (int i = 0; i < 5_000; i++) {
+            payload.append((i == 0) ? "" : ",").append("{\"id\":\"").append(i).append("\",\"timestamp\":").append(i)
+                    .append(",\"message\":\"message ").append(i).append("\"}");
+        }
+        payload.append("],\"owner\":\"late\"}");
+
+        try (CloudWatchLogsEventStream stream = getStream(getEvent(payload.toString(), true))) {
+            int count = 0;
+            while (stream.hasNext()) {
+                assertEquals("message " + count, stream.next().message());
+                count++;
+            }
+
+            assertEquals(5_000, count);
+            assertEquals("late", stream.getOwner());
+        }
+    }
+
+    @Test
+    void onlyAwslogsDataMatched() throws IOException {
+        final String data = getEvent(PAYLOAD, false).replace("{ \"awslogs\" : { \"data\" : ", "").replace(" } }", "");
+        final String event = "{\"meta\":{\"data\":\"xxx\",\"nested\":[{\"data\":\"{]\\\"\"}]},\"data\":1,\"flag\":true,"
+                + "\"aws\\\"logs\":{\"data\":\"yyy\"},\"awslogs\":{\"other\":\"data\",\"data\":" + data + "}}";
+
+        try (CloudWatchLogsEventStream stream = getStream(event)) {
+            assertEquals("DATA_MESSAGE", stream.getMessageType());
+            final List<CloudWatchLogsEventStream.LogEvent> events = new ArrayList<>();
+            stream.forEachRemaining(events::add);
+            assertEquals(3, events.size());
+        }
+    }
+
+    @Test
+    void dataOutsideAwslogsRejected() {
+        final CloudWatchLogsEventStream stream = getStream("{\"data\":\"H4sI\",\"awslogs\":{\"owner\":\"data\"}}");
+        assertThrows(IllegalStateException.class, stream::hasNext);
+    }
+
+    @Test
+    void missingDataRejected() {
+        final CloudWatchLogsEventStream stream = getStream("{\"awslogs\":{}}");
+        assertThrows(IllegalStateException.class, stream::hasNext);
+    }
+}
@@ -0,0 +1,168 @@
+package io.goodforgod.aws.lambda.simple.event;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class ColumnarBatchTests extends Assertions {
+
+    private static ColumnarBatch getBatch(String event) {
+        return new ColumnarBatch(new ByteArrayInputStream(event.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String getKinesisRecord(String data) {
+        final String encoded = Base64.getEncoder().encodeToString(data.getBytes(StandardCharsets.UTF_8));
+        return "{\"eventSource\":\"aws:kinesis\",\"kinesis\":{\"partitionKey\":\"1\",\"data\":\"" + encoded + "\"}}";
+    }
+
+    @Test
+    void sqsBodyProjected() {
+        final ColumnarSchema schema = ColumnarSchema.builder(ColumnarSchema.Source.SQS_BODY)
+                .longColumn("id")
+                .doubleColumn("order.amount")
+                .stringColumn("region")
+                .build();
+
+        final String event = """
+                {"Records":[
+                {"messageId":"1","body":"{\\"id\\":1,\\"order\\":{\\"amount\\":1.5,\\"items\\":[1,2]},\\"region\\":\\"eu\\"}"},
+                {"messageId":"2","body":"{\\"region\\":\\"us\\",\\"id\\":\\"2\\",\\"order\\":{\\"amount\\":2.5}}"},
+                {"messageId":"3","body":"not json"},
+                {"messageId":"4","body":"{\\"id\\":4,\\"order\\":null,\\"region\\":\\"eu\\"}"}
+                ]}
+                """;
+
+        final ColumnarBatch.Columns columns = getBatch(event).project(schema);
+        assertEquals(4, columns.size());
+        assertArrayEquals(new long[] { 1, 2, 0, 4 }, columns.getLongs("id"));
+        assertArrayEquals(new double[] { 1.5, 2.5, 0, 0 }, columns.getDoubles("order.amount"));
+
+        final ColumnarBatch.DictionaryColumn regions = columns.getStrings("region");
+        assertArrayEquals(new String[] { "eu", "us" }, regions.dictionary());
+        assertArrayEquals(new int[] { 0, 1, -1, 0 }, regions.codes());
+        assertEquals("us", regions.get(1));
+        assertNull(regions.get(2));
+
+        final BitSet present = columns.getPresent("order.amount");
+        assertTrue(present.get(0));
+        assertTrue(present.get(1));
+        assertFalse(present.get(2));
+        assertFalse(present.get(3));
+    }
+
+    @Test
+    void kinesisDataProjected() {
+        final ColumnarSchema schema = ColumnarSchema.builder(ColumnarSchema.Source.KINESIS_DATA)
+                .longColumn("value")
+                .build();
+
+        final StringBuilder event = new StringBuilder("{\"Records\":[");
+        for (int i = 0; i < 1000; i++) {
+            if (i > 0) {
+                event.append(',');
+            }
+            event.append(getKinesisRecord("{\"value\":" + i + "}"));
+        }
+        event.append("]}");
+
+        final long[] values = getBatch(event.toString()).project(schema).getLongs("value");
+        assertEquals(1000, values.length);
+        assertEquals(999L * 1000 / 2, Arrays.stream(values).sum());
+    }
+
+    @Test
+    void recordProjected() {
+        final ColumnarSchema schema = ColumnarSchema.builder(ColumnarSchema.Source.RECORD)
+                .longColumn("attributes.ApproximateReceiveCount")
+                .stringColumn("eventSource")
+                .build();
+
+        final String event = """
+                {"Records":[{"eventSource":"aws:sqs","attributes":{"ApproximateReceiveCount":"3"},"body":"{}"}]}
+                """;
+
+        final ColumnarBatch.Columns columns = getBatch(event).project(schema);
+        assertArrayEquals(new long[] { 3 }, columns.getLongs("attributes.ApproximateReceiveCount"));
+        assertEquals("aws:sqs", columns.getStrings("eventSource").get(0));
+    }
+
+    @Test
+    void recordWithInvalidNumberAbsent() {
+        final ColumnarSchema schema = ColumnarSchema.builder(ColumnarSchema.Source.SQS_BODY)
+                .stringColumn("region")
+                .longColumn("id")
+                .doubleColumn("amount")
+                .build();
+
+        final String event = """
+                {"Records":[
+                {"messageId":"1","body":"{\\"region\\":\\"eu\\",\\"id\\":\\"abc\\",\\"amount\\":1.5}"},
+                {"messageId":"2","body":"{\\"region\\":\\"us\\",\\"id\\":1.5}"},
+                {"messageId":"3","body":"{\\"region\\":\\"eu\\",\\"id\\":3,\\"amount\\":\\"x\\"}"},
+                {"messageId":"4","body":"{\\"region\\":\\"eu\\",\\"id\\":4,\\"amount\\":4.5}"}
+                ]}
+                """;
+
+        final ColumnarBatch.Columns columns = getBatch(event).project(schema);
+        assertEquals(4, columns.size());
+        assertArrayEquals(new long[] { 0, 0, 0, 4 }, columns.getLongs("id"));
+        assertArrayEquals(new double[] { 0, 0, 0, 4.5 }, columns.getDoubles("amount"));
+        assertNull(columns.getStrings("region").get(0));
+        assertNull(columns.getStrings("region").get(1));
+        assertNull(columns.getStrings("region").get(2));
+        assertEquals("eu", columns.getStrings("region").get(3));
+        for (String column : new String[] { "region", "id", "amount" }) {
+            assertEquals(1, columns.getPresent(column).cardinality(), column);
+        }
+    }
+
+    @Test
+    void recordSourceWithInvalidNumberAbsent() {
+        final ColumnarSchema schema = ColumnarSchema.builder(ColumnarSchema.Source.RECORD)
+                .stringColumn("eventSource")
+                .longColumn("attributes.ApproximateReceiveCount")
+                .build();
+
+        final String event = """
+                {"Records":[
+                {"eventSource":"aws:sqs","attributes":{"ApproximateReceiveCount":"many"}},
+                {"eventSource":"aws:sqs","attributes":{"ApproximateReceiveCount":"2"}}
+                ]}
+                """;
+
+        final ColumnarBatch.Columns columns = getBatch(event).project(schema);
+        assertEquals(2, columns.size());
+        assertArrayEquals(new long[] { 0, 2 }, columns.getLongs("attributes.ApproximateReceiveCount"));
+        assertNull(columns.getStrings("eventSource").get(0));
+        assertEquals("aws:sqs", columns.getStrings("eventSource").get(1));
+    }
+
+    @Test
+    void projectedOnlyOnce() {
+        final ColumnarSchema schema = ColumnarSchema.builder(ColumnarSchema.Source.RECORD).longColumn("a").build();
+        final ColumnarBatch batch = getBatch("{\"Records\":[]}");
+        assertEquals(0, batch.project(schema).size());
+        assertThrows(IllegalStateException.class, () -> batch.project(schema));
+    }
+
+    @Test
+    void schemaValidated() {
+        final ColumnarSchema.Builder builder = ColumnarSchema.builder(ColumnarSchema.Source.RECORD)
+                .longColumn("a")
+                .longColumn("a.b");
+        assertThrows(IllegalArgumentException.class, builder::build);
+
+        final ColumnarSchema schema = ColumnarSchema.builder(ColumnarSchema.Source.RECORD).longColumn("a").build();
+        final ColumnarBatch.Columns columns = getBatch("{\"Records\":[{\"a\":1}]}").project(schema);
+        assertThrows(IllegalArgumentException.class, () -> columns.getDoubles("a"));
+        assertThrows(IllegalArgumentException.class, () -> columns.getLongs("b"));
+    }
+}
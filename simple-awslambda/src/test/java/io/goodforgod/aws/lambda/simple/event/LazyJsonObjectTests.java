@@ -0,0 +1,79 @@
+package io.goodforgod.aws.lambda.simple.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class LazyJsonObjectTests extends Assertions {
+
+    private static final String EVENT = """
+            {
+              "version": "2.0",
+              "routeKey": "$default",
+              "rawPath": "/my/path",
+              "rawQueryString": "a=1",
+              "cookies": ["c1=v1", "c2=v2"],
+              "headers": {"content-type": "application/json", "x-quote": "say \\"hi\\" \\u00e9"},
+              "queryStringParameters": {"a": "1"},
+              "requestContext": {"http": {"method": "POST", "path": "/my/path"}, "timeEpoch": 1583348638390},
+              "body": "{\\"name\\":\\"Bob\\"}",
+              "pathParameters": null,
+              "isBase64Encoded": false,
+              "ключ": "значение"
+            }
+            """;
+
+    private final LazyAPIGatewayV2HTTPEvent event = new LazyAPIGatewayV2HTTPEvent(EVENT.getBytes(StandardCharsets.UTF_8));
+
+    @Test
+    void fieldsDecodedOnAccess() {
+        assertEquals("2.0", event.getVersion());
+        assertEquals("$default", event.getRouteKey());
+        assertEquals("/my/path", event.getRawPath());
+        assertEquals("a=1", event.getRawQueryString());
+        assertEquals("{\"name\":\"Bob\"}", event.getBody());
+        assertFalse(event.isBase64Encoded());
+        assertEquals(List.of("c1=v1", "c2=v2"), event.getCookies());
+        assertEquals("значение", event.getString("ключ"));
+        assertNull(event.getStageVariables());
+        assertNull(event.getPathParameters());
+        assertNull(event.getPathParameter("id"));
+    }
+
+    @Test
+    void nestedObjectsDecoded() {
+        assertEquals("application/json", event.getHeader("Content-Type"));
+        assertEquals("say \"hi\" é", event.getHeader("x-quote"));
+        assertEquals(Map.of("content-type", "application/json", "x-quote", "say \"hi\" é"), event.getHeaders());
+        assertEquals("1", event.getQueryStringParameter("a"));
+
+        final LazyJsonObject requestContext = event.getRequestContext();
+        assertNotNull(requestContext);
+        assertEquals(1583348638390L, requestContext.getLong("timeEpoch"));
+        assertEquals("POST", requestContext.getObject("http").getString("method"));
+        assertEquals("{\"method\": \"POST\", \"path\": \"/my/path\"}", requestContext.getRaw("http"));
+    }
+
+    @Test
+    void keysIndexed() {
+        assertEquals(12, event.size());
+        assertTrue(event.has("pathParameters"));
+        assertFalse(event.has("missing"));
+        assertEquals(Set.of("version", "routeKey", "rawPath", "rawQueryString", "cookies", "headers", "queryStringParameters",
+                "requestContext", "body", "pathParameters", "isBase64Encoded", "ключ"), event.keys());
+        assertEquals(0, new LazyJsonObject(" { } ".getBytes(StandardCharsets.UTF_8)).size());
+    }
+
+    @Test
+    void malformedJsonRejected() {
+        final LazyJsonObject object = new LazyJsonObject("{\"key\": \"value\"".getBytes(StandardCharsets.UTF_8));
+        assertThrows(IllegalStateException.class, () -> object.getString("key"));
+    }
+}
@@ -0,0 +1,63 @@
+package io.goodforgod.aws.lambda.simple.handler.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class BoundedStreamPipeTests extends Assertions {
+
+    @Test
+    void writtenBytesRead() throws Exception {
+        final BoundedStreamPipe pipe = new BoundedStreamPipe(4, 2, 1000);
+        final Thread writer = new Thread(() -> {
+            try (OutputStream output = pipe.output()) {
+                output.write("streamed through pipe".getBytes(StandardCharsets.UTF_8));
+            } catch (IOException e) {
+                pipe.fail(e);
+            }
+        });
+        writer.start();
+
+        try (InputStream input = pipe.input()) {
+            assertEquals("streamed through pipe", new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        }
+        writer.join(5000);
+    }
+
+    @Test
+    void writerAbortedWhenReaderClosed() throws Exception {
+        final BoundedStreamPipe pipe = new BoundedStreamPipe(4, 1, 60_000);
+        final OutputStream output = pipe.output();
+        output.write(new byte[4]);
+        output.flush();
+
+        pipe.input().close();
+        assertThrows(IOException.class, () -> {
+            output.write(new byte[4]);
+            output.flush();
+        });
+    }
+
+    @Test
+    void writerAbortedWhenReaderAbandoned() throws Exception {
+        final BoundedStreamPipe pipe = new BoundedStreamPipe(4, 1, 200);
+        final OutputStream output = pipe.output();
+        output.write(new byte[4]);
+        output.flush();
+
+        // reader never takes next chunk and never closes pipe
+        final IOException e = assertThrows(IOException.class, () -> {
+            output.write(new byte[4]);
+            output.flush();
+        });
+        assertTrue(e.getMessage().contains("200 millis"), e.getMessage());
+        assertThrows(IOException.class, output::close);
+    }
+}
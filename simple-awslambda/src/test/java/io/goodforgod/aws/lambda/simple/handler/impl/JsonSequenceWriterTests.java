@@ -0,0 +1,185 @@
+package io.goodforgod.aws.lambda.simple.handler.impl;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.goodforgod.aws.lambda.events.gateway.APIGatewayProxyEvent;
+import io.goodforgod.aws.lambda.events.gateway.APIGatewayV2HTTPEvent;
+import io.goodforgod.aws.lambda.events.gateway.APIGatewayV2WebSocketEvent;
+import io.goodforgod.aws.lambda.events.system.LoadBalancerRequest;
+import io.goodforgod.aws.lambda.simple.AbstractBodyLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverter;
+import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverterFactory;
+import io.goodforgod.aws.lambda.simple.handler.JsonSequence;
+import io.goodforgod.aws.lambda.simple.mock.Request;
+import io.goodforgod.aws.lambda.simple.mock.Response;
+import io.goodforgod.aws.lambda.simple.mock.SequenceLambda;
+import io.goodforgod.aws.lambda.simple.mock.SequenceLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import io.goodforgod.aws.lambda.simple.testing.AwsLambdaAssertions;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class JsonSequenceWriterTests extends Assertions {
+
+    static final class ProxySequenceLambda implements RequestHandler<APIGatewayProxyEvent, Stream<Request>> {
+
+        @Override
+        public Stream<Request> handleRequest(APIGatewayProxyEvent event, Context context) {
+            return Stream.of(new Request("Bob"), new Request("Alice"));
+        }
+    }
+
+    static final class HttpSequenceLambda implements RequestHandler<APIGatewayV2HTTPEvent, Iterator<Request>> {
+
+        @Override
+        public Iterator<Request> handleRequest(APIGatewayV2HTTPEvent event, Context context) {
+            return List.of(new Request("Bob"), new Request("Alice")).iterator();
+        }
+    }
+
+    static final class WebSocketSequenceLambda implements RequestHandler<APIGatewayV2WebSocketEvent, Stream<Request>> {
+
+        @Override
+        public Stream<Request> handleRequest(APIGatewayV2WebSocketEvent event, Context context) {
+            return Stream.of(new Request("Bob"), new Request("Alice"));
+        }
+    }
+
+    static final class LoadBalancerSequenceLambda implements RequestHandler<LoadBalancerRequest, JsonSequence> {
+
+        @Override
+        public JsonSequence handleRequest(LoadBalancerRequest event, Context context) {
+            return JsonSequence.ofLines(Stream.of(new Request("Bob"), new Request("Alice")));
+        }
+    }
+
+    private final Converter converter = new GsonConverterFactory().build();
+
+    @Test
+    void streamResultSerializedAsArray() {
+        final Response[] responses = AwsLambdaAssertions.ofEntrypoint(new SequenceLambdaEntrypoint())
+                .inputJson(new Request("Bob"))
+                .expectJson(Response[].class);
+
+        assertEquals(SequenceLambda.SIZE, responses.length);
+        assertEquals(new Response("0", "Hello - Bob"), responses[0]);
+        assertEquals(new Response(String.valueOf(SequenceLambda.SIZE - 1), "Hello - Bob"), responses[SequenceLambda.SIZE - 1]);
+    }
+
+    @Test
+    void emptyIteratorSerializedAsEmptyArray() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JsonSequenceWriter.write(JsonSequence.ofArray(List.of().iterator()), converter, output);
+
+        assertEquals("[]", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void publisherSerializedAsLines() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (SubmissionPublisher<Request> publisher = new SubmissionPublisher<>()) {
+            // items are submitted only after writer subscribed, otherwise they are dropped
+            final CountDownLatch subscribed = new CountDownLatch(1);
+            final JsonSequence sequence = JsonSequence.ofLines((Flow.Publisher<Request>) subscriber -> {
+                publisher.subscribe(subscriber);
+                subscribed.countDown();
+            });
+            final Thread producer = new Thread(() -> {
+                try {
+                    subscribed.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                publisher.submit(new Request("Bob"));
+                publisher.submit(new Request("Alice"));
+                publisher.close();
+            });
+            producer.start();
+            JsonSequenceWriter.write(sequence, converter, output);
+        }
+
+        assertEquals("{\"name\":\"Bob\"}\n{\"name\":\"Alice\"}\n", output.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void prettyPrintingConverterWritesSingleLineElements() throws Exception {
+        final Converter prettyConverter = new GsonConverter(new GsonBuilder().setPrettyPrinting().create());
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        JsonSequenceWriter.write(JsonSequence.ofLines(Stream.of(new Request("Bob\nSmith"), new Request("Alice"))),
+                prettyConverter, output);
+
+        final String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals(new Request("Bob\nSmith"), converter.fromString(lines[0], Request.class));
+        assertEquals(new Request("Alice"), converter.fromString(lines[1], Request.class));
+    }
+
+    @Test
+    void stalledPublisherCancelled() throws Exception {
+        final CountDownLatch cancelled = new CountDownLatch(1);
+        final JsonSequence sequence = JsonSequence.ofLines((Flow.Publisher<Request>) subscriber -> subscriber
+                .onSubscribe(new Flow.Subscription() {
+
+                    @Override
+                    public void request(long n) {
+                        // never emits
+                    }
+
+                    @Override
+                    public void cancel() {
+                        cancelled.countDown();
+                    }
+                }));
+
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        assertThrows(TimeoutException.class, () -> JsonSequenceWriter.write(sequence, converter, output, 200));
+        assertTrue(cancelled.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void sequenceWrappedIntoResponseEventBody() {
+        final String array = "[{\"name\":\"Bob\"},{\"name\":\"Alice\"}]";
+        assertEquals(array, getResponseEventBody(new ProxySequenceLambda()));
+        assertEquals(array, getResponseEventBody(new HttpSequenceLambda()));
+        assertEquals(array, getResponseEventBody(new WebSocketSequenceLambda()));
+        assertEquals("{\"name\":\"Bob\"}\n{\"name\":\"Alice\"}\n", getResponseEventBody(new LoadBalancerSequenceLambda()));
+    }
+
+    private static String getResponseEventBody(RequestHandler<?, ?> lambda) {
+        final AbstractBodyLambdaEntrypoint entrypoint = new AbstractBodyLambdaEntrypoint() {
+
+            @Override
+            protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+                return context -> context.registerBean(lambda);
+            }
+        };
+        final String response = AwsLambdaAssertions.ofEntrypoint(entrypoint)
+                .inputString("{\"body\":\"{}\"}")
+                .expectString();
+
+        final JsonObject event = JsonParser.parseString(response).getAsJsonObject();
+        assertEquals("application/json", event.getAsJsonObject("headers").get("Content-Type").getAsString(), response);
+        return event.get("body").getAsString();
+    }
+}
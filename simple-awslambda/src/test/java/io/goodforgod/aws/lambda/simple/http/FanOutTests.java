@@ -0,0 +1,199 @@
+package io.goodforgod.aws.lambda.simple.http;
+
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClientConfig;
+import io.goodforgod.http.common.HttpMethod;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class FanOutTests extends Assertions {
+
+    /**
+     * @return result if latch reached zero, so all parties were running at the same time
+     */
+    private static String await(CountDownLatch latch, String result) throws InterruptedException {
+        latch.countDown();
+        if (!latch.await(10, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Tasks are not executed in parallel");
+        }
+        return result;
+    }
+
+    /**
+     * Blocks until interrupted by cancellation
+     */
+    private static String block(CountDownLatch started, CountDownLatch interrupted) {
+        started.countDown();
+        try {
+            new CountDownLatch(1).await(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            interrupted.countDown();
+        }
+        return "blocked";
+    }
+
+    @Test
+    void tasksExecutedInParallel() {
+        // each task waits for the other one, so both complete only if they run concurrently
+        final CountDownLatch running = new CountDownLatch(2);
+        final FanOut fanOut = FanOut.ofTimeout(Duration.ofSeconds(30));
+        final FanOut.Task<String> first = fanOut.submit("first", () -> await(running, "1"));
+        final FanOut.Task<String> second = fanOut.submit("second", () -> await(running, "2"));
+        final FanOut.Task<String> third = fanOut.async("third", () -> CompletableFuture.completedFuture("3"));
+
+        final List<FanOut.Timing> timings = fanOut.join();
+
+        assertEquals("1", first.get());
+        assertEquals("2", second.get());
+        assertEquals("3", third.get());
+        assertEquals(3, timings.size());
+        assertEquals("first", timings.get(0).name());
+        assertTrue(timings.stream().allMatch(t -> t.status() == FanOut.Status.COMPLETED));
+    }
+
+    @Test
+    void remainingCancelledOnFailure() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final FanOut fanOut = FanOut.ofTimeout(Duration.ofSeconds(30));
+        final FanOut.Task<String> slow = fanOut.submit("slow", () -> block(started, interrupted));
+        fanOut.submit("failing", () -> {
+            assertTrue(started.await(10, TimeUnit.SECONDS));
+            throw new IllegalStateException("boom");
+        });
+
+        final FanOutException e = assertThrows(FanOutException.class, fanOut::join);
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(FanOut.Status.CANCELLED, e.getTimings().get(0).status());
+        assertEquals(FanOut.Status.FAILED, e.getTimings().get(1).status());
+        assertThrows(IllegalStateException.class, slow::get);
+        assertTrue(interrupted.await(10, TimeUnit.SECONDS), "Running task is not interrupted on cancel");
+    }
+
+    @Test
+    void remainingCancelledOnDeadline() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        final FanOut fanOut = FanOut.ofTimeout(Duration.ofSeconds(1));
+        // completed on submission, so its status doesn't depend on scheduling before deadline
+        fanOut.async("fast", () -> CompletableFuture.completedFuture("fast"));
+        fanOut.submit("slow", () -> block(started, interrupted));
+
+        final FanOutException e = assertThrows(FanOutException.class, fanOut::join);
+        assertNull(e.getCause());
+        assertEquals(FanOut.Status.COMPLETED, e.getTimings().get(0).status());
+        assertEquals(FanOut.Status.CANCELLED, e.getTimings().get(1).status());
+        assertThrows(IllegalStateException.class, fanOut::join);
+        if (started.getCount() == 0) {
+            assertTrue(interrupted.await(10, TimeUnit.SECONDS), "Running task is not interrupted on deadline");
+        }
+    }
+
+    @Test
+    void httpRequestLimitedByDeadline() {
+        final SimpleHttpClient client = new SimpleHttpClient() {
+
+            @Override
+            public @NotNull SimpleHttpResponse execute(@NotNull SimpleHttpRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public @NotNull SimpleHttpResponse executeAndForget(@NotNull SimpleHttpRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public @NotNull CompletableFuture<SimpleHttpResponse> executeAsync(@NotNull SimpleHttpRequest request) {
+                assertNotNull(request.timeout());
+                assertTrue(request.timeout().compareTo(Duration.ofSeconds(1)) <= 0);
+                return CompletableFuture.completedFuture(null);
+            }
+
+            @Override
+            public @NotNull CompletableFuture<SimpleHttpResponse> executeAndForgetAsync(@NotNull SimpleHttpRequest request) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void close() {}
+        };
+
+        final FanOut fanOut = FanOut.ofTimeout(Duration.ofSeconds(1));
+        final SimpleHttpRequest request = SimpleHttpRequest.builder(URI.create("http://localhost/users"))
+                .method(HttpMethod.GET)
+                .timeout(Duration.ofMinutes(1))
+                .build();
+        fanOut.http("users", client, request);
+
+        final List<FanOut.Timing> timings = fanOut.join();
+        assertEquals(FanOut.Status.COMPLETED, timings.get(0).status());
+    }
+
+    @Test
+    void httpExchangeAbortedOnCancel() throws Exception {
+        final CountDownLatch received = new CountDownLatch(1);
+        final CountDownLatch aborted = new CountDownLatch(1);
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress());
+                SimpleHttpClient client = new NativeHttpClient(NativeHttpClientConfig.ofRuntime())) {
+            // slow server never responds, connection is closed only when client aborts exchange
+            final Thread serverThread = new Thread(() -> {
+                try (Socket socket = server.accept()) {
+                    final InputStream input = socket.getInputStream();
+                    int matched = 0;
+                    while (matched < 4) {
+                        final int b = input.read();
+                        if (b == -1) {
+                            return;
+                        }
+
+                        matched = (b == "\r\n\r\n".charAt(matched))
+                                ? matched + 1
+                                : (b == '\r') ? 1 : 0;
+                    }
+
+                    received.countDown();
+                    if (input.read() == -1) {
+                        aborted.countDown();
+                    }
+                } catch (IOException e) {
+                    aborted.countDown();
+                }
+            });
+            serverThread.setDaemon(true);
+            serverThread.start();
+
+            final FanOut fanOut = FanOut.ofTimeout(Duration.ofSeconds(30));
+            fanOut.http("slow", client, SimpleHttpRequest.builder(URI.create("http://127.0.0.1:" + server.getLocalPort() + "/slow"))
+                    .method(HttpMethod.GET)
+                    .build());
+            fanOut.submit("failing", () -> {
+                assertTrue(received.await(10, TimeUnit.SECONDS));
+                throw new IllegalStateException("boom");
+            });
+
+            final FanOutException e = assertThrows(FanOutException.class, fanOut::join);
+            assertInstanceOf(IllegalStateException.class, e.getCause());
+            assertEquals(FanOut.Status.CANCELLED, e.getTimings().get(0).status());
+
+            // request timeout is 30 seconds, so only cancellation closes connection before it
+            assertTrue(aborted.await(10, TimeUnit.SECONDS), "Exchange is not aborted after task is cancelled");
+        }
+    }
+}
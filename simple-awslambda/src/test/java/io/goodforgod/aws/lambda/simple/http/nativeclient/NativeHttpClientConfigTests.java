@@ -0,0 +1,184 @@
+package io.goodforgod.aws.lambda.simple.http.nativeclient;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.goodforgod.aws.lambda.simple.config.AwsRuntimeVariables;
+import io.goodforgod.aws.lambda.simple.handler.Event;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpBody;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpRequest;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpResponse;
+import io.goodforgod.aws.lambda.simple.utils.InputStreamUtils;
+import io.goodforgod.http.common.HttpMethod;
+import io.goodforgod.http.common.HttpStatus;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class NativeHttpClientConfigTests extends Assertions {
+
+    private static final int ROUND_TRIPS = 20;
+    private static final byte[] EVENT = "{\"name\":\"Bob\"}".getBytes(StandardCharsets.UTF_8);
+
+    private static final AtomicInteger requestCounter = new AtomicInteger();
+    private static final AtomicInteger responseCounter = new AtomicInteger();
+    private static final AtomicReference<String> uploaded = new AtomicReference<>();
+    private static ExecutorService serverExecutor;
+    private static HttpServer server;
+    private static URI endpoint;
+
+    @BeforeAll
+    static void setup() throws IOException {
+        // upload exchange blocks its thread until body is complete, other exchanges are served meanwhile
+        serverExecutor = Executors.newCachedThreadPool();
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.setExecutor(serverExecutor);
+        server.createContext(AwsRuntimeVariables.INVOCATION_URI, NativeHttpClientConfigTests::handleInvocation);
+        server.createContext("/upload", NativeHttpClientConfigTests::handleUpload);
+        server.createContext("/ping", NativeHttpClientConfigTests::handlePing);
+        server.start();
+        endpoint = URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void cleanup() {
+        server.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    private static void handleInvocation(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            if ("GET".equals(exchange.getRequestMethod())) {
+                exchange.getResponseHeaders().add(AwsRuntimeVariables.LAMBDA_RUNTIME_AWS_REQUEST_ID,
+                        String.valueOf(requestCounter.incrementAndGet()));
+                exchange.getResponseHeaders().add(AwsRuntimeVariables.LAMBDA_RUNTIME_DEADLINE_MS,
+                        String.valueOf(System.currentTimeMillis() + 60_000));
+                exchange.sendResponseHeaders(200, EVENT.length);
+                try (OutputStream body = exchange.getResponseBody()) {
+                    body.write(EVENT);
+                }
+            } else {
+                responseCounter.incrementAndGet();
+                exchange.sendResponseHeaders(202, -1);
+            }
+        }
+    }
+
+    private static void handleUpload(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            uploaded.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(202, -1);
+        }
+    }
+
+    private static void handlePing(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            exchange.getRequestBody().readAllBytes();
+            exchange.sendResponseHeaders(200, -1);
+        }
+    }
+
+    @Test
+    void runtimeConfigUsesHttp1WithDefaultExecutor() {
+        final NativeHttpClientConfig config = NativeHttpClientConfig.ofRuntime();
+        assertEquals(HttpClient.Version.HTTP_1_1, config.version());
+        assertEquals(NativeHttpClientConfig.ExecutorMode.DEFAULT, config.executorMode());
+
+        final HttpClient client = config.createClient();
+        assertEquals(HttpClient.Version.HTTP_1_1, client.version());
+        assertTrue(client.executor().isEmpty());
+    }
+
+    @Test
+    void directConfigRunsTasksInCallerThread() {
+        final HttpClient client = NativeHttpClientConfig.builder()
+                .executorMode(NativeHttpClientConfig.ExecutorMode.DIRECT)
+                .build()
+                .createClient();
+
+        final Thread caller = Thread.currentThread();
+        final AtomicReference<Thread> executed = new AtomicReference<>();
+        client.executor().orElseThrow().execute(() -> executed.set(Thread.currentThread()));
+        assertSame(caller, executed.get());
+    }
+
+    private static Stream<Arguments> configs() {
+        return Stream.of(
+                Arguments.of("default-http2", NativeHttpClientConfig.ofDefault()),
+                Arguments.of("runtime", NativeHttpClientConfig.ofRuntime()),
+                Arguments.of("direct", NativeHttpClientConfig.builder()
+                        .executorMode(NativeHttpClientConfig.ExecutorMode.DIRECT)
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .build()),
+                Arguments.of("virtual", NativeHttpClientConfig.builder()
+                        .executorMode(NativeHttpClientConfig.ExecutorMode.VIRTUAL)
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .build()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("configs")
+    void runtimeRoundTripsExecuted(String name, NativeHttpClientConfig config) {
+        final SimpleAwsRuntimeClient runtimeClient = new SimpleAwsRuntimeClient(new NativeHttpClient(config));
+        final int responsesBefore = responseCounter.get();
+
+        for (int i = 0; i < ROUND_TRIPS; i++) {
+            final Event event = runtimeClient.getNextEvent(endpoint);
+            assertArrayEquals(EVENT, InputStreamUtils.getBytesFromInputStream(event.input()));
+            assertTrue(event.context().getRemainingTimeInMillis() > 0);
+            runtimeClient.reportInvocationSuccess(endpoint, SimpleHttpBody.ofString("{\"message\":\"Hello\"}"), event.context());
+        }
+
+        assertEquals(ROUND_TRIPS, responseCounter.get() - responsesBefore);
+    }
+
+    @Test
+    void runtimeClientNotStalledByBlockingBody() throws Exception {
+        final NativeHttpClient client = new NativeHttpClient(NativeHttpClientConfig.ofRuntime());
+        final PipedOutputStream writer = new PipedOutputStream();
+        final PipedInputStream body = new PipedInputStream(writer);
+
+        final CompletableFuture<SimpleHttpResponse> upload = client.executeAsync(SimpleHttpRequest.builder(endpoint.resolve("/upload"))
+                .method(HttpMethod.POST)
+                .body(SimpleHttpBody.ofInputStream(body))
+                .build());
+
+        // body is not written yet, so upload exchange is blocked reading it
+        final SimpleHttpResponse ping = assertTimeoutPreemptively(Duration.ofSeconds(10),
+                () -> client.execute(SimpleHttpRequest.builder(endpoint.resolve("/ping"))
+                        .method(HttpMethod.GET)
+                        .build()));
+        assertEquals(HttpStatus.OK, ping.status());
+        assertFalse(upload.isDone());
+
+        writer.write("{\"message\":\"Hello\"}".getBytes(StandardCharsets.UTF_8));
+        writer.close();
+        assertEquals(HttpStatus.ACCEPTED, upload.get(10, TimeUnit.SECONDS).status());
+        assertEquals("{\"message\":\"Hello\"}", uploaded.get());
+    }
+}
@@ -0,0 +1,147 @@
+package io.goodforgod.aws.lambda.simple.http.nativeclient;
+
+import io.goodforgod.aws.lambda.simple.config.AwsRuntimeVariables;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpResponse;
+import io.goodforgod.http.common.HttpHeaders;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.net.ssl.SSLSession;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class NativeHttpResponseTests extends Assertions {
+
+    private static final class StubHttpResponse<T> implements HttpResponse<T> {
+
+        private final java.net.http.HttpHeaders headers;
+        private final T body;
+        private final AtomicInteger headerRequests = new AtomicInteger();
+
+        private StubHttpResponse(Map<String, List<String>> headers, T body) {
+            this.headers = java.net.http.HttpHeaders.of(headers, (k, v) -> true);
+            this.body = body;
+        }
+
+        @Override
+        public int statusCode() {
+            return 200;
+        }
+
+        @Override
+        public HttpRequest request() {
+            return HttpRequest.newBuilder(uri()).build();
+        }
+
+        @Override
+        public Optional<HttpResponse<T>> previousResponse() {
+            return Optional.empty();
+        }
+
+        @Override
+        public java.net.http.HttpHeaders headers() {
+            headerRequests.incrementAndGet();
+            return headers;
+        }
+
+        @Override
+        public T body() {
+            return body;
+        }
+
+        @Override
+        public Optional<SSLSession> sslSession() {
+            return Optional.empty();
+        }
+
+        @Override
+        public URI uri() {
+            return URI.create("http://localhost");
+        }
+
+        @Override
+        public HttpClient.Version version() {
+            return HttpClient.Version.HTTP_1_1;
+        }
+    }
+
+    private static final Map<String, List<String>> HEADERS = Map.of(
+            "Lambda-Runtime-Aws-Request-Id", List.of("request-1"),
+            "Content-Type", List.of("application/json"));
+
+    private static StubHttpResponse<InputStream> ofStream(Map<String, List<String>> headers) {
+        return new StubHttpResponse<>(headers, new ByteArrayInputStream(new byte[0]));
+    }
+
+    private static StubHttpResponse<Void> ofVoid(Map<String, List<String>> headers) {
+        return new StubHttpResponse<>(headers, null);
+    }
+
+    @Test
+    void headerLookedUpCaseInsensitive() {
+        final List<SimpleHttpResponse> responses = List.of(
+                new InputStreamNativeHttpResponse(ofStream(HEADERS)),
+                new VoidNativeHttpResponse(ofVoid(HEADERS)));
+
+        for (SimpleHttpResponse response : responses) {
+            assertEquals("request-1", response.header(AwsRuntimeVariables.LAMBDA_RUNTIME_AWS_REQUEST_ID));
+            assertEquals("request-1", response.header("LAMBDA-RUNTIME-AWS-REQUEST-ID"));
+            assertEquals("application/json", response.header("content-type"));
+            assertNull(response.header(AwsRuntimeVariables.LAMBDA_RUNTIME_DEADLINE_MS));
+        }
+    }
+
+    @Test
+    void headersBuiltLazilyAndCached() {
+        final StubHttpResponse<InputStream> streamResponse = ofStream(HEADERS);
+        final StubHttpResponse<Void> voidResponse = ofVoid(HEADERS);
+        assertHeadersCached(streamResponse, new InputStreamNativeHttpResponse(streamResponse));
+        assertHeadersCached(voidResponse, new VoidNativeHttpResponse(voidResponse));
+    }
+
+    private static void assertHeadersCached(StubHttpResponse<?> httpResponse, SimpleHttpResponse response) {
+        assertEquals(0, httpResponse.headerRequests.get(), "Headers are built on construction");
+
+        final HttpHeaders headers = response.headers();
+        assertSame(headers, response.headers());
+        assertEquals(1, httpResponse.headerRequests.get(), "Headers are built more than once");
+    }
+
+    @Test
+    void deadlineParsedFromHeader() {
+        final EventContext context = new EventContext(new InputStreamNativeHttpResponse(ofStream(Map.of(
+                AwsRuntimeVariables.LAMBDA_RUNTIME_AWS_REQUEST_ID, List.of("request-1"),
+                AwsRuntimeVariables.LAMBDA_RUNTIME_INVOKED_FUNCTION_ARN, List.of("arn:aws:lambda:us-east-1:1:function:fn"),
+                AwsRuntimeVariables.LAMBDA_RUNTIME_DEADLINE_MS, List.of("1760745600000")))));
+        assertEquals("request-1", context.getAwsRequestId());
+        assertEquals("arn:aws:lambda:us-east-1:1:function:fn", context.getInvokedFunctionArn());
+        assertEquals(1760745600000L, context.deadlineEpochMillis());
+    }
+
+    @Test
+    void missingOrMalformedDeadlineIsZero() {
+        final EventContext missing = new EventContext(new InputStreamNativeHttpResponse(ofStream(HEADERS)));
+        assertEquals(0, missing.deadlineEpochMillis());
+        assertEquals(0, missing.getRemainingTimeInMillis());
+
+        final EventContext empty = new EventContext(new VoidNativeHttpResponse(ofVoid(Map.of(
+                AwsRuntimeVariables.LAMBDA_RUNTIME_DEADLINE_MS, List.of("")))));
+        assertEquals(0, empty.deadlineEpochMillis());
+
+        final EventContext malformed = new EventContext(new VoidNativeHttpResponse(ofVoid(Map.of(
+                AwsRuntimeVariables.LAMBDA_RUNTIME_DEADLINE_MS, List.of("17607456OO000")))));
+        assertEquals(0, malformed.deadlineEpochMillis());
+        assertEquals(0, malformed.getRemainingTimeInMillis());
+    }
+}
@@ -0,0 +1,171 @@
+package io.goodforgod.aws.lambda.simple.http.nativeclient;
+
+import com.amazonaws.services.lambda.runtime.ClientContext;
+import com.amazonaws.services.lambda.runtime.CognitoIdentity;
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.LambdaLogger;
+import com.sun.net.httpserver.HttpServer;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpClient;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpRequest;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpResponse;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import io.goodforgod.http.common.HttpMethod;
+import io.goodforgod.http.common.HttpStatus;
+import io.goodforgod.http.common.exception.HttpStatusException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class OutboundHttpClientTests extends Assertions {
+
+    private static HttpServer server;
+    private static URI endpoint;
+
+    private record DeadlineContext(int getRemainingTimeInMillis) implements Context {
+
+        @Override
+        public String getAwsRequestId() {
+            return "1";
+        }
+
+        @Override
+        public String getLogGroupName() {
+            return null;
+        }
+
+        @Override
+        public String getLogStreamName() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionName() {
+            return null;
+        }
+
+        @Override
+        public String getFunctionVersion() {
+            return null;
+        }
+
+        @Override
+        public String getInvokedFunctionArn() {
+            return null;
+        }
+
+        @Override
+        public CognitoIdentity getIdentity() {
+            return null;
+        }
+
+        @Override
+        public ClientContext getClientContext() {
+            return null;
+        }
+
+        @Override
+        public int getMemoryLimitInMB() {
+            return 0;
+        }
+
+        @Override
+        public LambdaLogger getLogger() {
+            return null;
+        }
+    }
+
+    @BeforeAll
+    static void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/hello", exchange -> {
+            try (exchange) {
+                final byte[] body = "world".getBytes(StandardCharsets.UTF_8);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream output = exchange.getResponseBody()) {
+                    output.write(body);
+                }
+            }
+        });
+        server.createContext("/slow", exchange -> {
+            try (exchange) {
+                Thread.sleep(2000);
+                exchange.sendResponseHeaders(200, -1);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        endpoint = URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+    }
+
+    @AfterAll
+    static void cleanup() {
+        server.stop(0);
+    }
+
+    @Test
+    void requestsMeasured() {
+        final OutboundHttpClient client = new OutboundHttpClient();
+        final SimpleHttpRequest request = SimpleHttpRequest.builder(endpoint.resolve("/hello"))
+                .method(HttpMethod.GET)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            final SimpleHttpResponse response = client.execute(request, new DeadlineContext(10_000));
+            assertEquals(HttpStatus.OK, response.status());
+            assertEquals("world", response.bodyAsString());
+        }
+
+        final OutboundHttpMetrics metrics = client.getMetrics();
+        assertEquals(3, metrics.getRequests());
+        assertEquals(0, metrics.getFailures());
+        assertEquals(0, metrics.getTlsHandshakes());
+        assertTrue(metrics.getAverageLatencyNanos() > 0);
+        assertTrue(metrics.getMaxLatencyNanos() >= metrics.getAverageLatencyNanos());
+    }
+
+    @Test
+    void requestLimitedByDeadline() {
+        final OutboundHttpClient client = new OutboundHttpClient(NativeHttpClientConfig.ofDefault(), Duration.ofMillis(100));
+        final SimpleHttpRequest request = SimpleHttpRequest.builder(endpoint.resolve("/slow"))
+                .method(HttpMethod.GET)
+                .build();
+
+        // slow endpoint responds after 2 seconds, so only request timeout derived from deadline fails it
+        final HttpStatusException exception = assertThrows(HttpStatusException.class,
+                () -> client.execute(request, new DeadlineContext(400)));
+        assertInstanceOf(HttpTimeoutException.class, exception.getCause());
+        assertEquals(1, client.getMetrics().getFailures());
+
+        assertThrows(HttpStatusException.class, () -> client.execute(request, new DeadlineContext(50)));
+        assertEquals(1, client.getMetrics().getRequests());
+    }
+
+    @Test
+    void registeredSeparatelyFromRuntimeClient() {
+        final SimpleRuntimeContext context = new SimpleRuntimeContext(c -> {}, c -> {});
+        context.setupInRuntime();
+        assertNotNull(context.getBean(OutboundHttpClient.class, OutboundHttpClient.QUALIFIER));
+        assertNull(context.getBean(OutboundHttpClient.class));
+        assertNull(context.getBean(SimpleHttpClient.class, OutboundHttpClient.QUALIFIER));
+        assertNull(context.getBean(NativeHttpClient.class, OutboundHttpClient.QUALIFIER));
+        assertFalse(context.getBean(SimpleHttpClient.class, NativeHttpClient.QUALIFIER) instanceof OutboundHttpClient);
+        assertFalse(context.getBean(SimpleHttpClient.class) instanceof OutboundHttpClient);
+        assertFalse(context.getBean(NativeHttpClient.class) instanceof OutboundHttpClient);
+    }
+}
@@ -0,0 +1,193 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import io.goodforgod.aws.lambda.simple.mock.EmulatorRuntimeContext;
+import io.goodforgod.aws.lambda.simple.mock.HelloWorldLambda;
+import io.goodforgod.aws.lambda.simple.mock.InputLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.mock.InvocationsRuntimeContext;
+import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import io.goodforgod.aws.lambda.simple.testing.AwsRuntimeApiEmulator;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class EmfMetricsEmitterTests extends Assertions {
+
+    private static PhaseTimer timer(boolean coldStart) {
+        final PhaseTimer timer = new PhaseTimer();
+        if (coldStart) {
+            timer.setColdStart(TimeUnit.MILLISECONDS.toNanos(250));
+        }
+        timer.start(PhaseTimer.Phase.NEXT_EVENT);
+        timer.start(PhaseTimer.Phase.INPUT_CONVERSION);
+        timer.start(PhaseTimer.Phase.HANDLER);
+        timer.start(PhaseTimer.Phase.OUTPUT_CONVERSION);
+        timer.start(PhaseTimer.Phase.RESPONSE);
+        timer.stop();
+        timer.setInputBytes(15);
+        timer.setOutputBytes(1024);
+        return timer;
+    }
+
+    private static List<JsonObject> documents(ByteArrayOutputStream output) {
+        final List<JsonObject> documents = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                documents.add(JsonParser.parseString(line).getAsJsonObject());
+            }
+        }
+        return documents;
+    }
+
+    @Test
+    void flushedWhenBatchIsFull() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final EmfMetricsEmitter emitter = new EmfMetricsEmitter("Test", 3, output);
+
+        emitter.record(timer(true));
+        emitter.record(timer(false));
+        assertEquals(0, output.size());
+
+        emitter.record(timer(false));
+        final List<JsonObject> documents = documents(output);
+        assertEquals(1, documents.size());
+
+        final JsonObject document = documents.get(0);
+        final JsonObject aws = document.getAsJsonObject("_aws");
+        assertTrue(aws.get("Timestamp").getAsLong() > 0);
+
+        final JsonObject directive = aws.getAsJsonArray("CloudWatchMetrics").get(0).getAsJsonObject();
+        assertEquals("Test", directive.get("Namespace").getAsString());
+        assertEquals("FunctionName", directive.getAsJsonArray("Dimensions").get(0).getAsJsonArray().get(0).getAsString());
+        assertEquals(9, directive.getAsJsonArray("Metrics").size());
+        assertTrue(document.has("FunctionName"));
+
+        assertEquals(3, document.getAsJsonArray("Handler").size());
+        assertEquals(1024, document.getAsJsonArray("OutputBytes").get(2).getAsLong());
+        assertEquals(15, document.getAsJsonArray("InputBytes").get(0).getAsLong());
+
+        final JsonArray coldStart = document.getAsJsonArray("ColdStart");
+        assertEquals(1, coldStart.get(0).getAsInt());
+        assertEquals(0, coldStart.get(1).getAsInt());
+        assertEquals(1, document.getAsJsonArray("InitDuration").size());
+        assertEquals(250_000, document.getAsJsonArray("InitDuration").get(0).getAsLong());
+    }
+
+    @Test
+    void missingMetricsOmitted() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final EmfMetricsEmitter emitter = new EmfMetricsEmitter("Test", 1, output);
+
+        emitter.record(new PhaseTimer());
+        final JsonObject document = documents(output).get(0);
+        assertFalse(document.has("InitDuration"));
+        assertFalse(document.has("InputBytes"));
+        assertFalse(document.has("OutputBytes"));
+        assertEquals(0, document.getAsJsonArray("Handler").get(0).getAsLong());
+
+        final JsonArray metrics = document.getAsJsonObject("_aws").getAsJsonArray("CloudWatchMetrics")
+                .get(0).getAsJsonObject().getAsJsonArray("Metrics");
+        assertEquals(6, metrics.size());
+    }
+
+    @Test
+    void resourcesReported() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final EmfMetricsEmitter emitter = new EmfMetricsEmitter("Test", 1, true, output);
+        assertTrue(emitter.isResourceTracking());
+
+        final PhaseTimer timer = new PhaseTimer(emitter.isResourceTracking());
+        timer.start(PhaseTimer.Phase.HANDLER);
+        timer.stop();
+        timer.sampleHeapUsed();
+        emitter.record(timer);
+
+        final JsonObject document = documents(output).get(0);
+        assertTrue(document.getAsJsonArray("AllocatedBytes").get(0).getAsLong() >= 0);
+        assertTrue(document.getAsJsonArray("HeapUsed").get(0).getAsLong() > 0);
+        assertTrue(document.has("CpuTime"));
+    }
+
+    @Test
+    void pendingFlushedOnClose() {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        try (EmfMetricsEmitter emitter = new EmfMetricsEmitter("Test", 10, output)) {
+            emitter.record(timer(false));
+            emitter.record(timer(false));
+        }
+
+        final List<JsonObject> documents = documents(output);
+        assertEquals(1, documents.size());
+        assertEquals(2, documents.get(0).getAsJsonArray("NextEventWait").size());
+
+        output.reset();
+        new EmfMetricsEmitter("Test", 10, output).flush();
+        assertEquals(0, output.size());
+    }
+
+    @Test
+    void batchSizeValidated() {
+        assertThrows(IllegalArgumentException.class, () -> new EmfMetricsEmitter("Test", 0));
+        assertThrows(IllegalArgumentException.class, () -> new EmfMetricsEmitter("Test", EmfMetricsEmitter.MAX_BATCH_SIZE + 1));
+    }
+
+    @Test
+    void invocationsRecordedByEventLoop() throws Exception {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final EmfMetricsEmitter emitter = new EmfMetricsEmitter("Test", 5, output);
+        try (AwsRuntimeApiEmulator emulator = AwsRuntimeApiEmulator.builder()
+                .events(invocation -> "{\"name\":\"Bob\"}".getBytes(StandardCharsets.UTF_8))
+                .invocations(5)
+                .build()) {
+            final Thread runtime = new Thread(() -> new InputLambdaEntrypoint() {
+
+                @Override
+                public RuntimeContext initializeRuntimeContext() {
+                    return new InvocationsRuntimeContext(new EmulatorRuntimeContext(super.initializeRuntimeContext(), emulator), 5);
+                }
+
+                @Override
+                protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+                    return context -> {
+                        context.registerBean(new HelloWorldLambda());
+                        context.registerBean(emitter);
+                    };
+                }
+
+                @Override
+                protected void handleInitializationError(Throwable e) {
+                    // failure is asserted by emulator responses
+                }
+            }.run(new String[0]));
+            runtime.setDaemon(true);
+            runtime.start();
+
+            // event loop returns after 5th invocation is recorded
+            runtime.join(Duration.ofSeconds(30).toMillis());
+            assertFalse(runtime.isAlive(), emulator.toString());
+            assertEquals(5, emulator.getResponses());
+        }
+
+        final JsonObject document = documents(output).get(0);
+        assertEquals(5, document.getAsJsonArray("Handler").size());
+        assertEquals(List.of(1, 0, 0, 0, 0), document.getAsJsonArray("ColdStart").asList().stream()
+                .map(JsonElement::getAsInt).toList());
+        assertEquals(1, document.getAsJsonArray("InitDuration").size());
+        assertEquals(14, document.getAsJsonArray("InputBytes").get(4).getAsLong());
+        assertTrue(document.getAsJsonArray("OutputBytes").get(4).getAsLong() > 0);
+    }
+}
@@ -0,0 +1,135 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import io.goodforgod.aws.lambda.simple.config.SimpleLambdaContextVariables;
+import io.goodforgod.aws.lambda.simple.mock.EmulatorRuntimeContext;
+import io.goodforgod.aws.lambda.simple.mock.InputLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.mock.InvocationsRuntimeContext;
+import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
+import io.goodforgod.aws.lambda.simple.testing.AwsRuntimeApiEmulator;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class InitTimelineTests extends Assertions {
+
+    @Test
+    void phasesNested() {
+        InitTimeline.begin();
+        final InitTimeline.Span outer = InitTimeline.start("outer");
+        final InitTimeline.Span inner = InitTimeline.start("inner");
+        inner.end();
+        InitTimeline.start("notEnded");
+        outer.end();
+        outer.end();
+        // phase left open inside ended phase is not counted as parent of next phase
+        InitTimeline.start("next").end();
+
+        final InitTimeline timeline = InitTimeline.complete();
+        assertNotNull(timeline);
+        assertSame(timeline, InitTimeline.getLast());
+        assertNull(InitTimeline.complete());
+
+        final List<InitTimeline.Phase> phases = timeline.getPhases();
+        assertEquals(3, phases.size(), phases.toString());
+        assertEquals("outer", phases.get(0).phase());
+        assertEquals(0, phases.get(0).depth());
+        assertEquals("inner", phases.get(1).phase());
+        assertEquals(1, phases.get(1).depth());
+        assertTrue(phases.get(0).nanos() >= phases.get(1).nanos());
+        assertEquals("next", phases.get(2).phase());
+        assertEquals(0, phases.get(2).depth());
+        assertEquals(-1, phases.get(0).classesLoaded());
+        assertFalse(phases.get(0).buildTime());
+        assertTrue(timeline.getTotalNanos() >= phases.get(0).nanos());
+        assertEquals(-1, timeline.getJvmStartToMainMillis());
+        assertTrue(timeline.toJson().contains("{\"phase\":\"inner\",\"depth\":1,\"micros\":"), timeline.toJson());
+
+        // phases without active timeline are only JFR events
+        InitTimeline.start("ignored").end();
+        assertNull(InitTimeline.complete());
+    }
+
+    @Test
+    void classesTraced() {
+        System.setProperty(SimpleLambdaContextVariables.INIT_TIMELINE, InitTimeline.CLASSES);
+        final InitTimeline timeline;
+        try {
+            InitTimeline.begin();
+            final InitTimeline.Span span = InitTimeline.start("loading");
+            // anonymous class is loaded on first instantiation
+            final Runnable loaded = new Runnable() {
+
+                @Override
+                public void run() {
+                    // do nothing
+                }
+            };
+            loaded.run();
+            span.end();
+            timeline = InitTimeline.complete();
+        } finally {
+            System.clearProperty(SimpleLambdaContextVariables.INIT_TIMELINE);
+        }
+
+        assertNotNull(timeline);
+        assertTrue(timeline.getJvmStartToMainMillis() > 0);
+        assertTrue(timeline.getClassesLoaded() >= 1);
+        assertTrue(timeline.getClassLoadingNanos() >= 0);
+
+        final InitTimeline.Phase phase = timeline.getPhases().get(0);
+        assertTrue(phase.classesLoaded() >= 1, phase.toString());
+        assertTrue(phase.classLoadingNanos() >= 0, phase.toString());
+        assertTrue(timeline.toJson().contains("\"classesLoaded\":"), timeline.toJson());
+    }
+
+    @Test
+    void timelineCompletedByEventLoop() throws Exception {
+        try (AwsRuntimeApiEmulator emulator = AwsRuntimeApiEmulator.builder()
+                .events(invocation -> "{\"name\":\"Bob\"}".getBytes(StandardCharsets.UTF_8))
+                .invocations(1)
+                .build()) {
+            final Thread runtime = new Thread(() -> new InputLambdaEntrypoint() {
+
+                @Override
+                public RuntimeContext initializeRuntimeContext() {
+                    return new InvocationsRuntimeContext(new EmulatorRuntimeContext(super.initializeRuntimeContext(), emulator), 1);
+                }
+
+                @Override
+                protected void handleInitializationError(Throwable e) {
+                    // failure is asserted by emulator responses
+                }
+            }.run(new String[0]));
+            runtime.setDaemon(true);
+            runtime.start();
+
+            // event loop returns after first invocation
+            runtime.join(Duration.ofSeconds(30).toMillis());
+            assertFalse(runtime.isAlive(), emulator.toString());
+            assertEquals(1, emulator.getResponses(), emulator.toString());
+        }
+
+        final InitTimeline timeline = InitTimeline.getLast();
+        assertNotNull(timeline);
+        final List<String> phases = timeline.getPhases().stream()
+                .map(InitTimeline.Phase::phase)
+                .toList();
+        assertEquals(List.of(InitTimeline.INITIALIZE_RUNTIME_CONTEXT,
+                InitTimeline.CONVERTER,
+                InitTimeline.LOGGER_REFRESH,
+                InitTimeline.SETUP_IN_RUNTIME,
+                InitTimeline.HTTP_CLIENT,
+                InitTimeline.HANDLER_RESOLUTION,
+                InitTimeline.WARMUP,
+                InitTimeline.FIRST_NEXT_EVENT), phases);
+        assertEquals(1, timeline.getPhases().get(1).depth());
+        assertEquals(1, timeline.getPhases().get(4).depth());
+        assertTrue(timeline.getTotalNanos() > 0);
+    }
+}
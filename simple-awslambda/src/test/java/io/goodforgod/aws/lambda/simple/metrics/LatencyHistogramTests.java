@@ -0,0 +1,42 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class LatencyHistogramTests extends Assertions {
+
+    @Test
+    void histogramPercentiles() {
+        final LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1000, histogram.getMin());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_500, histogram.getMean());
+        assertEquals(500_000, histogram.getPercentile(50), 500_000 * 0.0625);
+        assertEquals(990_000, histogram.getPercentile(99), 990_000 * 0.0625);
+        assertEquals(1_000_000, histogram.getPercentile(100));
+
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentile(99));
+    }
+
+    @Test
+    void bucketBoundsContainValue() {
+        for (long value : new long[] { 0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE }) {
+            final int index = LatencyHistogram.index(value);
+            assertTrue(LatencyHistogram.lowerBound(index) <= value, "Lower bound for " + value);
+            if (value != Long.MAX_VALUE) {
+                assertTrue(LatencyHistogram.lowerBound(index + 1) > value, "Upper bound for " + value);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package io.goodforgod.aws.lambda.simple.metrics;
+
+import io.goodforgod.aws.lambda.simple.metrics.PhaseTimer.Phase;
+import io.goodforgod.aws.lambda.simple.mock.EmulatorRuntimeContext;
+import io.goodforgod.aws.lambda.simple.mock.HelloWorldLambda;
+import io.goodforgod.aws.lambda.simple.mock.InputLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.mock.InvocationsRuntimeContext;
+import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import io.goodforgod.aws.lambda.simple.testing.AwsRuntimeApiEmulator;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class SimpleInvocationMetricsTests extends Assertions {
+
+    @Test
+    void timerRecorded() {
+        final PhaseTimer timer = new PhaseTimer();
+        timer.setColdStart(1000);
+        timer.start(Phase.HANDLER);
+        timer.stop();
+        timer.setInputBytes(10);
+        timer.setOutputBytes(20);
+        timer.setError(true);
+
+        final SimpleInvocationMetrics metrics = new SimpleInvocationMetrics();
+        metrics.record(timer);
+        timer.reset();
+        metrics.record(timer);
+
+        assertEquals(2, metrics.getInvocations());
+        assertEquals(1, metrics.getErrors());
+        assertEquals(1, metrics.getColdStarts());
+        assertEquals(1000, metrics.getInitNanos());
+        assertEquals(10, metrics.getInputBytes());
+        assertEquals(20, metrics.getOutputBytes());
+        assertEquals(2, metrics.getPhase(Phase.HANDLER).getCount());
+        assertEquals(0, metrics.getPhase(Phase.HANDLER).getMin());
+
+        metrics.reset();
+        assertEquals(0, metrics.getInvocations());
+        assertEquals(0, metrics.getPhase(Phase.HANDLER).getCount());
+        assertEquals(1000, metrics.getInitNanos());
+    }
+
+    @Test
+    void resourcesTracked() {
+        final PhaseTimer timer = new PhaseTimer(true);
+        timer.start(Phase.HANDLER);
+        final byte[][] allocated = new byte[16][];
+        for (int i = 0; i < allocated.length; i++) {
+            allocated[i] = new byte[64 * 1024];
+        }
+        timer.start(Phase.OUTPUT_CONVERSION);
+        timer.stop();
+        timer.sampleHeapUsed();
+
+        assertEquals(16, allocated.length);
+        assertTrue(timer.getAllocatedBytes(Phase.HANDLER) >= 16 * 64 * 1024, timer.toString());
+        assertTrue(timer.getAllocatedBytes(Phase.OUTPUT_CONVERSION) < 16 * 64 * 1024, timer.toString());
+        assertTrue(timer.getAllocatedBytes() >= timer.getAllocatedBytes(Phase.HANDLER));
+        assertTrue(timer.getCpuNanos() >= 0);
+        assertTrue(timer.getHeapUsedBytes() > 0);
+
+        final SimpleInvocationMetrics metrics = new SimpleInvocationMetrics(true);
+        metrics.record(timer);
+        assertTrue(metrics.isResourceTracking());
+        assertEquals(1, metrics.getAllocatedBytes().getCount());
+        assertEquals(1, metrics.getCpu().getCount());
+        assertEquals(timer.getHeapUsedBytes(), metrics.getHeapUsedBytes());
+        assertEquals(timer.getHeapUsedBytes(), metrics.getHeapUsedMaxBytes());
+
+        timer.reset();
+        assertEquals(-1, timer.getHeapUsedBytes());
+        assertEquals(0, timer.getAllocatedBytes());
+
+        final PhaseTimer untracked = new PhaseTimer();
+        untracked.start(Phase.HANDLER);
+        untracked.stop();
+        untracked.sampleHeapUsed();
+        assertEquals(-1, untracked.getAllocatedBytes());
+        assertEquals(-1, untracked.getCpuNanos(Phase.HANDLER));
+        assertEquals(-1, untracked.getHeapUsedBytes());
+    }
+
+    @Test
+    void phasesRecordedByEventLoop() throws Exception {
+        final SimpleInvocationMetrics metrics = new SimpleInvocationMetrics(true);
+        try (AwsRuntimeApiEmulator emulator = AwsRuntimeApiEmulator.builder()
+                .events(invocation -> ((invocation == 3)
+                        ? "null"
+                        : "{\"name\":\"Bob\"}").getBytes(StandardCharsets.UTF_8))
+                .invocations(5)
+                .build()) {
+            final Thread runtime = new Thread(() -> new InputLambdaEntrypoint() {
+
+                @Override
+                public RuntimeContext initializeRuntimeContext() {
+                    return new InvocationsRuntimeContext(new EmulatorRuntimeContext(super.initializeRuntimeContext(), emulator), 5);
+                }
+
+                @Override
+                protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+                    return context -> {
+                        context.registerBean(new HelloWorldLambda());
+                        context.registerBean(metrics);
+                    };
+                }
+
+                @Override
+                protected void handleInitializationError(Throwable e) {
+                    // failure is asserted by emulator responses
+                }
+            }.run(new String[0]));
+            runtime.setDaemon(true);
+            runtime.start();
+
+            // event loop returns after last invocation is recorded
+            runtime.join(Duration.ofSeconds(30).toMillis());
+            assertFalse(runtime.isAlive(), emulator.toString());
+            assertEquals(5, emulator.getResponses() + emulator.getErrors());
+            assertEquals(1, emulator.getErrors());
+        }
+
+        assertEquals(5, metrics.getInvocations(), metrics.toString());
+        assertEquals(1, metrics.getErrors());
+        assertEquals(1, metrics.getColdStarts());
+        assertTrue(metrics.getInitNanos() > 0);
+        assertEquals(4 * 14 + 4, metrics.getInputBytes());
+        assertTrue(metrics.getOutputBytes() > 0);
+        for (Phase phase : Phase.values()) {
+            assertEquals(5, metrics.getPhase(phase).getCount(), phase.name());
+        }
+        assertTrue(metrics.getPhase(Phase.RESPONSE).getMax() > 0);
+        assertEquals(5, metrics.getAllocatedBytes().getCount());
+        assertTrue(metrics.getAllocatedBytes().getMin() > 0);
+        assertTrue(metrics.getHeapUsedMaxBytes() > 0);
+    }
+}
@@ -0,0 +1,92 @@
+package io.goodforgod.aws.lambda.simple.metrics.jfr;
+
+import io.goodforgod.aws.lambda.simple.mock.EmulatorRuntimeContext;
+import io.goodforgod.aws.lambda.simple.mock.InputLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.mock.InvocationsRuntimeContext;
+import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
+import io.goodforgod.aws.lambda.simple.testing.AwsRuntimeApiEmulator;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class JfrEventsTests extends Assertions {
+
+    @Test
+    void eventsRecordedWhenEnabled(@TempDir Path directory) throws Exception {
+        final Path dump = directory.resolve("recording.jfr");
+        try (Recording recording = new Recording();
+                AwsRuntimeApiEmulator emulator = AwsRuntimeApiEmulator.builder()
+                        .events(invocation -> "{\"name\":\"Bob\"}".getBytes(StandardCharsets.UTF_8))
+                        .invocations(3)
+                        .build()) {
+            recording.enable(InvocationEvent.NAME);
+            recording.enable(ConversionEvent.NAME);
+            recording.enable(RuntimeApiCallEvent.NAME);
+            recording.enable(InitPhaseEvent.NAME);
+            recording.start();
+
+            final Thread runtime = new Thread(() -> new InputLambdaEntrypoint() {
+
+                @Override
+                public RuntimeContext initializeRuntimeContext() {
+                    return new InvocationsRuntimeContext(new EmulatorRuntimeContext(super.initializeRuntimeContext(), emulator), 3);
+                }
+
+                @Override
+                protected void handleInitializationError(Throwable e) {
+                    // failure is asserted by emulator responses
+                }
+            }.run(new String[0]));
+            runtime.setDaemon(true);
+            runtime.start();
+
+            // event loop returns after last invocation event is committed
+            runtime.join(Duration.ofSeconds(30).toMillis());
+            assertFalse(runtime.isAlive(), emulator.toString());
+            assertEquals(3, emulator.getResponses(), emulator.toString());
+
+            recording.stop();
+            recording.dump(dump);
+        }
+
+        final Map<String, List<RecordedEvent>> events = RecordingFile.readAllEvents(dump).stream()
+                .collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+        final List<RecordedEvent> invocations = events.get(InvocationEvent.NAME);
+        assertEquals(3, invocations.size());
+        assertEquals("1", invocations.get(0).getString("requestId"));
+        assertTrue(invocations.get(0).getBoolean("coldStart"));
+        assertFalse(invocations.get(1).getBoolean("coldStart"));
+        assertEquals(14, invocations.get(0).getLong("inputBytes"));
+        assertTrue(invocations.get(0).getString("handler").endsWith("HelloWorldLambda"));
+
+        final List<RecordedEvent> conversions = events.get(ConversionEvent.NAME);
+        assertEquals(6, conversions.size());
+        assertEquals(ConversionEvent.INPUT, conversions.get(0).getString("direction"));
+        assertEquals(14, conversions.get(0).getLong("length"));
+
+        final Map<String, Long> calls = events.get(RuntimeApiCallEvent.NAME).stream()
+                .collect(Collectors.groupingBy(e -> e.getString("operation"), Collectors.counting()));
+        assertEquals(3, calls.get(RuntimeApiCallEvent.RESPONSE));
+        assertTrue(calls.get(RuntimeApiCallEvent.NEXT) >= 3);
+
+        final List<String> phases = events.get(InitPhaseEvent.NAME).stream()
+                .map(e -> e.getString("phase"))
+                .toList();
+        assertTrue(phases.contains("setupInRuntime"), phases.toString());
+        assertTrue(phases.contains("warmup"), phases.toString());
+    }
+}
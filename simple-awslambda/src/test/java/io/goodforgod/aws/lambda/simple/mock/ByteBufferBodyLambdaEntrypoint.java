@@ -0,0 +1,24 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import io.goodforgod.aws.lambda.simple.AbstractBodyLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import java.util.function.Consumer;
+
+/**
+ * AWS Lambda Entrypoint for {@link io.goodforgod.aws.lambda.simple.handler.ByteBufferRequestHandler}
+ * with body events
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class ByteBufferBodyLambdaEntrypoint extends AbstractBodyLambdaEntrypoint {
+
+    public static void main(String[] args) {
+        new ByteBufferBodyLambdaEntrypoint().run(args);
+    }
+
+    @Override
+    protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+        return context -> context.registerBean(new ReverseByteBufferLambda());
+    }
+}
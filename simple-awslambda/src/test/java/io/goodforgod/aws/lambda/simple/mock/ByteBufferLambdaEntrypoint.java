@@ -0,0 +1,23 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import io.goodforgod.aws.lambda.simple.AbstractInputLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import java.util.function.Consumer;
+
+/**
+ * AWS Lambda Entrypoint for {@link io.goodforgod.aws.lambda.simple.handler.ByteBufferRequestHandler}
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class ByteBufferLambdaEntrypoint extends AbstractInputLambdaEntrypoint {
+
+    public static void main(String[] args) {
+        new ByteBufferLambdaEntrypoint().run(args);
+    }
+
+    @Override
+    protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+        return context -> context.registerBean(new ReverseByteBufferLambda());
+    }
+}
@@ -0,0 +1,49 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import io.goodforgod.aws.lambda.simple.AwsRuntimeClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
+import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
+import io.goodforgod.aws.lambda.simple.testing.AwsRuntimeApiEmulator;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * RuntimeContext that wraps real RuntimeContext and points event loop to
+ * {@link AwsRuntimeApiEmulator} without Runtime API environment variable
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class EmulatorRuntimeContext implements RuntimeContext {
+
+    private final RuntimeContext runtimeContext;
+    private final AwsRuntimeClient runtimeClient;
+
+    public EmulatorRuntimeContext(@NotNull RuntimeContext runtimeContext, @NotNull AwsRuntimeApiEmulator emulator) {
+        this.runtimeContext = runtimeContext;
+        this.runtimeClient = emulator.getRuntimeClient(new NativeHttpClient());
+    }
+
+    @Override
+    public void setupInRuntime() {
+        runtimeContext.setupInRuntime();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getBean(@NotNull Class<T> beanType) {
+        return AwsRuntimeClient.class.isAssignableFrom(beanType)
+                ? (T) runtimeClient
+                : runtimeContext.getBean(beanType);
+    }
+
+    @Override
+    public <T> T getBean(@NotNull Class<T> beanType, @Nullable String qualifier) {
+        return runtimeContext.getBean(beanType, qualifier);
+    }
+
+    @Override
+    public void close() throws Exception {
+        runtimeContext.close();
+    }
+}
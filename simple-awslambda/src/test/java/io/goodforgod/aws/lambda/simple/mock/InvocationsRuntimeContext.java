@@ -0,0 +1,55 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import io.goodforgod.aws.lambda.simple.AwsRuntimeLoopCondition;
+import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * RuntimeContext that wraps real RuntimeContext and stops event loop after specified number of
+ * invocations, so event loop returns only after last invocation is fully processed
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public final class InvocationsRuntimeContext implements RuntimeContext {
+
+    private final RuntimeContext runtimeContext;
+    private final AwsRuntimeLoopCondition loopCondition;
+
+    public InvocationsRuntimeContext(@NotNull RuntimeContext runtimeContext, int invocations) {
+        this.runtimeContext = runtimeContext;
+        this.loopCondition = new AwsRuntimeLoopCondition() {
+
+            private int remaining = invocations;
+
+            @Override
+            public boolean continueLoop() {
+                return remaining-- > 0;
+            }
+        };
+    }
+
+    @Override
+    public void setupInRuntime() {
+        runtimeContext.setupInRuntime();
+    }
+
+    @SuppressWarnings("unchecked")
+    @Override
+    public <T> T getBean(@NotNull Class<T> beanType) {
+        return AwsRuntimeLoopCondition.class.isAssignableFrom(beanType)
+                ? (T) loopCondition
+                : runtimeContext.getBean(beanType);
+    }
+
+    @Override
+    public <T> T getBean(@NotNull Class<T> beanType, @Nullable String qualifier) {
+        return runtimeContext.getBean(beanType, qualifier);
+    }
+
+    @Override
+    public void close() throws Exception {
+        runtimeContext.close();
+    }
+}
@@ -0,0 +1,22 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import io.goodforgod.aws.lambda.simple.handler.ByteBufferRequestHandler;
+import java.nio.ByteBuffer;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class ReverseByteBufferLambda implements ByteBufferRequestHandler {
+
+    @Override
+    public ByteBuffer handleRequest(ByteBuffer input, Context context) {
+        final ByteBuffer output = ByteBuffer.allocateDirect(input.remaining());
+        for (int i = input.limit() - 1; i >= input.position(); i--) {
+            output.put(input.get(i));
+        }
+
+        return output.flip();
+    }
+}
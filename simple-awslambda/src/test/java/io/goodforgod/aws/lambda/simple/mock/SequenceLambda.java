@@ -0,0 +1,20 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class SequenceLambda implements RequestHandler<Request, Stream<Response>> {
+
+    public static final int SIZE = 10_000;
+
+    @Override
+    public Stream<Response> handleRequest(Request request, Context context) {
+        return IntStream.range(0, SIZE).mapToObj(i -> new Response(String.valueOf(i), "Hello - " + request.name()));
+    }
+}
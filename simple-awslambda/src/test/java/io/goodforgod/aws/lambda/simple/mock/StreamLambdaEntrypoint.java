@@ -0,0 +1,23 @@
+package io.goodforgod.aws.lambda.simple.mock;
+
+import io.goodforgod.aws.lambda.simple.AbstractInputLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import java.util.function.Consumer;
+
+/**
+ * AWS Lambda Entrypoint for {@link com.amazonaws.services.lambda.runtime.RequestStreamHandler}
+ *
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+public class StreamLambdaEntrypoint extends AbstractInputLambdaEntrypoint {
+
+    public static void main(String[] args) {
+        new StreamLambdaEntrypoint().run(args);
+    }
+
+    @Override
+    protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+        return context -> context.registerBean(new UpperCaseStreamLambda());
+    }
+}
@@ -0,0 +1,162 @@
+package io.goodforgod.aws.lambda.simple.reactive;
+
+import com.sun.net.httpserver.HttpServer;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpBody;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpRequest;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClientConfig;
+import io.goodforgod.http.common.HttpMethod;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class InMemoryPublisherTests extends Assertions {
+
+    private static final class RecordingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+        private final List<String> received = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean completed = false;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(1);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            received.add(StandardCharsets.UTF_8.decode(item).toString());
+            subscription.request(1);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+
+    @Test
+    void buffersEmittedUnderDemand() {
+        final InMemoryPublisher publisher = InMemoryPublisher.ofBuffers(
+                ByteBuffer.wrap("first".getBytes(StandardCharsets.UTF_8)),
+                ByteBuffer.allocate(0),
+                ByteBuffer.allocateDirect(6).put("second".getBytes(StandardCharsets.UTF_8)).flip());
+
+        assertEquals(11, publisher.contentLength());
+        for (int i = 0; i < 2; i++) {
+            final RecordingSubscriber subscriber = new RecordingSubscriber();
+            publisher.subscribe(subscriber);
+            assertEquals(List.of("first", "second"), subscriber.received);
+            assertTrue(subscriber.completed);
+            assertNull(subscriber.error);
+        }
+    }
+
+    @Test
+    void emptyCompletedOnSubscribe() {
+        final InMemoryPublisher publisher = InMemoryPublisher.ofString("");
+        assertEquals(0, publisher.contentLength());
+        publisher.subscribe(new Flow.Subscriber<>() {
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {}
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                fail("No items expected");
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {}
+        });
+        assertEquals("", PublisherUtils.asString(publisher));
+    }
+
+    @Test
+    void cancelStopsEmission() {
+        final List<ByteBuffer> received = new ArrayList<>();
+        final InMemoryPublisher publisher = InMemoryPublisher.ofBuffers(ByteBuffer.wrap(new byte[] { 1 }),
+                ByteBuffer.wrap(new byte[] { 2 }));
+        publisher.subscribe(new Flow.Subscriber<>() {
+
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer item) {
+                received.add(item);
+                subscription.cancel();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Cancelled subscription must not complete");
+            }
+        });
+
+        assertEquals(1, received.size());
+    }
+
+    @Test
+    void contentLengthSent() throws Exception {
+        final AtomicReference<String> contentLength = new AtomicReference<>();
+        final AtomicReference<String> transferEncoding = new AtomicReference<>();
+        final HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/", exchange -> {
+            try (exchange) {
+                exchange.getRequestBody().readAllBytes();
+                contentLength.set(exchange.getRequestHeaders().getFirst("Content-Length"));
+                transferEncoding.set(exchange.getRequestHeaders().getFirst("Transfer-Encoding"));
+                exchange.sendResponseHeaders(202, -1);
+            }
+        });
+        server.start();
+
+        try (NativeHttpClient client = new NativeHttpClient(NativeHttpClientConfig.ofRuntime())) {
+            final URI uri = URI.create("http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort());
+            client.executeAndForget(SimpleHttpRequest.builder(uri)
+                    .method(HttpMethod.POST)
+                    .body(SimpleHttpBody.ofString("{\"message\":\"Hello\"}"))
+                    .build());
+        } finally {
+            server.stop(0);
+        }
+
+        assertEquals("19", contentLength.get());
+        assertNull(transferEncoding.get());
+    }
+}
@@ -0,0 +1,112 @@
+package io.goodforgod.aws.lambda.simple.runtime;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import io.goodforgod.aws.lambda.simple.convert.Converter;
+import io.goodforgod.aws.lambda.simple.convert.gson.GsonConverter;
+import io.goodforgod.aws.lambda.simple.handler.ByteBufferRequestHandler;
+import io.goodforgod.aws.lambda.simple.handler.impl.InputEventHandler;
+import io.goodforgod.aws.lambda.simple.mock.HelloWorldLambda;
+import io.goodforgod.aws.lambda.simple.mock.Request;
+import io.goodforgod.aws.lambda.simple.mock.ReverseByteBufferLambda;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class SimpleRuntimeContextTests extends Assertions {
+
+    interface Source {}
+
+    interface NamedSource extends Source {}
+
+    static final class FileSource implements NamedSource {}
+
+    @SuppressWarnings("rawtypes")
+    static final class RawLambda implements RequestHandler {
+
+        @Override
+        public Object handleRequest(Object input, Context context) {
+            return input;
+        }
+    }
+
+    /**
+     * Registers only beans of test, so converter is not ambiguous
+     */
+    static final class ConverterRuntimeContext extends SimpleRuntimeContext {
+
+        ConverterRuntimeContext(Consumer<SimpleRuntimeContext> setupInCompileTime) {
+            super(context -> {}, setupInCompileTime);
+        }
+
+        @Override
+        protected Consumer<SimpleRuntimeContext> getCompileTimeConsumer() {
+            return context -> {};
+        }
+    }
+
+    @Test
+    void handlerContractResolvedAsRequestHandler() {
+        final ReverseByteBufferLambda lambda = new ReverseByteBufferLambda();
+        final SimpleRuntimeContext context = new SimpleRuntimeContext(c -> {}, c -> c.registerBean(lambda));
+
+        assertSame(lambda, context.getBean(ByteBufferRequestHandler.class));
+        assertSame(lambda, context.getBean(RequestHandler.class));
+    }
+
+    @Test
+    void superInterfacesNotRegistered() {
+        final FileSource source = new FileSource();
+        final SimpleRuntimeContext context = new SimpleRuntimeContext(c -> {}, c -> c.registerBean(source));
+
+        assertSame(source, context.getBean(NamedSource.class));
+        assertNull(context.getBean(Source.class));
+    }
+
+    @Test
+    void handlerConversionWarmedUpBeforeFirstEvent() {
+        final AtomicInteger requestAdapters = new AtomicInteger();
+        final Gson gson = new GsonBuilder()
+                .registerTypeAdapterFactory(new TypeAdapterFactory() {
+
+                    @Override
+                    public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+                        if (Request.class.equals(type.getRawType())) {
+                            requestAdapters.incrementAndGet();
+                        }
+                        return null;
+                    }
+                })
+                .create();
+        final Converter converter = new GsonConverter(gson);
+
+        new ConverterRuntimeContext(context -> {
+            context.registerBean(converter);
+            context.registerBean(new InputEventHandler(converter));
+            context.registerBean(new HelloWorldLambda());
+        });
+        assertEquals(1, requestAdapters.get());
+
+        // adapter is taken from cache on first event and repeated warmup skips warmed types
+        assertEquals("Bob", converter.fromString("{\"name\":\"Bob\"}", Request.class).name());
+        converter.warmup(Request.class);
+        assertEquals(1, requestAdapters.get());
+    }
+
+    @Test
+    void handlerWithoutGenericsNotBreaksContext() {
+        final RawLambda lambda = new RawLambda();
+        final SimpleRuntimeContext context = assertDoesNotThrow(() -> new SimpleRuntimeContext(c -> {}, c -> c.registerBean(lambda)));
+        assertSame(lambda, context.getBean(RequestHandler.class));
+    }
+}
@@ -0,0 +1,137 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import com.amazonaws.services.lambda.runtime.Context;
+import com.amazonaws.services.lambda.runtime.RequestHandler;
+import io.goodforgod.aws.lambda.simple.mock.InputLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.mock.Request;
+import io.goodforgod.aws.lambda.simple.mock.Response;
+import io.goodforgod.aws.lambda.simple.runtime.SimpleRuntimeContext;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class AwsLambdaLoadTests extends Assertions {
+
+    /**
+     * Loads new class on each invocation, so class loading never stops after warmup
+     */
+    static final class ClassLoadingLambda implements RequestHandler<Request, Response> {
+
+        @Override
+        public Response handleRequest(Request request, Context context) {
+            final URL classes = Request.class.getProtectionDomain().getCodeSource().getLocation();
+            try (URLClassLoader loader = new URLClassLoader(new URL[] { classes }, null)) {
+                loader.loadClass(Request.class.getName());
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+
+            return new Response(context.getAwsRequestId(), "Hello - " + request.name());
+        }
+    }
+
+    @Test
+    void generatedEventsReported() {
+        final AwsLambdaLoad.Report report = AwsLambdaLoad.ofEntrypoint(new InputLambdaEntrypoint())
+                .events(invocation -> ("{\"name\":\"User-" + invocation + "\"}").getBytes(StandardCharsets.UTF_8))
+                .warmup(50)
+                .invocations(200)
+                .timeout(Duration.ofSeconds(30))
+                .run();
+
+        assertEquals(200, report.invocations(), report.toString());
+        assertEquals(0, report.errors());
+        assertTrue(report.throughput() > 0);
+        assertEquals(200, report.overhead().getCount());
+        assertEquals(200, report.handler().getCount());
+        assertTrue(report.overhead().getPercentile(99) > 0);
+        assertTrue(report.handler().getPercentile(50) > 0);
+        assertEquals(200, report.allocatedBytes().getCount());
+        assertTrue(report.allocatedBytesPerInvocation() > 0);
+    }
+
+    @Test
+    void jsonLinesReplayed(@TempDir Path directory) throws Exception {
+        final Path events = directory.resolve("events.jsonl");
+        Files.writeString(events, "{\"name\":\"Bob\"}\n\nnull\n{\"name\":\"Alice\"}\n");
+
+        final AwsLambdaLoad.Report report = AwsLambdaLoad.ofEntrypoint(new InputLambdaEntrypoint())
+                .eventsJsonLines(events)
+                .invocations(9)
+                .timeout(Duration.ofSeconds(30))
+                .run();
+
+        assertEquals(9, report.invocations(), report.toString());
+        assertEquals(3, report.errors());
+    }
+
+    @Test
+    void budgetsMet() {
+        AwsLambdaLoad.ofEntrypoint(new InputLambdaEntrypoint())
+                .events(invocation -> "{\"name\":\"Bob\"}".getBytes(StandardCharsets.UTF_8))
+                .warmup(500)
+                .invocations(200)
+                .timeout(Duration.ofSeconds(30))
+                .expectAllocatedBytesPerInvocationBelow(16 * 1024 * 1024)
+                .expectRuntimeOverheadP99Below(Duration.ofSeconds(1))
+                .expectNoClassLoadingAfterWarmup()
+                .run();
+    }
+
+    @Test
+    void budgetsExceeded() {
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> AwsLambdaLoad.ofEntrypoint(new InputLambdaEntrypoint())
+                        .events(invocation -> "{\"name\":\"Bob\"}".getBytes(StandardCharsets.UTF_8))
+                        .invocations(20)
+                        .timeout(Duration.ofSeconds(30))
+                        .expectAllocatedBytesPerInvocationBelow(1)
+                        .expectRuntimeOverheadP99Below(Duration.ofNanos(1))
+                        .run());
+
+        assertTrue(error.getMessage().contains("allocated bytes per invocation"), error.getMessage());
+        assertTrue(error.getMessage().contains("runtime overhead p99"), error.getMessage());
+    }
+
+    @Test
+    void classLoadingBudgetExceeded() {
+        final AssertionError error = assertThrows(AssertionError.class,
+                () -> AwsLambdaLoad.ofEntrypoint(new InputLambdaEntrypoint() {
+
+                    @Override
+                    protected Consumer<SimpleRuntimeContext> setupInRuntime() {
+                        return context -> context.registerBean(new ClassLoadingLambda());
+                    }
+                })
+                        .events(invocation -> "{\"name\":\"Bob\"}".getBytes(StandardCharsets.UTF_8))
+                        .warmup(50)
+                        .invocations(20)
+                        .timeout(Duration.ofSeconds(30))
+                        .expectNoClassLoadingAfterWarmup(10)
+                        .run());
+
+        assertTrue(error.getMessage().contains("no more than 10 classes loaded by JVM expected after warmup"), error.getMessage());
+    }
+
+    @Test
+    void eventsRequired() {
+        final AwsLambdaLoad load = AwsLambdaLoad.ofEntrypoint(new InputLambdaEntrypoint());
+        assertThrows(IllegalStateException.class, load::run);
+        assertThrows(IllegalArgumentException.class, () -> load.invocations(0));
+        assertThrows(IllegalArgumentException.class, () -> load.warmup(-1));
+        assertThrows(IllegalArgumentException.class, () -> load.expectAllocatedBytesPerInvocationBelow(0));
+        assertThrows(IllegalArgumentException.class, () -> load.expectNoClassLoadingAfterWarmup(-1));
+    }
+}
@@ -0,0 +1,123 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import io.goodforgod.aws.lambda.simple.handler.Event;
+import io.goodforgod.aws.lambda.simple.http.SimpleHttpBody;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClient;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.NativeHttpClientConfig;
+import io.goodforgod.aws.lambda.simple.http.nativeclient.SimpleAwsRuntimeClient;
+import io.goodforgod.aws.lambda.simple.mock.EmulatorRuntimeContext;
+import io.goodforgod.aws.lambda.simple.mock.InputLambdaEntrypoint;
+import io.goodforgod.aws.lambda.simple.runtime.RuntimeContext;
+import io.goodforgod.aws.lambda.simple.utils.InputStreamUtils;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class AwsRuntimeApiEmulatorTests extends Assertions {
+
+    @Test
+    void eventsServedFromDirectory(@TempDir Path directory) throws Exception {
+        Files.writeString(directory.resolve("1.json"), "{\"name\":\"Bob\"}");
+        Files.writeString(directory.resolve("2.json"), "{\"name\":\"Alice\"}");
+
+        final List<String> responses = new CopyOnWriteArrayList<>();
+        try (AwsRuntimeApiEmulator emulator = AwsRuntimeApiEmulator.builder()
+                .events(directory)
+                .invocations(3)
+                .onResponse((requestId, body) -> responses.add(requestId + "=" + new String(body, StandardCharsets.UTF_8)))
+                .build();
+                NativeHttpClient httpClient = new NativeHttpClient(NativeHttpClientConfig.ofRuntime())) {
+            final SimpleAwsRuntimeClient runtimeClient = new SimpleAwsRuntimeClient(httpClient);
+            final URI endpoint = emulator.getEndpoint();
+
+            final List<String> events = new CopyOnWriteArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                final Event event = runtimeClient.getNextEvent(endpoint);
+                events.add(new String(InputStreamUtils.getBytesFromInputStream(event.input()), StandardCharsets.UTF_8));
+                assertTrue(event.context().getRemainingTimeInMillis() > 0);
+                if (i == 1) {
+                    runtimeClient.reportInvocationError(endpoint, new IllegalStateException("boom"), event.context());
+                } else {
+                    runtimeClient.reportInvocationSuccess(endpoint, SimpleHttpBody.ofString("{\"ok\":" + i + "}"),
+                            event.context());
+                }
+            }
+
+            assertEquals(List.of("{\"name\":\"Bob\"}", "{\"name\":\"Alice\"}", "{\"name\":\"Bob\"}"), events);
+            assertEquals(List.of("1={\"ok\":0}", "3={\"ok\":2}"), responses);
+            assertEquals(3, emulator.getInvocations());
+            assertEquals(2, emulator.getResponses());
+            assertEquals(1, emulator.getErrors());
+            assertEquals(3, emulator.getRoundTrip().getCount());
+            assertEquals(2, emulator.getGap().getCount());
+
+            runtimeClient.reportInitializationError(endpoint, new IllegalStateException("init"));
+            assertEquals(1, emulator.getInitErrors());
+        }
+    }
+
+    @Test
+    void eventsServedAtRate() {
+        try (AwsRuntimeApiEmulator emulator = AwsRuntimeApiEmulator.builder()
+                .events(invocation -> ("{\"name\":\"" + invocation + "\"}").getBytes(StandardCharsets.UTF_8))
+                .rate(200)
+                .build();
+                NativeHttpClient httpClient = new NativeHttpClient(NativeHttpClientConfig.ofRuntime())) {
+            final SimpleAwsRuntimeClient runtimeClient = new SimpleAwsRuntimeClient(httpClient);
+
+            final long start = System.nanoTime();
+            for (int i = 0; i < 21; i++) {
+                final Event event = runtimeClient.getNextEvent(emulator.getEndpoint());
+                runtimeClient.reportInvocationSuccess(emulator.getEndpoint(), SimpleHttpBody.ofString("{}"), event.context());
+            }
+
+            // 20 intervals of 5 millis after first event
+            assertTrue(Duration.ofNanos(System.nanoTime() - start).toMillis() >= 95);
+            assertEquals(21, emulator.getResponses());
+        }
+    }
+
+    @Test
+    void entrypointRunAgainstEmulator() throws Exception {
+        final int invocations = 200;
+        try (AwsRuntimeApiEmulator emulator = AwsRuntimeApiEmulator.builder()
+                .events(invocation -> ("{\"name\":\"User-" + invocation + "\"}").getBytes(StandardCharsets.UTF_8))
+                .invocations(invocations)
+                .build()) {
+            final Thread runtime = new Thread(() -> new InputLambdaEntrypoint() {
+
+                @Override
+                public RuntimeContext initializeRuntimeContext() {
+                    return new EmulatorRuntimeContext(super.initializeRuntimeContext(), emulator);
+                }
+
+                @Override
+                protected void handleInitializationError(Throwable e) {
+                    // runtime is stopped by interruption
+                }
+            }.run(new String[0]));
+            runtime.setDaemon(true);
+            runtime.start();
+
+            assertTrue(emulator.awaitCompleted(invocations, Duration.ofSeconds(30)), emulator.toString());
+            runtime.interrupt();
+            runtime.join(5000);
+
+            assertEquals(invocations, emulator.getResponses());
+            assertEquals(0, emulator.getErrors());
+            assertEquals(invocations, emulator.getRoundTrip().getCount());
+            assertTrue(emulator.getRoundTrip().getPercentile(50) > 0);
+        }
+    }
+}
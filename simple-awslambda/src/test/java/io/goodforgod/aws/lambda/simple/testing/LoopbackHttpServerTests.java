@@ -0,0 +1,169 @@
+package io.goodforgod.aws.lambda.simple.testing;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * @author Anton Kurako (GoodforGod)
+ * @since 18.10.2026
+ */
+class LoopbackHttpServerTests extends Assertions {
+
+    private record Reply(int status, Map<String, String> headers, String body) {}
+
+    private ExecutorService executor;
+    private LoopbackHttpServer server;
+
+    @BeforeEach
+    void setup() {
+        executor = Executors.newCachedThreadPool();
+        // echoes request, "/drop" path closes connection without response
+        server = new LoopbackHttpServer(0, executor, request -> "/drop".equals(request.path())
+                ? null
+                : new LoopbackHttpServer.Response(200, Map.of("X-Method", request.method()),
+                        (request.path() + ":" + new String(request.body(), StandardCharsets.UTF_8)).getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @AfterEach
+    void cleanup() {
+        server.close();
+        executor.shutdownNow();
+    }
+
+    private Socket connect() throws IOException {
+        final Socket socket = new Socket(server.getAddress().getAddress(), server.getAddress().getPort());
+        socket.setSoTimeout((int) TimeUnit.SECONDS.toMillis(10));
+        return socket;
+    }
+
+    private static void send(Socket socket, String request) throws IOException {
+        final OutputStream output = socket.getOutputStream();
+        output.write(request.getBytes(StandardCharsets.ISO_8859_1));
+        output.flush();
+    }
+
+    private static Reply read(InputStream input) throws IOException {
+        final String statusLine = readLine(input);
+        assertNotNull(statusLine, "Connection closed without response");
+
+        final Map<String, String> headers = new HashMap<>();
+        String header;
+        while (!(header = readLine(input)).isEmpty()) {
+            final int separator = header.indexOf(':');
+            headers.put(header.substring(0, separator).trim(), header.substring(separator + 1).trim());
+        }
+
+        final byte[] body = input.readNBytes(Integer.parseInt(headers.get("Content-Length")));
+        return new Reply(Integer.parseInt(statusLine.split(" ")[1]), headers, new String(body, StandardCharsets.UTF_8));
+    }
+
+    private static String readLine(InputStream input) throws IOException {
+        final ByteArrayOutputStream line = new ByteArrayOutputStream();
+        int b;
+        while ((b = input.read()) != '\n') {
+            if (b == -1) {
+                return (line.size() == 0)
+                        ? null
+                        : line.toString(StandardCharsets.ISO_8859_1);
+            } else if (b != '\r') {
+                line.write(b);
+            }
+        }
+        return line.toString(StandardCharsets.ISO_8859_1);
+    }
+
+    @Test
+    void contentLengthBodyRead() throws IOException {
+        try (Socket socket = connect()) {
+            send(socket, "POST /invocation?x=1 HTTP/1.1\r\nHost: localhost\r\ncontent-length: 5\r\n\r\nhello");
+
+            final Reply reply = read(socket.getInputStream());
+            assertEquals(200, reply.status());
+            assertEquals("POST", reply.headers().get("X-Method"));
+            assertEquals("/invocation:hello", reply.body());
+        }
+    }
+
+    @Test
+    void chunkedBodyRead() throws IOException {
+        try (Socket socket = connect()) {
+            send(socket, "POST /chunked HTTP/1.1\r\nTransfer-Encoding: chunked\r\n\r\n"
+                    + "5\r\nhello\r\n"
+                    + "7;ext=1\r\n, world\r\n"
+                    + "0\r\nX-Trailer: ignored\r\n\r\n");
+
+            assertEquals("/chunked:hello, world", read(socket.getInputStream()).body());
+        }
+    }
+
+    @Test
+    void keepAliveServesSequentialRequests() throws IOException {
+        try (Socket socket = connect()) {
+            // second request is pipelined right after the first one
+            send(socket, "POST /first HTTP/1.1\r\nContent-Length: 1\r\n\r\n1"
+                    + "GET /second HTTP/1.1\r\n\r\n");
+            final InputStream input = socket.getInputStream();
+            assertEquals("/first:1", read(input).body());
+            assertEquals("/second:", read(input).body());
+
+            send(socket, "GET /third HTTP/1.1\r\nConnection: keep-alive\r\n\r\n");
+            assertEquals("/third:", read(input).body());
+        }
+    }
+
+    @Test
+    void connectionCloseHonored() throws IOException {
+        try (Socket socket = connect()) {
+            send(socket, "GET /last HTTP/1.1\r\nConnection: close\r\n\r\n");
+            final InputStream input = socket.getInputStream();
+            assertEquals("/last:", read(input).body());
+            assertEquals(-1, input.read());
+        }
+    }
+
+    @Test
+    void malformedRequestLineRejected() throws IOException {
+        try (Socket socket = connect()) {
+            send(socket, "GARBAGE\r\n\r\n");
+            final InputStream input = socket.getInputStream();
+            assertEquals(400, read(input).status());
+            assertEquals(-1, input.read());
+        }
+    }
+
+    @Test
+    void malformedContentLengthClosesConnection() throws IOException {
+        try (Socket socket = connect()) {
+            send(socket, "POST /bad HTTP/1.1\r\nContent-Length: five\r\n\r\nhello");
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    void nullResponseClosesConnection() throws IOException {
+        try (Socket socket = connect()) {
+            send(socket, "GET /drop HTTP/1.1\r\n\r\n");
+            assertEquals(-1, socket.getInputStream().read());
+        }
+    }
+
+    @Test
+    void acceptLoopStoppedOnClose() throws InterruptedException {
+        server.close();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS), "Accept loop is still running after close");
+    }
+}